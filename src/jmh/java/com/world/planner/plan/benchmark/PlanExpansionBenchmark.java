@@ -0,0 +1,75 @@
+package com.world.planner.plan.benchmark;
+
+import com.world.planner.plan.domain.Plan;
+import com.world.planner.plan.domain.PlanDomainService;
+import com.world.planner.plan.domain.PlanOccurrence;
+import com.world.planner.plan.domain.recurrence.RecurrenceRule;
+import com.world.planner.plan.domain.recurrence.RecurrenceRuleType;
+import com.world.planner.plan.infrastructure.cache.OccurrenceMonthCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 여러 Plan의 기간 내 발생 일자 일괄 계산(PlanDomainService.calculateOccurrences) 벤치마크
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PlanExpansionBenchmark {
+
+  private static final RecurrenceRuleType[] RULE_TYPES = RecurrenceRuleType.values();
+
+  @Param({"10000"})
+  private int planCount;
+
+  // 검색 기간 (ISO-8601 Period)
+  @Param({"P1M", "P1Y"})
+  private String window;
+
+  // true면 규칙에 ID를 부여해 월별 캐시(OccurrenceMonthCache)를 사용
+  @Param({"false", "true"})
+  private boolean cached;
+
+  private PlanDomainService planDomainService;
+  private List<Plan> plans;
+  private LocalDate from;
+  private LocalDate to;
+
+  @Setup
+  public void setUp() {
+    planDomainService = new PlanDomainService(new OccurrenceMonthCache(new SimpleMeterRegistry()));
+    from = RecurrenceRuleFixtures.BASE_DATE;
+    to = from.plus(Period.parse(window)).minusDays(1);
+
+    Random random = new Random(42); // 실행마다 같은 Plan 구성
+    plans = new ArrayList<>(planCount);
+    for (int i = 0; i < planCount; i++) {
+      LocalDate startDate = from.minusDays(random.nextInt(365));
+      LocalDate endDate = random.nextBoolean() ? null : startDate.plusDays(30 + random.nextInt(730));
+      Plan plan = RecurrenceRuleFixtures.withId(Plan.create("plan-" + i, "benchmark", startDate, endDate));
+
+      RecurrenceRuleType ruleType = RULE_TYPES[random.nextInt(RULE_TYPES.length)];
+      RecurrenceRule rule = RecurrenceRuleFixtures.rule(ruleType, 1 + random.nextInt(3), 1 + random.nextInt(7), startDate);
+      plan.addRecurrenceRule(cached ? RecurrenceRuleFixtures.withId(rule) : rule);
+      plans.add(plan);
+    }
+  }
+
+  @Benchmark
+  public List<PlanOccurrence> calculateOccurrences() {
+    return planDomainService.calculateOccurrences(plans, from, to);
+  }
+}
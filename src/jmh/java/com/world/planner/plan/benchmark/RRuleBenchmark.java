@@ -0,0 +1,109 @@
+package com.world.planner.plan.benchmark;
+
+import com.world.planner.plan.domain.recurrence.RRule;
+import com.world.planner.plan.domain.recurrence.RecurrenceRule;
+import com.world.planner.plan.infrastructure.ical.IcsEvent;
+import com.world.planner.plan.infrastructure.ical.IcsEventReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * RRULE 파싱 / 출력과 .ics 스트리밍 가져오기(DB 저장 제외) 처리량 벤치마크
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RRuleBenchmark {
+
+  // Google / Outlook 캘린더에서 흔한 형태
+  private static final String[] RRULES = {
+      "FREQ=DAILY",
+      "FREQ=DAILY;INTERVAL=3;COUNT=10",
+      "FREQ=WEEKLY;BYDAY=MO,WE,FR",
+      "FREQ=WEEKLY;INTERVAL=2;BYDAY=TU,TH;UNTIL=20281231T145959Z",
+      "RRULE:FREQ=MONTHLY;BYMONTHDAY=1,15",
+      "FREQ=MONTHLY;INTERVAL=3;BYDAY=MO;BYMONTHDAY=1,2,3,4,5,6,7;WKST=SU",
+      "FREQ=YEARLY;BYMONTH=3;BYMONTHDAY=17",
+      "FREQ=YEARLY;BYMONTH=2;BYMONTHDAY=29;COUNT=25",
+  };
+
+  // RRULES 길이 (@OperationsPerInvocation용 상수)
+  private static final int RULE_COUNT = 8;
+
+  // .ics 파일 하나의 VEVENT 수
+  @Param({"1000", "10000"})
+  private int eventCount;
+
+  private String calendar;
+  private RecurrenceRule[] rules;
+  private LocalDate until;
+  private StringBuilder out;
+
+  @Setup
+  public void setUp() {
+    LocalDate startDate = RecurrenceRuleFixtures.BASE_DATE;
+    rules = new RecurrenceRule[RULE_COUNT];
+    for (int i = 0; i < RULE_COUNT; i++) {
+      rules[i] = RRule.parse(RRULES[i]).toRecurrenceRule(startDate);
+    }
+    until = startDate.plusYears(2);
+    out = new StringBuilder(128);
+
+    StringBuilder ics = new StringBuilder(eventCount * 256).append("BEGIN:VCALENDAR\r\nVERSION:2.0\r\n");
+    for (int i = 0; i < eventCount; i++) {
+      LocalDate date = startDate.plusDays(i % 365);
+      ics.append("BEGIN:VEVENT\r\nUID:event-").append(i).append("@benchmark\r\nDTSTART;VALUE=DATE:");
+      RRule.appendDate(ics, date).append("\r\nDTEND;VALUE=DATE:");
+      RRule.appendDate(ics, date.plusDays(1)).append("\r\nSUMMARY:Event ").append(i)
+          .append("\r\nDESCRIPTION:Imported from benchmark\\, line one\\nline two that is long enough to be folded by\r\n  the exporting calendar")
+          .append("\r\nRRULE:").append(RRULES[i % RRULES.length])
+          .append("\r\nBEGIN:VALARM\r\nACTION:DISPLAY\r\nTRIGGER:-PT15M\r\nEND:VALARM\r\nEND:VEVENT\r\n");
+    }
+    calendar = ics.append("END:VCALENDAR\r\n").toString();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RULE_COUNT)
+  public void parse(Blackhole blackhole) {
+    for (String rrule : RRULES) {
+      blackhole.consume(RRule.parse(rrule));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RULE_COUNT)
+  public void format(Blackhole blackhole) {
+    for (RecurrenceRule rule : rules) {
+      out.setLength(0);
+      blackhole.consume(RRule.appendTo(out, rule, until).length());
+    }
+  }
+
+  /**
+   * .ics 파일 하나를 읽어 VEVENT마다 반복 규칙과 종료 날짜까지 계산 (PlanImportService에서 DB 저장만 뺀 경로)
+   */
+  @Benchmark
+  public void importCalendar(Blackhole blackhole) throws IOException {
+    try (IcsEventReader events = new IcsEventReader(new StringReader(calendar))) {
+      while (events.hasNext()) {
+        IcsEvent event = events.next();
+        LocalDate startDate = RRule.parseDate(event.getStartValue());
+        RRule rrule = RRule.parse(event.getRrule());
+        RecurrenceRule rule = rrule.toRecurrenceRule(startDate);
+        blackhole.consume(rrule.endDate(rule, startDate));
+      }
+    }
+  }
+}
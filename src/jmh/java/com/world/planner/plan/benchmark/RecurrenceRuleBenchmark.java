@@ -0,0 +1,78 @@
+package com.world.planner.plan.benchmark;
+
+import com.world.planner.plan.domain.recurrence.RecurrenceRule;
+import com.world.planner.plan.domain.recurrence.RecurrenceRuleType;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 단일 반복 규칙의 날짜 매칭(isOccurrence)과 기간 전개(occurrenceIterator) 벤치마크
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RecurrenceRuleBenchmark {
+
+  // 규칙 타입:요일(WEEKLY) / 날짜(MONTHLY) / 월(YEARLY) 개수 (DAILY는 개수와 무관하므로 한 번만 측정)
+  @Param({"DAILY", "WEEKLY:1", "WEEKLY:3", "WEEKLY:7", "MONTHLY:1", "MONTHLY:3", "MONTHLY:7", "YEARLY:1", "YEARLY:3", "YEARLY:7"})
+  private String ruleShape;
+
+  @Param({"1", "4"})
+  private int interval;
+
+  // 검색 기간 (ISO-8601 Period)
+  @Param({"P1M", "P1Y", "P10Y", "P50Y"})
+  private String window;
+
+  private RecurrenceRule rule;
+  private LocalDate from;
+  private LocalDate to;
+  private LocalDate[] dates;
+
+  @Setup
+  public void setUp() {
+    int separator = ruleShape.indexOf(':');
+    RecurrenceRuleType ruleType = RecurrenceRuleType.valueOf(separator < 0 ? ruleShape : ruleShape.substring(0, separator));
+    int daySetSize = separator < 0 ? 1 : Integer.parseInt(ruleShape.substring(separator + 1));
+    from = RecurrenceRuleFixtures.BASE_DATE;
+    rule = RecurrenceRuleFixtures.rule(ruleType, interval, daySetSize, from);
+    to = from.plus(Period.parse(window)).minusDays(1);
+    dates = from.datesUntil(to.plusDays(1)).toArray(LocalDate[]::new);
+  }
+
+  /**
+   * 기간의 모든 날짜에 대해 isOccurrence 호출
+   */
+  @Benchmark
+  public int isOccurrence() {
+    int matches = 0;
+    for (LocalDate date : dates) {
+      if (rule.isOccurrence(date)) {
+        matches++;
+      }
+    }
+    return matches;
+  }
+
+  /**
+   * 기간 내 발생 일자 전개
+   */
+  @Benchmark
+  public void expand(Blackhole blackhole) {
+    Iterator<LocalDate> iterator = rule.occurrenceIterator(from, to);
+    while (iterator.hasNext()) {
+      blackhole.consume(iterator.next());
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package com.world.planner.plan.benchmark;
+
+import com.world.planner.plan.domain.recurrence.DailyRule;
+import com.world.planner.plan.domain.recurrence.MonthlyRule;
+import com.world.planner.plan.domain.recurrence.RecurrenceRule;
+import com.world.planner.plan.domain.recurrence.RecurrenceRuleType;
+import com.world.planner.plan.domain.recurrence.WeeklyRule;
+import com.world.planner.plan.domain.recurrence.YearlyRule;
+import java.lang.reflect.Field;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * 벤치마크용 반복 규칙 생성
+ */
+final class RecurrenceRuleFixtures {
+
+  // 벤치마크 기준 날짜 (실행한 날과 무관하게 커밋 간 같은 작업량이 되도록 고정, 월요일)
+  static final LocalDate BASE_DATE = LocalDate.of(2027, 1, 4);
+
+  private RecurrenceRuleFixtures() {
+  }
+
+  /**
+   * 규칙 타입별로 요일/날짜/월을 daySetSize개씩 고르게 배치한 규칙 생성
+   *
+   * @param ruleType   규칙 타입
+   * @param interval   반복 주기
+   * @param daySetSize 요일(WEEKLY), 날짜(MONTHLY), 월(YEARLY) 개수 (DAILY는 무시)
+   * @param anchorDate 반복 주기 계산의 기준일
+   */
+  static RecurrenceRule rule(RecurrenceRuleType ruleType, int interval, int daySetSize, LocalDate anchorDate) {
+    return switch (ruleType) {
+      case DAILY -> new DailyRule(interval, anchorDate);
+      case WEEKLY -> new WeeklyRule(interval, daysOfWeek(daySetSize), anchorDate);
+      case MONTHLY -> new MonthlyRule(interval, null, spread(daySetSize, 28), anchorDate);
+      case YEARLY -> new YearlyRule(interval, spread(daySetSize, 12), null, List.of(15), anchorDate);
+    };
+  }
+
+  /**
+   * 저장된 엔티티처럼 UUID ID 부여 (월별 캐시는 ID가 있는 규칙만 사용)
+   */
+  static <T> T withId(T entity) {
+    try {
+      Field id = findField(entity.getClass(), "id");
+      id.setAccessible(true);
+      id.set(entity, UUID.randomUUID());
+      return entity;
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static List<DayOfWeek> daysOfWeek(int count) {
+    return IntStream.range(0, Math.min(count, 7))
+        .mapToObj(i -> DayOfWeek.of(i + 1))
+        .toList();
+  }
+
+  // 1..max 범위에 count개를 고르게 배치
+  private static List<Integer> spread(int count, int max) {
+    int size = Math.min(count, max);
+    return IntStream.range(0, size)
+        .mapToObj(i -> 1 + i * max / size)
+        .toList();
+  }
+
+  private static Field findField(Class<?> type, String name) throws NoSuchFieldException {
+    for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+      try {
+        return current.getDeclaredField(name);
+      } catch (NoSuchFieldException ignored) {
+        // 상위 클래스에서 계속 탐색
+      }
+    }
+    throw new NoSuchFieldException(name);
+  }
+}
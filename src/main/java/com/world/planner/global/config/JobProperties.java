@@ -0,0 +1,65 @@
+package com.world.planner.global.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 백그라운드 작업(JobRunner) 설정
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "planner.jobs")
+public class JobProperties {
+
+  // 작업 실행 스레드 수 (모든 작업이 공유)
+  private int workerThreads = 2;
+
+  // 분산 잠금 사용 여부 (job_locks 테이블이 필요하므로 Flyway를 쓰는 프로파일에서만 활성화)
+  private boolean distributedLock = true;
+
+  // 종료 시 실행 중인 작업을 기다리는 최대 시간
+  private Duration shutdownTimeout = Duration.ofSeconds(30);
+
+  private CacheWarmup cacheWarmup = new CacheWarmup();
+
+  private ExpiredPlanCleanup expiredPlanCleanup = new ExpiredPlanCleanup();
+
+  /**
+   * 반복 규칙 변경 후 발생 일자 캐시 미리 채우기
+   */
+  @Getter
+  @Setter
+  public static class CacheWarmup {
+
+    private boolean enabled = true;
+
+    // 오늘부터 미리 계산해 두는 기간 (개월)
+    private int months = 3;
+
+    // 한 번에 조회하는 Plan 수
+    private int batchSize = 500;
+  }
+
+  /**
+   * 종료일이 지난 Plan 정리
+   */
+  @Getter
+  @Setter
+  public static class ExpiredPlanCleanup {
+
+    // 사용자 데이터를 삭제하므로 명시적으로 켠 경우에만 실행
+    private boolean enabled = false;
+
+    // 종료일 이후 보관 기간 (일)
+    private int retentionDays = 365;
+
+    // 트랜잭션 하나로 삭제하는 Plan 수
+    private int chunkSize = 500;
+
+    private String cron = "0 0 5 * * *";
+  }
+}
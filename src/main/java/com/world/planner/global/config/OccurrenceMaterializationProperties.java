@@ -0,0 +1,25 @@
+package com.world.planner.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * plan_occurrences 구체화 설정
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "planner.occurrence-materialization")
+public class OccurrenceMaterializationProperties {
+
+  // 구체화 사용 여부 (plan_occurrences 테이블이 필요하므로 Flyway를 쓰는 프로파일에서만 활성화)
+  private boolean enabled = false;
+
+  // 오늘부터 구체화해 두는 기간 (개월)
+  private int horizonMonths = 18;
+
+  // 구체화 범위 이동 작업 주기
+  private String refreshCron = "0 30 3 * * *";
+}
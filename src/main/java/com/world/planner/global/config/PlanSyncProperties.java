@@ -0,0 +1,22 @@
+package com.world.planner.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 변경 동기화(/api/plans/changes) 설정
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "planner.sync")
+public class PlanSyncProperties {
+
+  // 삭제 기록 보관 기간 (일). 이보다 오래된 토큰은 전체 동기화로 응답
+  private int tombstoneRetentionDays = 90;
+
+  // 보관 기간이 지난 삭제 기록 정리 작업 주기
+  private String tombstonePurgeCron = "0 0 4 * * *";
+}
@@ -0,0 +1,85 @@
+package com.world.planner.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * primary / 읽기 복제본 DataSource 구성 (planner.read-replicas.enabled=true 인 경우).
+ * 애플리케이션이 쓰는 DataSource는 LazyConnectionDataSourceProxy이고, 실제 커넥션은 첫 SQL 실행 시점에 얻는다.
+ * 그 전에 @Transactional(readOnly = true)가 Connection.setReadOnly(true)를 호출하면 복제본에서, 아니면 primary에서 커넥션을 얻는다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "planner.read-replicas", name = "enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+  /**
+   * 쓰기용 primary 커넥션 풀 (spring.datasource, spring.datasource.hikari 설정 사용)
+   */
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+    return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+  }
+
+  /**
+   * 읽기 전용 복제본 라우팅 DataSource
+   */
+  @Bean
+  public ReplicaRoutingDataSource replicaDataSource(
+      ReadReplicaProperties properties,
+      DataSourceProperties dataSourceProperties,
+      HikariDataSource primaryDataSource,
+      ObjectProvider<MeterRegistry> meterRegistry
+  ) {
+    List<ReplicaRoutingDataSource.Replica> replicas = new ArrayList<>();
+    for (int index = 0; index < properties.getNodes().size(); index++) {
+      ReadReplicaProperties.Node node = properties.getNodes().get(index);
+      String name = "replica-" + (index + 1);
+
+      HikariDataSource pool = new HikariDataSource();
+      pool.setPoolName(name);
+      pool.setJdbcUrl(node.getUrl());
+      pool.setUsername(node.getUsername());
+      pool.setPassword(node.getPassword());
+      pool.setDriverClassName(dataSourceProperties.getDriverClassName());
+      pool.setMaximumPoolSize(node.getMaximumPoolSize());
+      pool.setConnectionTimeout(node.getConnectionTimeout().toMillis());
+      pool.setReadOnly(true);
+      pool.setInitializationFailTimeout(-1); // 복제본 장애가 애플리케이션 시작을 막지 않도록
+      meterRegistry.ifAvailable(registry -> pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry))); // hikaricp.connections{pool=replica-N}
+      replicas.add(new ReplicaRoutingDataSource.Replica(name, pool));
+    }
+
+    ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(
+        replicas, primaryDataSource, (int) Math.max(1, properties.getValidationTimeout().toSeconds()));
+    meterRegistry.ifAvailable(registry -> Gauge.builder("planner.datasource.replicas.healthy", dataSource,
+            ReplicaRoutingDataSource::getHealthyReplicaCount)
+        .description("Number of read replicas currently receiving read-only transactions")
+        .register(registry));
+    return dataSource;
+  }
+
+  /**
+   * 애플리케이션(JPA, JDBC, Flyway)이 사용하는 DataSource
+   */
+  @Bean
+  @Primary
+  public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaDataSource) {
+    LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+    dataSource.setReadOnlyDataSource(replicaDataSource);
+    return dataSource;
+  }
+}
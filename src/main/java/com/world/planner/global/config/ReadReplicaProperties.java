@@ -0,0 +1,46 @@
+package com.world.planner.global.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 읽기 전용 복제본(read replica) 설정
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "planner.read-replicas")
+public class ReadReplicaProperties {
+
+  // 읽기 전용 트랜잭션을 복제본으로 보낼지 여부 (false면 모든 요청이 spring.datasource로 감)
+  private boolean enabled = false;
+
+  // 복제본 상태 확인 주기
+  private Duration healthCheckInterval = Duration.ofSeconds(10);
+
+  // 상태 확인 시 Connection.isValid 대기 시간
+  private Duration validationTimeout = Duration.ofSeconds(2);
+
+  // 복제본 목록 (라운드 로빈으로 사용)
+  private List<Node> nodes = new ArrayList<>();
+
+  @Getter
+  @Setter
+  public static class Node {
+
+    private String url;
+    private String username;
+    private String password;
+
+    // 복제본별 커넥션 풀 크기
+    private int maximumPoolSize = 10;
+
+    // 커넥션 획득 대기 시간 (장애 복제본에서 오래 기다리지 않고 다음 복제본으로 넘어가도록 짧게 둔다)
+    private Duration connectionTimeout = Duration.ofSeconds(2);
+  }
+}
@@ -0,0 +1,137 @@
+package com.world.planner.global.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 읽기 전용 커넥션을 정상 상태인 복제본에 라운드 로빈으로 분배하는 DataSource.
+ * 커넥션 획득에 실패한 복제본은 바로 제외하고 다음 복제본을 시도하며, 모든 복제본이 장애면 primary를 사용한다.
+ * 제외된 복제본은 주기적인 상태 확인(checkHealth)에서 응답하면 다시 포함된다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+  private final List<Replica> replicas;
+  private final DataSource fallback;
+  private final int validationTimeoutSeconds;
+  private final AtomicInteger next = new AtomicInteger();
+
+  public ReplicaRoutingDataSource(List<Replica> replicas, DataSource fallback, int validationTimeoutSeconds) {
+    this.replicas = List.copyOf(replicas);
+    this.fallback = fallback;
+    this.validationTimeoutSeconds = validationTimeoutSeconds;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    int size = replicas.size();
+    int start = size == 0 ? 0 : Math.floorMod(next.getAndIncrement(), size);
+    for (int offset = 0; offset < size; offset++) {
+      Replica replica = replicas.get((start + offset) % size);
+      if (!replica.isHealthy()) {
+        continue;
+      }
+      try {
+        return replica.getDataSource().getConnection();
+      } catch (SQLException e) {
+        markDown(replica, e);
+      }
+    }
+    return fallback.getConnection(); // 정상 복제본이 없으면 primary에서 읽음
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    throw new SQLFeatureNotSupportedException("Replica routing uses the credentials configured per replica.");
+  }
+
+  /**
+   * 모든 복제본의 상태 확인 (제외된 복제본 복구, 응답 없는 복제본 제외)
+   */
+  @Scheduled(fixedDelayString = "${planner.read-replicas.health-check-interval:10s}")
+  public void checkHealth() {
+    for (Replica replica : replicas) {
+      try (Connection connection = replica.getDataSource().getConnection()) {
+        if (connection.isValid(validationTimeoutSeconds)) {
+          markUp(replica);
+        } else {
+          markDown(replica, null);
+        }
+      } catch (SQLException e) {
+        markDown(replica, e);
+      }
+    }
+  }
+
+  /**
+   * 현재 정상 상태인 복제본 수
+   */
+  public int getHealthyReplicaCount() {
+    return (int) replicas.stream().filter(Replica::isHealthy).count();
+  }
+
+  /**
+   * 복제본 커넥션 풀 종료 (primary는 별도 Bean으로 종료됨)
+   */
+  @Override
+  public void close() throws Exception {
+    for (Replica replica : replicas) {
+      if (replica.getDataSource() instanceof AutoCloseable closeable) {
+        closeable.close();
+      }
+    }
+  }
+
+  private void markDown(Replica replica, SQLException cause) {
+    if (replica.setHealthy(false)) {
+      log.warn("Read replica {} marked down: {}", replica.getName(), cause == null ? "validation failed" : cause.getMessage());
+    }
+  }
+
+  private void markUp(Replica replica) {
+    if (replica.setHealthy(true)) {
+      log.info("Read replica {} is back up", replica.getName());
+    }
+  }
+
+  /**
+   * 복제본 하나 (이름, 커넥션 풀, 상태)
+   */
+  public static class Replica {
+
+    private final String name;
+    private final DataSource dataSource;
+    private volatile boolean healthy = true;
+
+    public Replica(String name, DataSource dataSource) {
+      this.name = name;
+      this.dataSource = dataSource;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public DataSource getDataSource() {
+      return dataSource;
+    }
+
+    public boolean isHealthy() {
+      return healthy;
+    }
+
+    // 상태가 바뀌었으면 true
+    boolean setHealthy(boolean healthy) {
+      boolean changed = this.healthy != healthy;
+      this.healthy = healthy;
+      return changed;
+    }
+  }
+}
@@ -0,0 +1,27 @@
+package com.world.planner.global.config;
+
+import io.micrometer.java21.instrument.binder.jdk.VirtualThreadMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 가상 스레드 실행 모드 설정 (spring.threads.virtual.enabled=true 인 경우).
+ * Tomcat 요청 처리, @Async 실행기(applicationTaskExecutor), @Scheduled 작업은 Spring Boot가 가상 스레드로 전환하고,
+ * 여기서는 캐리어 스레드 고정(pinning)을 관찰하기 위한 메트릭만 등록한다.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+  /**
+   * 가상 스레드 메트릭 (JFR 이벤트 기반)
+   * jvm.threads.virtual.pinned: 캐리어 스레드에 고정된 시간 (synchronized 블록 안의 블로킹 등)
+   * jvm.threads.virtual.submit.failed: 가상 스레드 스케줄링 실패 수
+   */
+  @Bean(destroyMethod = "close")
+  public VirtualThreadMetrics virtualThreadMetrics() {
+    return new VirtualThreadMetrics();
+  }
+}
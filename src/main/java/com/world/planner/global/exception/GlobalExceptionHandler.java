@@ -1,5 +1,6 @@
 package com.world.planner.global.exception;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -22,6 +23,33 @@ public class GlobalExceptionHandler {
     );
   }
 
+  // 잘못된 요청 값 처리
+  @ExceptionHandler(IllegalArgumentException.class)
+  public ResponseEntity<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException ex) {
+    return new ResponseEntity<>(
+        new ErrorResponse(HttpStatus.BAD_REQUEST.value(), "Bad Request", ex.getMessage()),
+        HttpStatus.BAD_REQUEST
+    );
+  }
+
+  // 조건부 요청 실패 처리 (If-Match 불일치)
+  @ExceptionHandler(PreconditionFailedException.class)
+  public ResponseEntity<ErrorResponse> handlePreconditionFailedException(PreconditionFailedException ex) {
+    return new ResponseEntity<>(
+        new ErrorResponse(HttpStatus.PRECONDITION_FAILED.value(), "Precondition Failed", ex.getMessage()),
+        HttpStatus.PRECONDITION_FAILED
+    );
+  }
+
+  // 동시 수정 충돌 처리 (If-Match 확인 후 커밋 시점의 @Version 충돌)
+  @ExceptionHandler(OptimisticLockingFailureException.class)
+  public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+    return new ResponseEntity<>(
+        new ErrorResponse(HttpStatus.CONFLICT.value(), "Conflict", "The plan was modified by another request. Reload and try again."),
+        HttpStatus.CONFLICT
+    );
+  }
+
   // 기타 예외 처리
   @ExceptionHandler(RuntimeException.class)
   public ResponseEntity<ErrorResponse> handleRuntimeException(RuntimeException ex) {
@@ -0,0 +1,11 @@
+package com.world.planner.global.exception;
+
+/**
+ * 조건부 요청의 전제 조건 불일치 (If-Match가 현재 ETag와 다름, 412)
+ */
+public class PreconditionFailedException extends RuntimeException {
+
+  public PreconditionFailedException(String message) {
+    super(message);
+  }
+}
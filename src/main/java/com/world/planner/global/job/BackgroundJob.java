@@ -0,0 +1,61 @@
+package com.world.planner.global.job;
+
+import java.time.Duration;
+
+/**
+ * JobRunner가 실행하는 백그라운드 작업.
+ * Bean으로 등록하면 JobRunner에 자동 등록되고, cron이 있으면 그 주기로, 없으면 JobRunner.trigger 호출 시 실행된다.
+ * 같은 작업의 실행 요청은 대기열에 하나로 합쳐지므로 run은 여러 번 실행되어도 결과가 같도록 작성한다.
+ */
+public interface BackgroundJob {
+
+  /**
+   * 작업 이름 (메트릭 태그, 분산 잠금 이름)
+   */
+  String getName();
+
+  /**
+   * 작업 본문
+   */
+  void run();
+
+  /**
+   * 대기열 우선순위
+   */
+  default JobPriority getPriority() {
+    return JobPriority.NORMAL;
+  }
+
+  /**
+   * 인스턴스 안에서 동시에 실행할 수 있는 최대 개수
+   */
+  default int getMaxConcurrency() {
+    return 1;
+  }
+
+  /**
+   * 분산 잠금 최대 보유 시간. 설정하면 여러 인스턴스 중 잠금을 얻은 하나만 실행하고,
+   * 실행 중 인스턴스가 죽어도 이 시간이 지나면 다른 인스턴스가 실행할 수 있다.
+   *
+   * @return 잠금 보유 시간 (null이면 잠금 없이 인스턴스마다 실행)
+   */
+  default Duration getLockAtMostFor() {
+    return null;
+  }
+
+  /**
+   * 실행 주기
+   *
+   * @return cron 표현식 (null이면 trigger 호출 시에만 실행)
+   */
+  default String getCron() {
+    return null;
+  }
+
+  /**
+   * 실행 여부 (false면 실행 요청을 무시)
+   */
+  default boolean isEnabled() {
+    return true;
+  }
+}
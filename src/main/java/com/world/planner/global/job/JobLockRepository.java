@@ -0,0 +1,55 @@
+package com.world.planner.global.job;
+
+import java.time.Duration;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 백그라운드 작업 분산 잠금(job_locks) 저장소.
+ * 잠금은 만료 시각이 있는 행 하나이고, 만료 여부는 인스턴스 간 시계 차이가 없도록 DB 시각으로 판단한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JobLockRepository {
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  /**
+   * 잠금 획득 시도 (잠금이 없거나 만료된 경우에만 성공)
+   *
+   * @param name          작업 이름
+   * @param owner         잠금 보유자 (인스턴스 식별자)
+   * @param lockAtMostFor 잠금 만료까지의 시간
+   * @return 획득 여부
+   */
+  public boolean tryAcquire(String name, String owner, Duration lockAtMostFor) {
+    int updated = jdbcTemplate.update(
+        "insert into job_locks (name, locked_until, locked_at, locked_by) "
+            + "values (:name, localtimestamp + make_interval(secs => :seconds), localtimestamp, :owner) "
+            + "on conflict (name) do update set locked_until = excluded.locked_until, "
+            + "locked_at = excluded.locked_at, locked_by = excluded.locked_by "
+            + "where job_locks.locked_until <= excluded.locked_at",
+        new MapSqlParameterSource()
+            .addValue("name", name)
+            .addValue("owner", owner)
+            .addValue("seconds", lockAtMostFor.toSeconds())
+    );
+    return updated > 0;
+  }
+
+  /**
+   * 잠금 해제 (직접 보유한 잠금만)
+   *
+   * @param name  작업 이름
+   * @param owner 잠금 보유자
+   */
+  public void release(String name, String owner) {
+    jdbcTemplate.update(
+        "update job_locks set locked_until = localtimestamp where name = :name and locked_by = :owner",
+        Map.of("name", name, "owner", owner)
+    );
+  }
+}
@@ -0,0 +1,10 @@
+package com.world.planner.global.job;
+
+/**
+ * 백그라운드 작업 우선순위 (대기 중인 작업은 우선순위가 높은 것부터 실행)
+ */
+public enum JobPriority {
+  HIGH,
+  NORMAL,
+  LOW
+}
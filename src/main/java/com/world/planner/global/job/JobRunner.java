@@ -0,0 +1,230 @@
+package com.world.planner.global.job;
+
+import com.world.planner.global.config.JobProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.support.CronTrigger;
+import org.springframework.stereotype.Component;
+
+/**
+ * 백그라운드 작업 실행기.
+ * 요청 스레드나 스케줄러 스레드 대신 크기가 고정된 작업 스레드 풀에서 BackgroundJob을 실행한다.
+ * <ul>
+ *   <li>같은 작업의 실행 요청은 대기열에 하나만 두므로 대기열 길이는 등록된 작업 수를 넘지 않는다.</li>
+ *   <li>대기 중인 작업은 우선순위(JobPriority) 순으로 실행한다.</li>
+ *   <li>작업별 동시 실행 수를 넘는 요청은 실행 중인 작업이 끝난 뒤 한 번 더 실행한다.</li>
+ *   <li>분산 잠금을 쓰는 작업은 job_locks 잠금을 얻은 인스턴스 하나만 실행한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class JobRunner implements SmartInitializingSingleton, DisposableBean {
+
+  // 작업 실행 시간 (job, outcome=success|failure)
+  private static final String RUN_TIMER = "planner.jobs.run";
+  // 실행하지 않은 요청 (job, reason=locked|disabled)
+  private static final String SKIPPED_COUNTER = "planner.jobs.skipped";
+
+  private final JobProperties properties;
+  private final JobLockRepository jobLockRepository;
+  private final TaskScheduler taskScheduler;
+  private final MeterRegistry meterRegistry;
+  private final ObjectProvider<BackgroundJob> jobs;
+
+  private final ThreadPoolExecutor executor;
+  private final Map<String, JobHandle> handles = new ConcurrentHashMap<>();
+  private final AtomicLong sequence = new AtomicLong();
+
+  // 분산 잠금 보유자 (pid@host)
+  private final String owner = ManagementFactory.getRuntimeMXBean().getName();
+
+  public JobRunner(
+      JobProperties properties,
+      JobLockRepository jobLockRepository,
+      TaskScheduler taskScheduler,
+      MeterRegistry meterRegistry,
+      ObjectProvider<BackgroundJob> jobs
+  ) {
+    this.properties = properties;
+    this.jobLockRepository = jobLockRepository;
+    this.taskScheduler = taskScheduler;
+    this.meterRegistry = meterRegistry;
+    this.jobs = jobs; // 작업이 JobRunner를 주입받을 수 있도록 등록은 싱글톤 생성 이후에 한다
+    this.executor = new ThreadPoolExecutor(
+        properties.getWorkerThreads(),
+        properties.getWorkerThreads(),
+        0L, TimeUnit.MILLISECONDS,
+        new PriorityBlockingQueue<>(),
+        Thread.ofPlatform().name("job-worker-", 1).factory()
+    );
+    new ExecutorServiceMetrics(executor, "planner.jobs", Tags.empty()).bindTo(meterRegistry); // executor.active, executor.queued 등
+  }
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    jobs.orderedStream().forEach(this::register);
+  }
+
+  /**
+   * 작업 등록 (cron이 있으면 주기 실행도 예약)
+   *
+   * @param job 백그라운드 작업
+   */
+  public void register(BackgroundJob job) {
+    if (job.getMaxConcurrency() < 1) {
+      throw new IllegalArgumentException("Job " + job.getName() + " must allow at least one concurrent run.");
+    }
+    if (handles.putIfAbsent(job.getName(), new JobHandle(job)) != null) {
+      throw new IllegalStateException("Job already registered: " + job.getName());
+    }
+    if (job.getCron() != null) {
+      taskScheduler.schedule(() -> trigger(job.getName()), new CronTrigger(job.getCron()));
+    }
+    log.info("Registered background job {} (priority={}, cron={})", job.getName(), job.getPriority(), job.getCron());
+  }
+
+  /**
+   * 작업 실행 요청 (이미 대기 중이면 합쳐짐)
+   *
+   * @param name 작업 이름
+   */
+  public void trigger(String name) {
+    JobHandle handle = handles.get(name);
+    if (handle == null) {
+      throw new IllegalArgumentException("Unknown job: " + name);
+    }
+    trigger(handle);
+  }
+
+  @Override
+  public void destroy() throws InterruptedException {
+    executor.shutdown();
+    if (!executor.awaitTermination(properties.getShutdownTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+      log.warn("Background jobs did not finish within {}, interrupting", properties.getShutdownTimeout());
+      executor.shutdownNow();
+    }
+  }
+
+  private void trigger(JobHandle handle) {
+    if (executor.isShutdown()) {
+      return;
+    }
+    if (!handle.job.isEnabled()) {
+      skipped(handle, "disabled");
+      return;
+    }
+    if (handle.queued.compareAndSet(false, true)) {
+      executor.execute(new QueuedRun(handle, sequence.getAndIncrement()));
+    }
+  }
+
+  private void execute(JobHandle handle) {
+    handle.queued.set(false);
+    if (!handle.permits.tryAcquire()) {
+      handle.deferred.set(true); // 실행 중인 작업이 끝나면 다시 실행
+      if (!handle.permits.tryAcquire()) {
+        return;
+      }
+      handle.deferred.set(false); // 그 사이에 끝났으면 바로 실행
+    }
+    try {
+      runLocked(handle);
+    } finally {
+      handle.permits.release();
+      if (handle.deferred.compareAndSet(true, false)) {
+        trigger(handle);
+      }
+    }
+  }
+
+  private void runLocked(JobHandle handle) {
+    BackgroundJob job = handle.job;
+    boolean locking = properties.isDistributedLock() && job.getLockAtMostFor() != null;
+    if (locking && !jobLockRepository.tryAcquire(job.getName(), owner, job.getLockAtMostFor())) {
+      skipped(handle, "locked"); // 다른 인스턴스가 실행 중
+      return;
+    }
+
+    long start = System.nanoTime();
+    String outcome = "success";
+    try {
+      job.run();
+    } catch (RuntimeException e) {
+      outcome = "failure";
+      log.error("Background job {} failed", job.getName(), e);
+    } finally {
+      if (locking) {
+        jobLockRepository.release(job.getName(), owner);
+      }
+      Timer.builder(RUN_TIMER)
+          .description("Background job run time")
+          .tag("job", job.getName())
+          .tag("outcome", outcome)
+          .register(meterRegistry)
+          .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private void skipped(JobHandle handle, String reason) {
+    Counter.builder(SKIPPED_COUNTER)
+        .description("Background job runs that were not executed")
+        .tag("job", handle.job.getName())
+        .tag("reason", reason)
+        .register(meterRegistry)
+        .increment();
+  }
+
+  // 등록된 작업과 실행 상태
+  private static class JobHandle {
+
+    private final BackgroundJob job;
+    private final Semaphore permits;
+    private final AtomicBoolean queued = new AtomicBoolean();   // 대기열에 실행 요청이 있음
+    private final AtomicBoolean deferred = new AtomicBoolean(); // 동시 실행 수 초과로 미뤄진 요청이 있음
+
+    JobHandle(BackgroundJob job) {
+      this.job = job;
+      this.permits = new Semaphore(job.getMaxConcurrency());
+    }
+  }
+
+  // 대기열 항목 (우선순위, 요청 순서로 정렬)
+  private class QueuedRun implements Runnable, Comparable<QueuedRun> {
+
+    private final JobHandle handle;
+    private final long sequence;
+
+    QueuedRun(JobHandle handle, long sequence) {
+      this.handle = handle;
+      this.sequence = sequence;
+    }
+
+    @Override
+    public void run() {
+      execute(handle);
+    }
+
+    @Override
+    public int compareTo(QueuedRun other) {
+      int byPriority = handle.job.getPriority().compareTo(other.handle.job.getPriority());
+      return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+    }
+  }
+}
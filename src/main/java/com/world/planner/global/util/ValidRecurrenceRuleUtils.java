@@ -1,5 +1,6 @@
 package com.world.planner.global.util;
 
+import com.world.planner.plan.domain.recurrence.RRule;
 import com.world.planner.plan.domain.recurrence.RecurrenceRuleType;
 
 public class ValidRecurrenceRuleUtils {
@@ -7,4 +8,19 @@ public class ValidRecurrenceRuleUtils {
   public static boolean isValid(String ruleType) {
     return RecurrenceRuleType.isValid(ruleType);
   }
+
+  /**
+   * RRULE 값을 이 서비스의 반복 규칙으로 가져올 수 있는지 확인
+   *
+   * @param rrule RRULE 값 (예: FREQ=WEEKLY;BYDAY=MO,WE)
+   * @return 가져올 수 있으면 true
+   */
+  public static boolean isValidRRule(CharSequence rrule) {
+    try {
+      RRule.parse(rrule);
+      return true;
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+  }
 }
\ No newline at end of file
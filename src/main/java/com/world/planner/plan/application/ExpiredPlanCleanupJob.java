@@ -0,0 +1,103 @@
+package com.world.planner.plan.application;
+
+import com.world.planner.global.config.JobProperties;
+import com.world.planner.global.job.BackgroundJob;
+import com.world.planner.global.job.JobPriority;
+import com.world.planner.plan.domain.Plan;
+import com.world.planner.plan.domain.PlanDeletedEvent;
+import com.world.planner.plan.domain.PlanTombstone;
+import com.world.planner.plan.infrastructure.cache.OccurrenceMonthCache;
+import com.world.planner.plan.infrastructure.repository.PlanRepository;
+import com.world.planner.plan.infrastructure.repository.PlanTombstoneRepository;
+import jakarta.persistence.EntityManager;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 종료일이 보관 기간보다 오래 지난 Plan 정리 작업 (매일, 한 인스턴스에서만 실행).
+ * chunkSize 단위 트랜잭션으로 나누어 삭제하므로 삭제할 Plan이 많아도 잠금과 트랜잭션 크기가 일정하다.
+ * 삭제는 deletePlan과 같이 캐시 제거와 삭제 기록(변경 동기화)을 함께 남기고, 구체화된 발생 일자는 FK로 함께 삭제된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExpiredPlanCleanupJob implements BackgroundJob {
+
+  public static final String NAME = "expired-plan-cleanup";
+
+  private final JobProperties properties;
+  private final PlanRepository planRepository;
+  private final PlanTombstoneRepository planTombstoneRepository;
+  private final OccurrenceMonthCache occurrenceMonthCache;
+  private final EntityManager entityManager;
+  private final TransactionTemplate transactionTemplate;
+  private final ApplicationEventPublisher eventPublisher;
+
+  @Override
+  public String getName() {
+    return NAME;
+  }
+
+  @Override
+  public void run() {
+    JobProperties.ExpiredPlanCleanup cleanup = properties.getExpiredPlanCleanup();
+    LocalDate endedBefore = LocalDate.now().minusDays(cleanup.getRetentionDays());
+
+    int total = 0;
+    int deleted;
+    do {
+      deleted = transactionTemplate.execute(status -> deleteChunk(endedBefore, cleanup.getChunkSize()));
+      total += deleted;
+    } while (deleted == cleanup.getChunkSize() && !Thread.currentThread().isInterrupted()); // 종료 중이면 다음 실행으로 넘김
+    log.info("Deleted {} plans that ended before {}", total, endedBefore);
+  }
+
+  @Override
+  public JobPriority getPriority() {
+    return JobPriority.LOW;
+  }
+
+  @Override
+  public Duration getLockAtMostFor() {
+    return Duration.ofMinutes(30);
+  }
+
+  @Override
+  public String getCron() {
+    return properties.getExpiredPlanCleanup().getCron();
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return properties.getExpiredPlanCleanup().isEnabled();
+  }
+
+  private int deleteChunk(LocalDate endedBefore, int chunkSize) {
+    List<Plan> plans = planRepository.findEndedBefore(endedBefore, Limit.of(chunkSize));
+    LocalDateTime now = LocalDateTime.now();
+
+    occurrenceMonthCache.evictAll(plans.stream()
+        .filter(Plan::hasRecurrenceRule)
+        .map(plan -> plan.getRecurrenceRule().getId())
+        .toList());
+    planRepository.deleteAll(plans);
+    planTombstoneRepository.saveAll(plans.stream()
+        .map(plan -> PlanTombstone.of(plan.getId(), now))
+        .toList());
+    if (!plans.isEmpty()) {
+      eventPublisher.publishEvent(new PlanDeletedEvent(plans.stream().map(Plan::getId).toList()));
+    }
+
+    planRepository.flush();
+    entityManager.clear();
+    return plans.size();
+  }
+}
@@ -0,0 +1,54 @@
+package com.world.planner.plan.application;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 발생 일자 수 히스토그램의 구간 단위 (주는 월요일 시작)
+ */
+public enum OccurrenceBucket {
+  WEEK,
+  MONTH,
+  YEAR;
+
+  // 한 번에 계산할 수 있는 최대 기간 (일, 약 10년). Plan마다 기간 내 발생 일자를 순회하므로 기간으로 비용을 제한한다.
+  public static final long MAX_DAYS = 3_660;
+
+  /**
+   * [from, to]를 구간으로 나누기. 첫 / 마지막 구간은 from, to로 잘린다.
+   *
+   * @param from 시작 날짜 (포함)
+   * @param to   종료 날짜 (포함)
+   * @return 구간별 시작 날짜 (마지막 원소 다음 구간의 시작은 to + 1일)
+   * @throws IllegalArgumentException 기간이 없거나, 역전되었거나, 최대 기간을 넘는 경우
+   */
+  public List<LocalDate> split(LocalDate from, LocalDate to) {
+    if (from == null || to == null) {
+      throw new IllegalArgumentException("Both start date and end date are required.");
+    }
+    if (from.isAfter(to)) {
+      throw new IllegalArgumentException("Start date must be before or equal to the end date.");
+    }
+    if (ChronoUnit.DAYS.between(from, to) >= MAX_DAYS) {
+      throw new IllegalArgumentException("Histogram range must not exceed " + MAX_DAYS + " days.");
+    }
+    List<LocalDate> starts = new ArrayList<>();
+    for (LocalDate start = from; !start.isAfter(to); start = next(start)) {
+      starts.add(start);
+    }
+    return starts;
+  }
+
+  // date가 속한 구간의 다음 구간 시작 날짜
+  private LocalDate next(LocalDate date) {
+    return switch (this) {
+      case WEEK -> date.with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+      case MONTH -> date.withDayOfMonth(1).plusMonths(1);
+      case YEAR -> date.withDayOfYear(1).plusYears(1);
+    };
+  }
+}
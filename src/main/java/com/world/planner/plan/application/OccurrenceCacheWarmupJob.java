@@ -0,0 +1,107 @@
+package com.world.planner.plan.application;
+
+import com.world.planner.global.config.JobProperties;
+import com.world.planner.global.job.BackgroundJob;
+import com.world.planner.global.job.JobRunner;
+import com.world.planner.plan.domain.Plan;
+import com.world.planner.plan.domain.PlanChangedEvent;
+import com.world.planner.plan.infrastructure.cache.OccurrenceMonthCache;
+import com.world.planner.plan.infrastructure.repository.PlanRepository;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 반복 규칙이 바뀐 Plan의 월별 발생 일자 캐시(OccurrenceMonthCache)를 미리 채우는 작업.
+ * 규칙 변경 직후의 첫 조회가 요청 스레드에서 계산하지 않도록, 커밋 후 오늘부터 months 개월을 백그라운드에서 계산해 둔다.
+ * 캐시는 인스턴스마다 따로 있으므로 분산 잠금 없이 변경을 처리한 인스턴스에서 실행한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OccurrenceCacheWarmupJob implements BackgroundJob {
+
+  public static final String NAME = "occurrence-cache-warmup";
+
+  // 대기 중인 Plan ID 최대 수 (넘치면 버림, 캐시는 조회 시에도 채워지므로 누락돼도 정확성에는 영향 없음)
+  private static final int MAX_PENDING = 100_000;
+
+  private final JobProperties properties;
+  private final PlanRepository planRepository;
+  private final OccurrenceMonthCache occurrenceMonthCache;
+  private final TransactionTemplate transactionTemplate;
+  private final JobRunner jobRunner;
+
+  private final Set<UUID> pendingPlanIds = ConcurrentHashMap.newKeySet();
+
+  @Override
+  public String getName() {
+    return NAME;
+  }
+
+  @Override
+  public int getMaxConcurrency() {
+    return 2; // 대기 중인 Plan을 나누어 처리
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return properties.getCacheWarmup().isEnabled();
+  }
+
+  /**
+   * 변경된 Plan을 대기열에 넣고 작업 실행 요청 (Plan을 변경한 트랜잭션의 커밋 후)
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onPlanChanged(PlanChangedEvent event) {
+    if (!isEnabled() || pendingPlanIds.size() >= MAX_PENDING) {
+      return;
+    }
+    pendingPlanIds.addAll(event.getPlanIds());
+    jobRunner.trigger(NAME);
+  }
+
+  @Override
+  public void run() {
+    List<UUID> batch;
+    while (!(batch = drain(properties.getCacheWarmup().getBatchSize())).isEmpty()) {
+      warm(batch);
+    }
+  }
+
+  private void warm(List<UUID> planIds) {
+    LocalDate from = LocalDate.now();
+    LocalDate to = from.plusMonths(properties.getCacheWarmup().getMonths()).minusDays(1);
+    // 읽기 전용 트랜잭션은 복제본으로 갈 수 있어 방금 커밋한 규칙이 아직 없을 수 있으므로 primary에서 읽음
+    transactionTemplate.executeWithoutResult(status -> {
+      for (Plan plan : planRepository.findAllWithRecurrenceRuleByIdIn(planIds)) { // 삭제된 Plan은 조회되지 않음
+        if (plan.hasRecurrenceRule()) {
+          // Plan 적용 기간 밖의 월은 조회되지 않으므로 채우지 않음
+          LocalDate start = plan.getStartDate().isAfter(from) ? plan.getStartDate() : from;
+          LocalDate end = plan.getEndDate() != null && plan.getEndDate().isBefore(to) ? plan.getEndDate() : to;
+          occurrenceMonthCache.warm(plan.getRecurrenceRule(), start, end);
+        }
+      }
+    });
+  }
+
+  private List<UUID> drain(int limit) {
+    List<UUID> batch = new ArrayList<>(limit);
+    Iterator<UUID> iterator = pendingPlanIds.iterator();
+    while (batch.size() < limit && iterator.hasNext()) {
+      UUID planId = iterator.next();
+      if (pendingPlanIds.remove(planId)) { // 다른 실행이 먼저 가져간 ID는 건너뜀
+        batch.add(planId);
+      }
+    }
+    return batch;
+  }
+}
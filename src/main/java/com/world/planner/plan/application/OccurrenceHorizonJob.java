@@ -0,0 +1,61 @@
+package com.world.planner.plan.application;
+
+import com.world.planner.global.config.OccurrenceMaterializationProperties;
+import com.world.planner.global.job.BackgroundJob;
+import com.world.planner.global.job.JobPriority;
+import com.world.planner.global.job.JobRunner;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 발생 일자 구체화 범위 이동 작업.
+ * 매일, 그리고 애플리케이션 시작 시(최초 구체화 또는 중단된 기간 보충) 한 인스턴스에서만 실행한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OccurrenceHorizonJob implements BackgroundJob {
+
+  public static final String NAME = "occurrence-horizon";
+
+  private final OccurrenceMaterializationProperties properties;
+  private final OccurrenceMaterializationService occurrenceMaterializationService;
+  private final JobRunner jobRunner;
+
+  @Override
+  public String getName() {
+    return NAME;
+  }
+
+  @Override
+  public void run() {
+    occurrenceMaterializationService.advanceHorizon();
+  }
+
+  @Override
+  public JobPriority getPriority() {
+    return JobPriority.HIGH; // 범위가 밀리지 않으면 구체화 조회가 계산 경로로 돌아감
+  }
+
+  @Override
+  public Duration getLockAtMostFor() {
+    return Duration.ofMinutes(30);
+  }
+
+  @Override
+  public String getCron() {
+    return properties.getRefreshCron();
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return properties.isEnabled();
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void onApplicationReady() {
+    jobRunner.trigger(NAME);
+  }
+}
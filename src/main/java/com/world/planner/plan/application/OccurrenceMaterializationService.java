@@ -0,0 +1,136 @@
+package com.world.planner.plan.application;
+
+import com.world.planner.global.config.OccurrenceMaterializationProperties;
+import com.world.planner.plan.domain.Plan;
+import com.world.planner.plan.domain.PlanChangedEvent;
+import com.world.planner.plan.domain.PlanDomainService;
+import com.world.planner.plan.domain.PlanOccurrence;
+import com.world.planner.plan.infrastructure.repository.MaterializedOccurrenceProjection;
+import com.world.planner.plan.infrastructure.repository.OccurrenceHorizon;
+import com.world.planner.plan.infrastructure.repository.PlanOccurrenceRepository;
+import com.world.planner.plan.infrastructure.repository.PlanRepository;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 발생 일자 구체화(plan_occurrences) 관리.
+ * 오늘부터 horizonMonths 개월까지의 발생 일자를 미리 저장해 두고, Plan이 바뀌면 같은 트랜잭션 안에서 해당 Plan의 행만 다시 만든다.
+ * 범위는 매일 하루씩 앞으로 밀어 준다. (OccurrenceHorizonJob)
+ *
+ * <p>반복 규칙이 없는 Plan은 적용 기간의 매일 발생하므로 구체화하면 Plan 하나에 범위 일수만큼(18개월이면 약 548행) 행이 생긴다.
+ * 대량 생성 / .ics 가져오기에서는 청크 하나의 커밋 직전에 수천만 행을 쓰게 되므로 이런 Plan은 저장하지 않고,
+ * 조회할 때 plans의 기간으로 계산한다. (PlanOccurrenceRepository.findInRange)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OccurrenceMaterializationService {
+
+  // 범위 확장 시 한 번에 INSERT하는 발생 일자 수
+  private static final int FLUSH_SIZE = 1_000;
+
+  private final OccurrenceMaterializationProperties properties;
+  private final PlanRepository planRepository;
+  private final PlanOccurrenceRepository planOccurrenceRepository;
+  private final PlanDomainService planDomainService;
+  private final EntityManager entityManager;
+
+  /**
+   * 구체화된 발생 일자 조회
+   *
+   * @param from 검색 시작 날짜
+   * @param to   검색 종료 날짜
+   * @return 기간이 구체화 범위 안이면 (날짜, Plan ID) 순 발생 일자 목록, 아니면 empty
+   */
+  @Transactional(readOnly = true)
+  public Optional<List<MaterializedOccurrenceProjection>> findOccurrences(LocalDate from, LocalDate to) {
+    if (!properties.isEnabled()) {
+      return Optional.empty();
+    }
+    return planOccurrenceRepository.findHorizon()
+        .filter(horizon -> horizon.covers(from, to))
+        .map(horizon -> planOccurrenceRepository.findInRange(from, to));
+  }
+
+  /**
+   * 변경된 Plan의 발생 일자를 다시 구체화 (Plan을 변경한 트랜잭션의 커밋 직전에 실행)
+   */
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+  public void onPlanChanged(PlanChangedEvent event) {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    Optional<OccurrenceHorizon> horizon = planOccurrenceRepository.findHorizonForShare();
+    if (horizon.isEmpty()) {
+      return; // 최초 구체화 전에는 범위 확장 작업이 전체를 채운다
+    }
+
+    planRepository.flush(); // 새 Plan 행이 있어야 plan_occurrences FK를 만족
+    planOccurrenceRepository.deleteByPlanIds(event.getPlanIds());
+
+    List<PlanOccurrence> buffer = new ArrayList<>();
+    for (Plan plan : planRepository.findAllWithRecurrenceRuleByIdIn(event.getPlanIds())) { // 삭제된 Plan은 조회되지 않음
+      collect(plan, horizon.get().getValidFrom(), horizon.get().getValidTo(), buffer);
+    }
+    planOccurrenceRepository.insertAll(buffer);
+  }
+
+  /**
+   * 구체화 범위를 [오늘, 오늘 + horizonMonths]로 이동 (OccurrenceHorizonJob이 시작 시, 매일 실행)
+   */
+  @Transactional
+  public void advanceHorizon() {
+    if (properties.isEnabled()) {
+      advance();
+    }
+  }
+
+  private void advance() {
+    LocalDate today = LocalDate.now();
+    LocalDate validTo = today.plusMonths(properties.getHorizonMonths());
+    Optional<OccurrenceHorizon> current = planOccurrenceRepository.findHorizonForUpdate();
+
+    // 이전 범위에 이어서 새로 들어온 날짜만 구체화 (범위가 없거나 이미 지났으면 전체)
+    LocalDate sliceFrom = current
+        .map(horizon -> horizon.getValidTo().plusDays(1))
+        .filter(date -> date.isAfter(today))
+        .orElse(today);
+
+    planOccurrenceRepository.deleteBefore(today);
+    if (!sliceFrom.isAfter(validTo)) {
+      List<PlanOccurrence> buffer = new ArrayList<>();
+      try (Stream<Plan> plans = planRepository.streamAllOverlapping(sliceFrom, validTo)) {
+        plans.forEach(plan -> {
+          collect(plan, sliceFrom, validTo, buffer);
+          if (buffer.size() >= FLUSH_SIZE) {
+            planOccurrenceRepository.insertAll(buffer);
+            buffer.clear();
+          }
+          entityManager.detach(plan);
+        });
+      }
+      planOccurrenceRepository.insertAll(buffer);
+    }
+    planOccurrenceRepository.saveHorizon(new OccurrenceHorizon(today, validTo));
+    log.info("Plan occurrences materialized through {} (new slice from {})", validTo, sliceFrom);
+  }
+
+  // 커밋 전 상태(onPlanChanged)로도 호출되므로 공유 캐시(OccurrenceMonthCache)를 채우지 않는다
+  private void collect(Plan plan, LocalDate from, LocalDate to, List<PlanOccurrence> buffer) {
+    if (!plan.hasRecurrenceRule()) {
+      return; // 기간으로 조회 (구체화하지 않음)
+    }
+    planDomainService.uncachedOccurrenceIterator(plan, from, to)
+        .forEachRemaining(date -> buffer.add(new PlanOccurrence(date, plan)));
+  }
+}
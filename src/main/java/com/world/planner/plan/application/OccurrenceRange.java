@@ -0,0 +1,33 @@
+package com.world.planner.plan.application;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 발생 일자 전개 기간 검증
+ */
+public final class OccurrenceRange {
+
+  // 한 번에 전개할 수 있는 최대 기간 (일)
+  public static final long MAX_DAYS = 366;
+
+  private OccurrenceRange() {
+  }
+
+  /**
+   * @param from 검색 시작 날짜
+   * @param to   검색 종료 날짜
+   * @throws IllegalArgumentException 기간이 없거나, 역전되었거나, 최대 기간을 넘는 경우
+   */
+  public static void validate(LocalDate from, LocalDate to) {
+    if (from == null || to == null) {
+      throw new IllegalArgumentException("Both start date and end date are required.");
+    }
+    if (from.isAfter(to)) {
+      throw new IllegalArgumentException("Start date must be before or equal to the end date.");
+    }
+    if (ChronoUnit.DAYS.between(from, to) >= MAX_DAYS) {
+      throw new IllegalArgumentException("Occurrence range must not exceed " + MAX_DAYS + " days.");
+    }
+  }
+}
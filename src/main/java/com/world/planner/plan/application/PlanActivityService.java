@@ -0,0 +1,115 @@
+package com.world.planner.plan.application;
+
+import com.world.planner.plan.domain.Plan;
+import com.world.planner.plan.domain.PlanDomainService;
+import com.world.planner.plan.infrastructure.repository.PlanRepository;
+import com.world.planner.plan.presentation.dto.response.ActivePlansResponse;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 여러 Plan의 날짜별 활성 여부 일괄 판정.
+ * Plan을 CHUNK_SIZE 단위로 읽어 요청 스레드에서 순차적으로 isPlanActive를 평가하고,
+ * 평가가 끝난 청크의 Plan은 영속성 컨텍스트에서 분리(detach)해 힙 사용량을 일정하게 유지한다.
+ * 커서가 열려 있는 동안 영속성 컨텍스트 전체를 비우지 않도록 clear 대신 청크 단위 detach를 사용한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PlanActivityService {
+
+  // 한 요청에서 확인할 수 있는 최대 날짜 수
+  public static final int MAX_DATES = 31;
+
+  // 한 요청에서 지정할 수 있는 최대 Plan ID 수
+  public static final int MAX_PLAN_IDS = 50_000;
+
+  // 한 번에 읽어 평가하는 Plan 수
+  private static final int CHUNK_SIZE = 2_000;
+
+  private final PlanRepository planRepository;
+  private final PlanDomainService planDomainService;
+  private final EntityManager entityManager;
+
+  /**
+   * 날짜별로 활성 상태인 Plan ID 조회
+   *
+   * @param dates   확인할 날짜 리스트
+   * @param planIds 확인할 Plan ID 집합 (null이면 전체 Plan)
+   * @return 날짜 순으로 정렬된 날짜별 활성 Plan ID 목록
+   */
+  @Transactional(readOnly = true)
+  public List<ActivePlansResponse> findActivePlanIds(List<LocalDate> dates, Collection<UUID> planIds) {
+    validate(dates, planIds);
+    List<LocalDate> checkDates = dates.stream().distinct().sorted().toList();
+
+    Map<LocalDate, List<UUID>> activePlanIds = new TreeMap<>();
+    checkDates.forEach(date -> activePlanIds.put(date, new ArrayList<>()));
+
+    if (planIds == null) {
+      // 확인할 날짜 범위와 적용 기간이 겹치는 Plan만 서버 측 커서로 조회
+      LocalDate from = checkDates.get(0);
+      LocalDate to = checkDates.get(checkDates.size() - 1);
+      try (Stream<Plan> plans = planRepository.streamAllOverlapping(from, to)) {
+        Iterator<Plan> iterator = plans.iterator();
+        List<Plan> chunk = new ArrayList<>(CHUNK_SIZE);
+        while (iterator.hasNext()) {
+          chunk.add(iterator.next());
+          if (chunk.size() == CHUNK_SIZE) {
+            evaluateChunk(chunk, checkDates, activePlanIds);
+            chunk.clear();
+          }
+        }
+        evaluateChunk(chunk, checkDates, activePlanIds);
+      }
+    } else {
+      List<UUID> ids = List.copyOf(planIds);
+      for (int start = 0; start < ids.size(); start += CHUNK_SIZE) {
+        List<UUID> chunkIds = ids.subList(start, Math.min(start + CHUNK_SIZE, ids.size()));
+        evaluateChunk(planRepository.findAllWithRecurrenceRuleByIdIn(chunkIds), checkDates, activePlanIds);
+      }
+    }
+
+    return activePlanIds.entrySet().stream()
+        .map(entry -> ActivePlansResponse.builder()
+            .date(entry.getKey())
+            .planIds(entry.getValue())
+            .build())
+        .toList();
+  }
+
+  // 청크의 Plan을 평가해 날짜별 결과에 추가한 뒤 영속성 컨텍스트에서 분리
+  private void evaluateChunk(List<Plan> chunk, List<LocalDate> dates, Map<LocalDate, List<UUID>> activePlanIds) {
+    for (Plan plan : chunk) {
+      for (LocalDate date : dates) {
+        if (planDomainService.isPlanActive(plan, date)) {
+          activePlanIds.get(date).add(plan.getId());
+        }
+      }
+      // Plan → RecurrenceRule은 cascade ALL이므로 규칙도 함께 분리된다
+      entityManager.detach(plan);
+    }
+  }
+
+  private void validate(List<LocalDate> dates, Collection<UUID> planIds) {
+    if (dates == null || dates.isEmpty() || dates.contains(null)) {
+      throw new IllegalArgumentException("At least one date must be specified.");
+    }
+    if (dates.size() > MAX_DATES) {
+      throw new IllegalArgumentException("No more than " + MAX_DATES + " dates can be checked at once.");
+    }
+    if (planIds != null && planIds.size() > MAX_PLAN_IDS) {
+      throw new IllegalArgumentException("No more than " + MAX_PLAN_IDS + " plan IDs can be checked at once.");
+    }
+  }
+}
@@ -0,0 +1,227 @@
+package com.world.planner.plan.application;
+
+import com.world.planner.plan.domain.Plan;
+import com.world.planner.plan.domain.PlanChangedEvent;
+import com.world.planner.plan.domain.recurrence.RecurrenceRule;
+import com.world.planner.plan.infrastructure.cache.OccurrenceMonthCache;
+import com.world.planner.plan.infrastructure.repository.PlanRepository;
+import com.world.planner.plan.presentation.dto.request.CreatePlanRequest;
+import com.world.planner.plan.presentation.dto.request.PlanRecurrenceRuleRequest;
+import com.world.planner.plan.presentation.dto.request.RecurrenceRuleRequest;
+import com.world.planner.plan.presentation.dto.response.BatchItemResultResponse;
+import com.world.planner.plan.presentation.dto.response.BatchResultResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Plan 일괄 생성 / 반복 규칙 일괄 지정.
+ * 요청을 CHUNK_SIZE 단위 트랜잭션으로 나누어 처리하고, 청크마다 flush 후 영속성 컨텍스트를 비워
+ * INSERT가 JDBC 배치(hibernate.jdbc.batch_size)로 묶이도록 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlanBatchService {
+
+  // 한 요청에서 처리할 수 있는 최대 항목 수
+  public static final int MAX_BATCH_ITEMS = 50_000;
+
+  // 트랜잭션 하나로 커밋하는 항목 수
+  private static final int CHUNK_SIZE = 1_000;
+
+  private final PlanRepository planRepository;
+  private final RecurrenceRuleService recurrenceRuleService;
+  private final OccurrenceMonthCache occurrenceMonthCache;
+  private final EntityManager entityManager;
+  private final TransactionTemplate transactionTemplate;
+  private final Validator validator;
+  private final ApplicationEventPublisher eventPublisher;
+
+  /**
+   * Plan 일괄 생성
+   *
+   * @param requests Plan 생성 요청 리스트
+   * @return 요청 순서대로 정렬된 항목별 결과
+   */
+  public BatchResultResponse createPlans(List<CreatePlanRequest> requests) {
+    validateBatchSize(requests);
+    return processInChunks(requests, request -> null, (indexes, results) -> {
+      for (int index : indexes) {
+        CreatePlanRequest request = requests.get(index);
+        try {
+          Plan plan = Plan.create(request.getTitle(), request.getDescription(), request.getStartDate(), request.getEndDate());
+          planRepository.save(plan);
+          results[index] = BatchItemResultResponse.succeeded(index, plan.getId());
+        } catch (IllegalArgumentException e) {
+          results[index] = BatchItemResultResponse.failed(index, null, e.getMessage());
+        }
+      }
+    });
+  }
+
+  /**
+   * 여러 Plan에 RecurrenceRule 일괄 추가 또는 수정
+   *
+   * @param requests (Plan ID, 반복 규칙) 요청 리스트
+   * @return 요청 순서대로 정렬된 항목별 결과
+   */
+  public BatchResultResponse addOrUpdateRecurrenceRules(List<PlanRecurrenceRuleRequest> requests) {
+    validateBatchSize(requests);
+    return processInChunks(requests, PlanRecurrenceRuleRequest::getPlanId, (indexes, results) -> {
+      // 청크에 포함된 Plan을 한 번에 조회
+      Map<UUID, Plan> plans = planRepository.findAllWithRecurrenceRuleByIdIn(
+              indexes.stream().map(index -> requests.get(index).getPlanId()).collect(Collectors.toSet()))
+          .stream()
+          .collect(Collectors.toMap(Plan::getId, Function.identity()));
+      Set<UUID> replacedRuleIds = new HashSet<>();
+
+      for (int index : indexes) {
+        PlanRecurrenceRuleRequest request = requests.get(index);
+        Plan plan = plans.get(request.getPlanId());
+        if (plan == null) {
+          results[index] = BatchItemResultResponse.failed(index, request.getPlanId(), "Plan not found with ID: " + request.getPlanId());
+          continue;
+        }
+        try {
+          RecurrenceRuleRequest rule = request.getRecurrenceRule();
+          RecurrenceRule recurrenceRule = recurrenceRuleService.createRule(
+              rule.getRuleType(),
+              rule.getInterval(),
+              rule.getDaysOfWeek(),
+              rule.getDaysOfMonth(),
+              rule.getMonthsOfYear(),
+              plan.getStartDate()
+          );
+          UUID previousRuleId = plan.hasRecurrenceRule() ? plan.getRecurrenceRule().getId() : null;
+          if (plan.changeRecurrenceRule(recurrenceRule) && previousRuleId != null) {
+            replacedRuleIds.add(previousRuleId);
+          }
+          results[index] = BatchItemResultResponse.succeeded(index, plan.getId());
+        } catch (IllegalArgumentException e) {
+          results[index] = BatchItemResultResponse.failed(index, plan.getId(), e.getMessage());
+        }
+      }
+      evictAfterCommit(replacedRuleIds);
+    });
+  }
+
+  /**
+   * 요청을 청크 단위 트랜잭션으로 처리.
+   * 검증에 실패한 항목은 청크에서 제외하고, 청크 커밋이 DB 오류로 실패하면 해당 청크만 항목별 트랜잭션으로 다시 처리해
+   * 문제 항목만 실패로 기록한다.
+   *
+   * @param planIdOf 실패 결과에 담을 요청의 Plan ID (생성 요청은 null)
+   */
+  private <T> BatchResultResponse processInChunks(List<T> requests, Function<T, UUID> planIdOf, ChunkWriter writer) {
+    BatchItemResultResponse[] results = new BatchItemResultResponse[requests.size()];
+
+    for (int start = 0; start < requests.size(); start += CHUNK_SIZE) {
+      int end = Math.min(start + CHUNK_SIZE, requests.size());
+      List<Integer> chunk = new ArrayList<>(end - start);
+      for (int index = start; index < end; index++) {
+        T request = requests.get(index);
+        String violation = firstViolation(request);
+        if (violation != null) {
+          results[index] = BatchItemResultResponse.failed(index, request == null ? null : planIdOf.apply(request), violation);
+        } else {
+          chunk.add(index);
+        }
+      }
+      if (chunk.isEmpty()) {
+        continue;
+      }
+
+      try {
+        writeChunk(chunk, writer, results);
+      } catch (DataAccessException e) {
+        log.warn("Batch chunk [{}, {}) failed, retrying item by item: {}", start, end, e.getMessage());
+        chunk.forEach(index -> results[index] = null); // 롤백된 청크에서 기록한 결과는 버림
+        for (int index : chunk) {
+          try {
+            writeChunk(List.of(index), writer, results);
+          } catch (DataAccessException itemException) {
+            results[index] = BatchItemResultResponse.failed(index, planIdOf.apply(requests.get(index)),
+                NestedExceptionUtils.getMostSpecificCause(itemException).getMessage());
+          }
+        }
+      }
+    }
+    return BatchResultResponse.of(Arrays.asList(results));
+  }
+
+  private void writeChunk(List<Integer> indexes, ChunkWriter writer, BatchItemResultResponse[] results) {
+    transactionTemplate.executeWithoutResult(status -> {
+      writer.write(indexes, results);
+      List<UUID> changedPlanIds = indexes.stream()
+          .map(index -> results[index])
+          .filter(BatchItemResultResponse::isSuccess)
+          .map(BatchItemResultResponse::getPlanId)
+          .toList();
+      if (!changedPlanIds.isEmpty()) {
+        eventPublisher.publishEvent(new PlanChangedEvent(changedPlanIds));
+      }
+      planRepository.flush(); // JDBC 배치로 INSERT/UPDATE 실행 (DB 오류는 DataAccessException으로 변환됨)
+      entityManager.clear();  // 다음 청크를 위해 영속성 컨텍스트 비우기
+    });
+  }
+
+  // 교체된 규칙의 캐시 항목은 청크가 커밋된 뒤에 제거 (롤백되면 이전 규칙이 그대로 쓰임)
+  private void evictAfterCommit(Set<UUID> ruleIds) {
+    if (ruleIds.isEmpty()) {
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        occurrenceMonthCache.evictAll(ruleIds);
+      }
+    });
+  }
+
+  // Bean Validation 위반 메시지 (위반이 없으면 null)
+  private String firstViolation(Object request) {
+    if (request == null) {
+      return "Item must not be null.";
+    }
+    return validator.validate(request).stream()
+        .map(ConstraintViolation::getMessage)
+        .sorted()
+        .findFirst()
+        .orElse(null);
+  }
+
+  private void validateBatchSize(List<?> requests) {
+    if (requests == null || requests.isEmpty()) {
+      throw new IllegalArgumentException("Batch must contain at least one item.");
+    }
+    if (requests.size() > MAX_BATCH_ITEMS) {
+      throw new IllegalArgumentException("Batch must not contain more than " + MAX_BATCH_ITEMS + " items.");
+    }
+  }
+
+  // 청크에 포함된 항목을 현재 트랜잭션 안에서 처리하고 결과를 기록
+  @FunctionalInterface
+  private interface ChunkWriter {
+
+    void write(List<Integer> indexes, BatchItemResultResponse[] results);
+  }
+}
@@ -0,0 +1,38 @@
+package com.world.planner.plan.application;
+
+import com.world.planner.plan.domain.PlanChangedEvent;
+import com.world.planner.plan.domain.PlanDeletedEvent;
+import com.world.planner.plan.infrastructure.repository.PlanCollectionRevisionRepository;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 전체 Plan 변경 번호 관리.
+ * Plan을 바꾸거나 지운 트랜잭션의 커밋 직전에 번호를 올리므로, 같은 번호는 항상 같은 Plan 집합을 뜻하고
+ * 삭제 후에도 ETag와 Last-Modified가 앞으로만 움직인다. 증가는 단일 UPDATE 문이므로 조회 후 갱신 사이의 경합이 없고,
+ * 행 잠금은 커밋 직전부터만 잡으므로 쓰기 간 대기는 짧다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PlanCollectionRevisionService {
+
+  private final PlanCollectionRevisionRepository planCollectionRevisionRepository;
+
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+  public void onPlanChanged(PlanChangedEvent event) {
+    advance();
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+  public void onPlanDeleted(PlanDeletedEvent event) {
+    advance();
+  }
+
+  // 행은 Flyway(V12)가, ddl-auto로 만든 스키마(local)에서는 import.sql이 만든다
+  private void advance() {
+    planCollectionRevisionRepository.advance(LocalDateTime.now());
+  }
+}
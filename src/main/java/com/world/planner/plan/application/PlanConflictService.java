@@ -0,0 +1,90 @@
+package com.world.planner.plan.application;
+
+import com.world.planner.plan.domain.Plan;
+import com.world.planner.plan.domain.PlanDomainService;
+import com.world.planner.plan.domain.PlanOccurrence;
+import com.world.planner.plan.infrastructure.metrics.PlanMetrics;
+import com.world.planner.plan.infrastructure.repository.PlanRepository;
+import com.world.planner.plan.presentation.dto.request.PlanConflictRequest;
+import com.world.planner.plan.presentation.dto.request.RecurrenceRuleRequest;
+import com.world.planner.plan.presentation.dto.response.PlanConflictsResponse;
+import com.world.planner.plan.presentation.dto.response.PlanOccurrenceResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 후보 Plan(저장하지 않음)과 기존 Plan의 날짜 충돌 검사
+ */
+@Service
+@RequiredArgsConstructor
+public class PlanConflictService {
+
+  private final PlanRepository planRepository;
+  private final PlanDomainService planDomainService;
+  private final RecurrenceRuleService recurrenceRuleService;
+  private final PlanMetrics planMetrics;
+
+  /**
+   * 후보 Plan이 발생하는 날짜에 함께 발생하는 기존 Plan 조회
+   *
+   * @param request 후보 Plan과 (선택적) 검사 기간
+   * @return 검사 기간과 (날짜, Plan ID) 순으로 정렬된 충돌 발생 일자
+   */
+  @Transactional(readOnly = true)
+  public PlanConflictsResponse findConflicts(PlanConflictRequest request) {
+    Plan candidate = toCandidate(request);
+    LocalDate from = request.getFrom() != null ? request.getFrom() : candidate.getStartDate();
+    LocalDate to = request.getTo() != null ? request.getTo() : defaultEndDate(candidate, from);
+    OccurrenceRange.validate(from, to);
+
+    List<LocalDate> candidateDates = new ArrayList<>(); // 검사 기간 길이 이하
+    planDomainService.occurrenceIterator(candidate, from, to).forEachRemaining(candidateDates::add);
+    List<PlanOccurrence> conflicts = candidateDates.isEmpty()
+        ? List.of()
+        : findConflicts(candidateDates);
+
+    return PlanConflictsResponse.builder()
+        .from(from)
+        .to(to)
+        .candidateOccurrences(candidateDates.size())
+        .conflicts(conflicts.stream()
+            .map(PlanOccurrenceResponse::fromOccurrence)
+            .toList())
+        .build();
+  }
+
+  private List<PlanOccurrence> findConflicts(List<LocalDate> candidateDates) {
+    LocalDate first = candidateDates.get(0);
+    LocalDate last = candidateDates.get(candidateDates.size() - 1);
+    List<Plan> plans = planRepository.findAllOverlapping(first, last); // 후보 발생 기간과 겹치는 Plan만 조회
+    return planMetrics.observeCalculation(PlanMetrics.MIXED, PlanMetrics.windowDays(first, last),
+        () -> planDomainService.findConflicts(candidateDates, plans));
+  }
+
+  private Plan toCandidate(PlanConflictRequest request) {
+    Plan candidate = Plan.create("", "", request.getStartDate(), request.getEndDate());
+    RecurrenceRuleRequest rule = request.getRecurrenceRule();
+    if (rule != null) {
+      candidate.addRecurrenceRule(recurrenceRuleService.createRule(
+          rule.getRuleType(),
+          rule.getInterval(),
+          rule.getDaysOfWeek(),
+          rule.getDaysOfMonth(),
+          rule.getMonthsOfYear(),
+          candidate.getStartDate()
+      ));
+    }
+    return candidate;
+  }
+
+  // 후보 Plan 종료 날짜와 최대 검사 기간 중 이른 날짜
+  private LocalDate defaultEndDate(Plan candidate, LocalDate from) {
+    LocalDate maxEndDate = from.plusDays(OccurrenceRange.MAX_DAYS - 1);
+    LocalDate endDate = candidate.getEndDate();
+    return endDate != null && !endDate.isBefore(from) && endDate.isBefore(maxEndDate) ? endDate : maxEndDate;
+  }
+}
@@ -0,0 +1,53 @@
+package com.world.planner.plan.application;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Plan 목록 키셋 페이지네이션 커서 (start_date, id).
+ * 클라이언트에는 Base64 URL-safe 문자열로 전달한다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class PlanCursor {
+
+  private static final String DELIMITER = "|";
+
+  private final LocalDate startDate;
+  private final UUID id;
+
+  public static PlanCursor of(LocalDate startDate, UUID id) {
+    return new PlanCursor(startDate, id);
+  }
+
+  /**
+   * 커서 문자열 해석
+   *
+   * @param cursor 커서 문자열 (null 또는 빈 문자열이면 첫 페이지)
+   * @return PlanCursor (첫 페이지면 null)
+   * @throws IllegalArgumentException 잘못된 커서인 경우
+   */
+  public static PlanCursor decode(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return null;
+    }
+    try {
+      String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int index = decoded.indexOf(DELIMITER);
+      return new PlanCursor(LocalDate.parse(decoded.substring(0, index)), UUID.fromString(decoded.substring(index + 1)));
+    } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+      throw new IllegalArgumentException("Invalid cursor: " + cursor);
+    }
+  }
+
+  public String encode() {
+    String raw = startDate + DELIMITER + id;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,87 @@
+package com.world.planner.plan.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.world.planner.plan.domain.Plan;
+import com.world.planner.plan.domain.PlanDomainService;
+import com.world.planner.plan.infrastructure.repository.PlanRepository;
+import com.world.planner.plan.presentation.dto.response.PlanExportResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+@RequiredArgsConstructor
+public class PlanExportService {
+
+  private static final byte LINE_SEPARATOR = '\n';
+
+  // 한 트랜잭션에서 읽는 Plan 수
+  private static final int PAGE_SIZE = 500;
+
+  private final PlanRepository planRepository;
+  private final PlanDomainService planDomainService;
+  private final TransactionTemplate transactionTemplate;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * 내보내기 조건 검증 (응답 스트림을 열기 전에 호출)
+   *
+   * @param includeOccurrences 발생 일자 포함 여부
+   * @param from               발생 일자 검색 시작 날짜
+   * @param to                 발생 일자 검색 종료 날짜
+   */
+  public void validateExport(boolean includeOccurrences, LocalDate from, LocalDate to) {
+    if (includeOccurrences) {
+      OccurrenceRange.validate(from, to);
+    }
+  }
+
+  /**
+   * 전체 Plan을 NDJSON(한 줄에 Plan 하나)으로 출력.
+   * (시작 날짜, ID) 키셋으로 PAGE_SIZE개씩 짧은 읽기 전용 트랜잭션에서 읽고 트랜잭션 밖에서 쓰므로,
+   * 테이블 크기와 무관하게 힙 사용량이 일정하고 느린 클라이언트가 커넥션이나 커서를 붙잡지 않는다.
+   *
+   * @param out                출력 스트림
+   * @param includeOccurrences 발생 일자 포함 여부
+   * @param from               발생 일자 검색 시작 날짜
+   * @param to                 발생 일자 검색 종료 날짜
+   */
+  public void exportPlans(OutputStream out, boolean includeOccurrences, LocalDate from, LocalDate to) throws IOException {
+    validateExport(includeOccurrences, from, to);
+    TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+    readOnlyTransaction.setReadOnly(true); // 복제본에서 읽음
+
+    List<Plan> page = List.of();
+    do {
+      Plan last = page.isEmpty() ? null : page.get(page.size() - 1);
+      // 반복 규칙은 함께 로딩되고 응답은 규칙 행의 마스크만 읽으므로 트랜잭션 밖에서도 지연 로딩이 일어나지 않는다
+      page = readOnlyTransaction.execute(status -> last == null
+          ? planRepository.findPage(Limit.of(PAGE_SIZE))
+          : planRepository.findPageAfter(last.getStartDate(), last.getId(), Limit.of(PAGE_SIZE)));
+      for (Plan plan : page) {
+        List<LocalDate> occurrences = includeOccurrences ? collectOccurrences(plan, from, to) : null;
+        writeLine(out, PlanExportResponse.fromEntity(plan, occurrences));
+      }
+    } while (page.size() == PAGE_SIZE);
+    out.flush();
+  }
+
+  private List<LocalDate> collectOccurrences(Plan plan, LocalDate from, LocalDate to) {
+    List<LocalDate> occurrences = new ArrayList<>();
+    Iterator<LocalDate> iterator = planDomainService.occurrenceIterator(plan, from, to);
+    iterator.forEachRemaining(occurrences::add);
+    return occurrences;
+  }
+
+  private void writeLine(OutputStream out, PlanExportResponse line) throws IOException {
+    out.write(objectMapper.writeValueAsBytes(line));
+    out.write(LINE_SEPARATOR);
+  }
+}
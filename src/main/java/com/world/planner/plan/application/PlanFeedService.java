@@ -0,0 +1,135 @@
+package com.world.planner.plan.application;
+
+import com.world.planner.plan.domain.Plan;
+import com.world.planner.plan.domain.PlanChangedEvent;
+import com.world.planner.plan.infrastructure.cache.PlanFeedCache;
+import com.world.planner.plan.infrastructure.ical.IcsWriter;
+import com.world.planner.plan.infrastructure.repository.PlanFeedVersionProjection;
+import com.world.planner.plan.infrastructure.repository.PlanRepository;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * iCalendar(.ics) 구독 피드.
+ * DB에서는 Plan ID와 버전만 (시작 날짜, ID) 키셋으로 CHUNK_SIZE개씩 읽고, 버전이 같은 VEVENT는 PlanFeedCache의 바이트를 그대로 응답 스트림에 쓴다.
+ * 캐시에 없거나 버전이 바뀐 Plan만 청크마다 한 번에 로딩해 다시 만들므로 반복 폴링은 대부분 메모리에서 처리된다.
+ * 청크마다 짧은 읽기 전용 트랜잭션에서 읽고 만든 뒤 트랜잭션 밖에서 쓰므로, 느린 클라이언트가 커넥션이나 커서를 붙잡지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PlanFeedService {
+
+  // planIds로 지정할 수 있는 최대 Plan 수
+  public static final int MAX_PLAN_IDS = 1_000;
+
+  // 한 트랜잭션에서 읽는 Plan 수
+  private static final int CHUNK_SIZE = 500;
+
+  private final PlanRepository planRepository;
+  private final PlanFeedCache planFeedCache;
+  private final TransactionTemplate transactionTemplate;
+
+  /**
+   * 피드 조건 검증 (응답 스트림을 열기 전에 호출)
+   *
+   * @param planIds 포함할 Plan ID 목록 (null이면 전체)
+   */
+  public void validateFeed(Collection<UUID> planIds) {
+    if (planIds != null && planIds.size() > MAX_PLAN_IDS) {
+      throw new IllegalArgumentException("No more than " + MAX_PLAN_IDS + " plan IDs can be requested at once.");
+    }
+  }
+
+  /**
+   * Plan을 시작 날짜 순 VEVENT로 담은 VCALENDAR 출력
+   *
+   * @param out     출력 스트림
+   * @param planIds 포함할 Plan ID 목록 (null이면 전체, 없는 ID는 무시)
+   */
+  public void writeFeed(OutputStream out, Collection<UUID> planIds) throws IOException {
+    validateFeed(planIds);
+    TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+    readOnlyTransaction.setReadOnly(true); // 복제본에서 읽음
+
+    out.write(IcsWriter.CALENDAR_HEADER);
+    if (planIds == null) {
+      List<PlanFeedVersionProjection> chunk = List.of();
+      do {
+        PlanFeedVersionProjection last = chunk.isEmpty() ? null : chunk.get(chunk.size() - 1);
+        chunk = readOnlyTransaction.execute(status -> last == null
+            ? planRepository.findFeedVersions(Limit.of(CHUNK_SIZE))
+            : planRepository.findFeedVersionsAfter(last.getStartDate(), last.getPlanId(), Limit.of(CHUNK_SIZE)));
+        writeChunk(out, chunk, readOnlyTransaction);
+      } while (chunk.size() == CHUNK_SIZE);
+    } else {
+      List<PlanFeedVersionProjection> versions = readOnlyTransaction.execute(
+          status -> planRepository.findFeedVersionsByIdIn(planIds));
+      for (int start = 0; start < versions.size(); start += CHUNK_SIZE) {
+        writeChunk(out, versions.subList(start, Math.min(start + CHUNK_SIZE, versions.size())), readOnlyTransaction);
+      }
+    }
+    out.write(IcsWriter.CALENDAR_FOOTER);
+    out.flush();
+  }
+
+  /**
+   * 변경된 Plan의 캐시 항목 제거 (Plan을 변경한 트랜잭션의 커밋 후)
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onPlanChanged(PlanChangedEvent event) {
+    planFeedCache.evictAll(event.getPlanIds());
+  }
+
+  // 청크를 순서대로 출력 (캐시에 없는 Plan은 한 트랜잭션에서 한 번에 로딩해 만들고 캐시에 저장)
+  private void writeChunk(OutputStream out, List<PlanFeedVersionProjection> chunk, TransactionTemplate readOnlyTransaction)
+      throws IOException {
+    byte[][] bodies = new byte[chunk.size()][];
+    List<UUID> missingPlanIds = new ArrayList<>();
+    for (int index = 0; index < chunk.size(); index++) {
+      PlanFeedVersionProjection version = chunk.get(index);
+      bodies[index] = planFeedCache.get(version.getPlanId(), version.getPlanVersion(), version.getRuleVersion());
+      if (bodies[index] == null) {
+        missingPlanIds.add(version.getPlanId());
+      }
+    }
+
+    if (!missingPlanIds.isEmpty()) {
+      Map<UUID, byte[]> rendered = readOnlyTransaction.execute(status -> render(missingPlanIds));
+      for (int index = 0; index < chunk.size(); index++) {
+        if (bodies[index] == null) {
+          bodies[index] = rendered.get(chunk.get(index).getPlanId()); // 그 사이 삭제된 Plan은 null
+        }
+      }
+    }
+
+    for (byte[] body : bodies) {
+      if (body != null) {
+        out.write(body);
+      }
+    }
+  }
+
+  private Map<UUID, byte[]> render(List<UUID> planIds) {
+    Map<UUID, byte[]> rendered = new HashMap<>();
+    for (Plan plan : planRepository.findAllWithRecurrenceRuleByIdIn(planIds)) {
+      byte[] body = IcsWriter.renderEvent(plan);
+      // 버전을 읽은 뒤 바뀐 Plan도 로딩한 버전 그대로 캐시 (다음 조회에서 버전 비교로 걸러짐)
+      planFeedCache.put(plan.getId(), plan.getVersion(),
+          plan.hasRecurrenceRule() ? plan.getRecurrenceRule().getVersion() : null, body);
+      rendered.put(plan.getId(), body);
+    }
+    return rendered;
+  }
+}
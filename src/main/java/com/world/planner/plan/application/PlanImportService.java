@@ -0,0 +1,179 @@
+package com.world.planner.plan.application;
+
+import com.world.planner.plan.domain.Plan;
+import com.world.planner.plan.domain.PlanChangedEvent;
+import com.world.planner.plan.domain.recurrence.RRule;
+import com.world.planner.plan.domain.recurrence.RecurrenceRule;
+import com.world.planner.plan.infrastructure.ical.IcsEvent;
+import com.world.planner.plan.infrastructure.ical.IcsEventReader;
+import com.world.planner.plan.infrastructure.repository.PlanRepository;
+import com.world.planner.plan.presentation.dto.response.BatchItemResultResponse;
+import com.world.planner.plan.presentation.dto.response.BatchResultResponse;
+import jakarta.persistence.EntityManager;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * iCalendar(.ics) 가져오기.
+ * VEVENT를 스트림에서 하나씩 읽어 CHUNK_SIZE개마다 트랜잭션 하나로 저장하므로 파일 전체를 메모리에 올리지 않는다.
+ * 청크 커밋이 DB 오류로 실패하면 PlanBatchService와 같이 해당 청크만 항목별 트랜잭션으로 다시 처리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlanImportService {
+
+  // .ics 본문 Content-Type
+  public static final String CALENDAR_MEDIA_TYPE = "text/calendar";
+
+  // 한 번에 가져올 수 있는 최대 VEVENT 수
+  public static final int MAX_IMPORT_EVENTS = PlanBatchService.MAX_BATCH_ITEMS;
+
+  // 트랜잭션 하나로 커밋하는 VEVENT 수
+  private static final int CHUNK_SIZE = 1_000;
+
+  private static final int MAX_TITLE_LENGTH = 100;
+  private static final int MAX_DESCRIPTION_LENGTH = 500;
+
+  private final PlanRepository planRepository;
+  private final EntityManager entityManager;
+  private final TransactionTemplate transactionTemplate;
+  private final ApplicationEventPublisher eventPublisher;
+
+  /**
+   * .ics 파일의 VEVENT를 Plan으로 가져오기 (SUMMARY → 제목, DESCRIPTION → 설명, DTSTART / DTEND / RRULE → 기간과 반복 규칙).
+   * 반복 일정의 종료 날짜는 RRULE의 UNTIL / COUNT로 정하고, 반복하지 않는 종일 일정의 DTEND는 포함하지 않는 다음 날로 본다.
+   *
+   * @param in UTF-8 .ics 스트림
+   * @return 파일 내 VEVENT 순서대로 정렬된 항목별 결과 (실패 사유에 BEGIN:VEVENT 줄 번호 포함)
+   */
+  public BatchResultResponse importCalendar(InputStream in) throws IOException {
+    List<BatchItemResultResponse> results = new ArrayList<>();
+    List<IcsEvent> chunk = new ArrayList<>(CHUNK_SIZE);
+    IcsEvent firstSkipped = null;
+
+    try (IcsEventReader events = new IcsEventReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+      while (events.hasNext()) {
+        IcsEvent event = events.next();
+        if (results.size() == MAX_IMPORT_EVENTS) {
+          firstSkipped = event;
+          break;
+        }
+        results.add(null); // 청크 저장 후 채움
+        chunk.add(event);
+        if (chunk.size() == CHUNK_SIZE) {
+          writeChunk(chunk, results.size() - chunk.size(), results);
+          chunk.clear();
+        }
+      }
+    } catch (UncheckedIOException e) {
+      throw e.getCause(); // 클라이언트 연결 종료 등
+    }
+    if (!chunk.isEmpty()) {
+      writeChunk(chunk, results.size() - chunk.size(), results);
+    }
+    if (firstSkipped != null) {
+      results.add(BatchItemResultResponse.failed(MAX_IMPORT_EVENTS, null, "Line " + firstSkipped.getLineNumber()
+          + ": no more than " + MAX_IMPORT_EVENTS + " events can be imported at once; this and later events were skipped."));
+    }
+    return BatchResultResponse.of(results);
+  }
+
+  // 청크 저장 (DB 오류 시 항목별 트랜잭션으로 다시 처리)
+  private void writeChunk(List<IcsEvent> chunk, int firstIndex, List<BatchItemResultResponse> results) {
+    try {
+      saveEvents(chunk, firstIndex, results);
+    } catch (DataAccessException e) {
+      log.warn("Import chunk [{}, {}) failed, retrying event by event: {}", firstIndex, firstIndex + chunk.size(), e.getMessage());
+      for (int offset = 0; offset < chunk.size(); offset++) {
+        int index = firstIndex + offset;
+        try {
+          saveEvents(List.of(chunk.get(offset)), index, results);
+        } catch (DataAccessException itemException) {
+          results.set(index, BatchItemResultResponse.failed(
+              index, null, NestedExceptionUtils.getMostSpecificCause(itemException).getMessage()));
+        }
+      }
+    }
+  }
+
+  private void saveEvents(List<IcsEvent> events, int firstIndex, List<BatchItemResultResponse> results) {
+    transactionTemplate.executeWithoutResult(status -> {
+      List<UUID> createdPlanIds = new ArrayList<>(events.size());
+      for (int offset = 0; offset < events.size(); offset++) {
+        int index = firstIndex + offset;
+        IcsEvent event = events.get(offset);
+        try {
+          Plan plan = toPlan(event);
+          planRepository.save(plan);
+          createdPlanIds.add(plan.getId());
+          results.set(index, BatchItemResultResponse.succeeded(index, plan.getId()));
+        } catch (IllegalArgumentException e) {
+          results.set(index, BatchItemResultResponse.failed(index, null, "Line " + event.getLineNumber() + ": " + e.getMessage()));
+        }
+      }
+      if (!createdPlanIds.isEmpty()) {
+        eventPublisher.publishEvent(new PlanChangedEvent(createdPlanIds));
+      }
+      planRepository.flush(); // JDBC 배치로 INSERT 실행 (DB 오류는 DataAccessException으로 변환됨)
+      entityManager.clear();  // 다음 청크를 위해 영속성 컨텍스트 비우기
+    });
+  }
+
+  private Plan toPlan(IcsEvent event) {
+    if (event.getSummary() == null || event.getSummary().isBlank()) {
+      throw new IllegalArgumentException("SUMMARY is required.");
+    }
+    if (event.getStartValue() == null) {
+      throw new IllegalArgumentException("DTSTART is required.");
+    }
+    LocalDate startDate = RRule.parseDate(event.getStartValue());
+
+    RecurrenceRule rule = null;
+    LocalDate endDate;
+    if (event.getRrule() != null) {
+      RRule rrule = RRule.parse(event.getRrule());
+      rule = rrule.toRecurrenceRule(startDate);
+      endDate = rrule.endDate(rule, startDate);
+    } else if (event.getEndValue() == null) {
+      endDate = startDate;
+    } else {
+      endDate = RRule.parseDate(event.getEndValue());
+      if (event.isAllDay()) {
+        endDate = endDate.minusDays(1); // 종일 일정의 DTEND는 포함하지 않는 다음 날
+      }
+      if (endDate.isBefore(startDate)) {
+        endDate = startDate;
+      }
+    }
+
+    Plan plan = Plan.create(
+        truncate(event.getSummary().strip(), MAX_TITLE_LENGTH),
+        event.getDescription() == null ? "" : truncate(event.getDescription(), MAX_DESCRIPTION_LENGTH),
+        startDate,
+        endDate
+    );
+    if (rule != null) {
+      plan.addRecurrenceRule(rule);
+    }
+    return plan;
+  }
+
+  private static String truncate(String value, int maxLength) {
+    return value.length() <= maxLength ? value : value.substring(0, maxLength);
+  }
+}
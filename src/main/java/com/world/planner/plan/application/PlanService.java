@@ -1,29 +1,64 @@
 package com.world.planner.plan.application;
 
+import com.world.planner.global.exception.PreconditionFailedException;
 import com.world.planner.plan.domain.Plan;
+import com.world.planner.plan.domain.PlanChangedEvent;
+import com.world.planner.plan.domain.PlanDeletedEvent;
 import com.world.planner.plan.domain.PlanDomainService;
+import com.world.planner.plan.domain.PlanTombstone;
+import com.world.planner.plan.domain.recurrence.RRule;
 import com.world.planner.plan.domain.recurrence.RecurrenceRuleType;
+import com.world.planner.plan.infrastructure.cache.OccurrenceMonthCache;
+import com.world.planner.plan.infrastructure.cache.PlanFeedCache;
+import com.world.planner.plan.infrastructure.metrics.PlanMetrics;
+import com.world.planner.plan.infrastructure.repository.MaterializedOccurrenceProjection;
+import com.world.planner.plan.infrastructure.repository.PlanCollectionRevisionRepository;
 import com.world.planner.plan.infrastructure.repository.PlanRepository;
+import com.world.planner.plan.infrastructure.repository.PlanSearchCondition;
+import com.world.planner.plan.infrastructure.repository.PlanSummaryProjection;
+import com.world.planner.plan.infrastructure.repository.PlanTombstoneRepository;
 import com.world.planner.plan.domain.recurrence.RecurrenceRule;
+import com.world.planner.plan.presentation.dto.response.OccurrenceCountResponse;
+import com.world.planner.plan.presentation.dto.response.OccurrenceHistogramResponse;
 import com.world.planner.plan.presentation.dto.response.PlanDetailResponse;
+import com.world.planner.plan.presentation.dto.response.PlanOccurrenceResponse;
+import com.world.planner.plan.presentation.dto.response.PlanPageResponse;
 import com.world.planner.plan.presentation.dto.response.PlanSummaryResponse;
+import io.micrometer.observation.annotation.Observed;
 import jakarta.persistence.EntityNotFoundException;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Observed(name = "planner.plan.service") // 메서드별 타이머(class, method 태그)와 span
 public class PlanService {
 
+  // Plan 목록 최대 페이지 크기
+  private static final int MAX_PAGE_SIZE = 100;
+
   private final PlanRepository planRepository;
+  private final PlanTombstoneRepository planTombstoneRepository;
+  private final PlanCollectionRevisionRepository planCollectionRevisionRepository;
   private final RecurrenceRuleService recurrenceRuleService;
   private final PlanDomainService planDomainService;
+  private final OccurrenceMaterializationService occurrenceMaterializationService;
+  private final OccurrenceMonthCache occurrenceMonthCache;
+  private final PlanFeedCache planFeedCache;
+  private final PlanMetrics planMetrics;
+  private final ApplicationEventPublisher eventPublisher;
 
   /**
    * 새로운 Plan 생성
@@ -32,12 +67,13 @@ public class PlanService {
    * @param description Plan 설명
    * @param startDate   시작 날짜
    * @param endDate     종료 날짜
-   * @return 생성된 Plan의 ID
+   * @return 생성된 PlanDetailResponse (ID, ETag 포함)
    */
-  public UUID createPlan(String title, String description, LocalDate startDate, LocalDate endDate) {
+  public PlanDetailResponse createPlan(String title, String description, LocalDate startDate, LocalDate endDate) {
     Plan plan = Plan.create(title, description, startDate, endDate);
     planRepository.save(plan);
-    return plan.getId();
+    eventPublisher.publishEvent(PlanChangedEvent.of(plan.getId()));
+    return toWrittenResponse(plan);
   }
 
   /**
@@ -48,12 +84,16 @@ public class PlanService {
    * @param description 수정된 Plan 설명
    * @param startDate   수정된 시작 날짜
    * @param endDate     수정된 종료 날짜
+   * @param ifMatch     (옵션) 클라이언트가 마지막으로 받은 ETag
    * @return 수정된 PlanDetailResponse 객체
    */
-  public PlanDetailResponse updatePlan(UUID planId, String title, String description, LocalDate startDate, LocalDate endDate) {
-    Plan plan = findPlanById(planId);
+  public PlanDetailResponse updatePlan(
+      UUID planId, String title, String description, LocalDate startDate, LocalDate endDate, String ifMatch) {
+    Plan plan = findPlanById(planId, ifMatch);
+    evictCachedOccurrences(plan);
     plan.updateDetails(title, description, startDate, endDate);
-    return PlanDetailResponse.fromEntity(plan);
+    eventPublisher.publishEvent(PlanChangedEvent.of(planId));
+    return toWrittenResponse(plan);
   }
 
   /**
@@ -66,17 +106,22 @@ public class PlanService {
   @Transactional(readOnly = true)
   public boolean isPlanActive(UUID planId, LocalDate checkDate) {
     Plan plan = findPlanById(planId);
-    return planDomainService.isPlanActive(plan, checkDate);
+    return planMetrics.recordActivityCheck(PlanMetrics.ruleTypeOf(plan), () -> planDomainService.isPlanActive(plan, checkDate));
   }
 
   /**
    * Plan 삭제
    *
-   * @param planId 삭제하려는 Plan의 ID
+   * @param planId  삭제하려는 Plan의 ID
+   * @param ifMatch (옵션) 클라이언트가 마지막으로 받은 ETag
    */
-  public void deletePlan(UUID planId) {
-    Plan plan = findPlanById(planId);
+  public void deletePlan(UUID planId, String ifMatch) {
+    Plan plan = findPlanById(planId, ifMatch);
+    evictCachedOccurrences(plan);
+    planFeedCache.evict(planId); // 피드에서 빠지므로 다시 조회되지 않음, 메모리만 돌려줌
     planRepository.delete(plan); // 애그리거트 삭제
+    planTombstoneRepository.save(PlanTombstone.of(planId, LocalDateTime.now())); // 변경 동기화에 삭제 전달
+    eventPublisher.publishEvent(PlanDeletedEvent.of(planId));
   }
 
   /**
@@ -92,17 +137,184 @@ public class PlanService {
   }
 
   /**
-   * 전체 Plan 목록 조회
+   * 단일 Plan 응답의 검증자 조회 (버전 컬럼만 읽으므로 엔티티를 로딩하지 않음)
+   *
+   * @param planId Plan ID
+   * @return ETag, Last-Modified
+   */
+  @Transactional(readOnly = true)
+  public ResourceVersion getPlanVersion(UUID planId) {
+    return planRepository.findVersionById(planId)
+        .map(ResourceVersion::of)
+        .orElseThrow(() -> new EntityNotFoundException("Plan not found with ID: " + planId));
+  }
+
+  /**
+   * 전체 Plan에서 계산되는 응답(목록, 발생 일자, 날짜별 일정)의 검증자 조회
    *
-   * @return Plan 목록의 PlanSummaryResponse 리스트
+   * @return ETag, Last-Modified
    */
   @Transactional(readOnly = true)
-  public List<PlanSummaryResponse> getAllPlans() {
-    return planRepository.findAll().stream()
-        .map(PlanSummaryResponse::fromEntity) // Simple DTO로 변환
+  public ResourceVersion getPlansVersion() {
+    return planCollectionRevisionRepository.findCurrent()
+        .map(ResourceVersion::of)
+        .orElseGet(ResourceVersion::initialCollection); // 아직 변경이 없음
+  }
+
+  /**
+   * Plan 목록 조회 (start_date, id 키셋 페이지네이션)
+   *
+   * @param keyword 제목 검색어 (선택적)
+   * @param from    적용 기간 검색 시작 날짜 (선택적)
+   * @param to      적용 기간 검색 종료 날짜 (선택적)
+   * @param cursor  직전 페이지의 nextCursor (첫 페이지는 null)
+   * @param size    페이지 크기
+   * @return PlanPageResponse
+   */
+  @Transactional(readOnly = true)
+  public PlanPageResponse getAllPlans(String keyword, LocalDate from, LocalDate to, String cursor, int size) {
+    if (size <= 0 || size > MAX_PAGE_SIZE) {
+      throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE + ".");
+    }
+    PlanCursor after = PlanCursor.decode(cursor);
+    PlanSearchCondition condition = new PlanSearchCondition(keyword, from, to);
+
+    // 다음 페이지 존재 여부 확인을 위해 size + 1개 조회
+    List<PlanSummaryProjection> rows = planRepository.findSummaries(
+        condition,
+        after == null ? null : after.getStartDate(),
+        after == null ? null : after.getId(),
+        size + 1
+    );
+    boolean hasNext = rows.size() > size;
+    List<PlanSummaryProjection> page = hasNext ? rows.subList(0, size) : rows;
+
+    PlanSummaryProjection last = page.isEmpty() ? null : page.get(page.size() - 1);
+    return PlanPageResponse.builder()
+        .plans(page.stream().map(PlanSummaryResponse::fromProjection).toList())
+        .nextCursor(hasNext ? PlanCursor.of(last.getStartDate(), last.getId()).encode() : null)
+        .hasNext(hasNext)
+        .build();
+  }
+
+  /**
+   * 기간 내 모든 Plan의 발생 일자 조회
+   *
+   * @param from 검색 시작 날짜
+   * @param to   검색 종료 날짜
+   * @return (날짜, Plan ID) 순으로 정렬된 발생 일자 목록
+   */
+  @Transactional(readOnly = true)
+  public List<PlanOccurrenceResponse> getOccurrences(LocalDate from, LocalDate to) {
+    OccurrenceRange.validate(from, to);
+
+    // 구체화 범위 안이면 plan_occurrences 인덱스 범위 스캔으로 조회
+    Optional<List<MaterializedOccurrenceProjection>> materialized = occurrenceMaterializationService.findOccurrences(from, to);
+    if (materialized.isPresent()) {
+      return materialized.get().stream()
+          .map(PlanOccurrenceResponse::fromProjection)
+          .toList();
+    }
+
+    List<Plan> plans = planRepository.findAllOverlapping(from, to); // 기간이 겹치는 Plan만 조회
+    return planMetrics.observeCalculation(PlanMetrics.MIXED, PlanMetrics.windowDays(from, to),
+            () -> planDomainService.calculateOccurrences(plans, from, to)).stream()
+        .map(PlanOccurrenceResponse::fromOccurrence)
+        .toList();
+  }
+
+  /**
+   * 특정 날짜에 발생하는 Plan 목록 조회
+   * 반복 규칙의 마스크와 기준일 오프셋으로 SQL에서 후보만 추린 뒤 isOccurrence로 확정한다.
+   *
+   * @param date 조회할 날짜
+   * @return 시작 날짜, ID 순으로 정렬된 PlanSummaryResponse 리스트
+   */
+  @Transactional(readOnly = true)
+  public List<PlanSummaryResponse> getAgenda(LocalDate date) {
+    if (date == null) {
+      throw new IllegalArgumentException("Date must be specified.");
+    }
+    return planRepository.findOccurrenceCandidates(date).stream()
+        .filter(plan -> planDomainService.isPlanActive(plan, date))
+        .map(PlanSummaryResponse::fromEntity)
         .toList();
   }
 
+  /**
+   * 기간 내 전체 Plan의 구간별 발생 일자 수 (Plan마다 발생 일자를 한 번만 순회)
+   *
+   * @param from   시작 날짜
+   * @param to     종료 날짜
+   * @param bucket 구간 단위
+   * @return 구간별 발생 일자 수 합계
+   */
+  @Transactional(readOnly = true)
+  public OccurrenceHistogramResponse getOccurrenceHistogram(LocalDate from, LocalDate to, OccurrenceBucket bucket) {
+    List<LocalDate> starts = bucket.split(from, to);
+    long[] counts = new long[starts.size()];
+    try (Stream<Plan> plans = planRepository.streamAllOverlapping(from, to)) { // 기간이 겹치는 Plan만 서버 측 커서로 조회
+      plans.forEach(plan -> addCounts(planDomainService.occurrenceIterator(plan, from, to), starts, counts));
+    }
+    return toHistogram(null, from, to, bucket, starts, counts);
+  }
+
+  /**
+   * Plan 하나의 구간별 발생 일자 수
+   *
+   * @param planId Plan ID
+   * @param from   시작 날짜
+   * @param to     종료 날짜
+   * @param bucket 구간 단위
+   * @return 구간별 발생 일자 수
+   */
+  @Transactional(readOnly = true)
+  public OccurrenceHistogramResponse getOccurrenceHistogram(UUID planId, LocalDate from, LocalDate to, OccurrenceBucket bucket) {
+    List<LocalDate> starts = bucket.split(from, to);
+    long[] counts = new long[starts.size()];
+    addCounts(planDomainService.occurrenceIterator(findPlanById(planId), from, to), starts, counts);
+    return toHistogram(planId, from, to, bucket, starts, counts);
+  }
+
+  // 정렬된 발생 일자를 순회하며 구간 인덱스를 앞으로만 옮겨 구간별 개수에 더한다
+  private static void addCounts(Iterator<LocalDate> occurrences, List<LocalDate> starts, long[] counts) {
+    int index = 0;
+    while (occurrences.hasNext()) {
+      LocalDate date = occurrences.next();
+      while (index + 1 < starts.size() && !date.isBefore(starts.get(index + 1))) {
+        index++;
+      }
+      counts[index]++;
+    }
+  }
+
+  // 구간의 마지막 날짜 (다음 구간 시작 전날, 마지막 구간은 to)
+  private static LocalDate bucketEnd(List<LocalDate> starts, int index, LocalDate to) {
+    return index + 1 < starts.size() ? starts.get(index + 1).minusDays(1) : to;
+  }
+
+  private OccurrenceHistogramResponse toHistogram(
+      UUID planId, LocalDate from, LocalDate to, OccurrenceBucket bucket, List<LocalDate> starts, long[] counts) {
+    List<OccurrenceCountResponse> buckets = new ArrayList<>(starts.size());
+    long total = 0;
+    for (int index = 0; index < starts.size(); index++) {
+      buckets.add(OccurrenceCountResponse.builder()
+          .start(starts.get(index))
+          .end(bucketEnd(starts, index, to))
+          .count(counts[index])
+          .build());
+      total += counts[index];
+    }
+    return OccurrenceHistogramResponse.builder()
+        .planId(planId)
+        .bucket(bucket)
+        .from(from)
+        .to(to)
+        .total(total)
+        .buckets(buckets)
+        .build();
+  }
+
   /**
    * RecurrenceRule 추가 또는 수정 (RecurrenceRuleService를 통해 생성)
    *
@@ -112,6 +324,7 @@ public class PlanService {
    * @param daysOfWeek  (옵션) 요일 리스트
    * @param daysOfMonth (옵션) 날짜 리스트
    * @param monthsOfYear (옵션) 월 리스트 (연 단위에서 사용)
+   * @param ifMatch     (옵션) 클라이언트가 마지막으로 받은 ETag
    * @return 수정된 PlanDetailResponse
    */
   public PlanDetailResponse addOrUpdateRecurrenceRule(
@@ -120,27 +333,77 @@ public class PlanService {
       int interval,
       List<DayOfWeek> daysOfWeek,
       List<Integer> daysOfMonth,
-      List<Integer> monthsOfYear
+      List<Integer> monthsOfYear,
+      String ifMatch
   ) {
-    Plan plan = findPlanById(planId); // Plan 조회
+    Plan plan = findPlanById(planId, ifMatch); // Plan 조회
+
+    // RecurrenceRule 생성 (RecurrenceRuleService 사용, 검증 및 비교용)
+    RecurrenceRule recurrenceRule = recurrenceRuleService.createRule(
+        ruleType, interval, daysOfWeek, daysOfMonth, monthsOfYear, plan.getStartDate());
+
+    // Plan에 RecurrenceRule 추가/수정 (정의가 같으면 쓰기 없음)
+    if (changeRecurrenceRule(plan, recurrenceRule)) {
+      eventPublisher.publishEvent(PlanChangedEvent.of(planId));
+    }
+    return toWrittenResponse(plan); // 수정된 Plan 반환
+  }
+
+  /**
+   * RFC 5545 RRULE 값으로 Plan에 RecurrenceRule 추가 또는 수정.
+   * UNTIL / COUNT가 있으면 Plan 종료 날짜도 함께 바꾼다.
+   *
+   * @param planId  Plan ID
+   * @param rrule   RRULE 값 (예: FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,WE)
+   * @param ifMatch (옵션) 클라이언트가 마지막으로 받은 ETag
+   * @return 수정된 PlanDetailResponse
+   */
+  public PlanDetailResponse addOrUpdateRecurrenceRule(UUID planId, String rrule, String ifMatch) {
+    Plan plan = findPlanById(planId, ifMatch);
 
-    // RecurrenceRule 생성 (RecurrenceRuleService 사용)
-    RecurrenceRule recurrenceRule = createRecurrenceRule(ruleType, interval, daysOfWeek, daysOfMonth, monthsOfYear);
+    RRule parsed = RRule.parse(rrule);
+    RecurrenceRule recurrenceRule = parsed.toRecurrenceRule(plan.getStartDate());
+    LocalDate endDate = parsed.endDate(recurrenceRule, plan.getStartDate());
 
-    // Plan에 RecurrenceRule 추가/수정
-    plan.addRecurrenceRule(recurrenceRule);
-    return PlanDetailResponse.fromEntity(plan); // 수정된 Plan 반환
+    boolean changed = changeRecurrenceRule(plan, recurrenceRule);
+    if (endDate != null && !endDate.equals(plan.getEndDate())) {
+      plan.updateDetails(plan.getTitle(), plan.getDescription(), plan.getStartDate(), endDate);
+      changed = true;
+    }
+    if (changed) {
+      eventPublisher.publishEvent(PlanChangedEvent.of(planId));
+    }
+    return toWrittenResponse(plan);
+  }
+
+  // Plan의 RecurrenceRule 추가/수정 후 이전 규칙의 캐시 제거 (변경 여부 반환)
+  private boolean changeRecurrenceRule(Plan plan, RecurrenceRule recurrenceRule) {
+    UUID previousRuleId = plan.hasRecurrenceRule() ? plan.getRecurrenceRule().getId() : null;
+    if (!plan.changeRecurrenceRule(recurrenceRule)) {
+      return false;
+    }
+    occurrenceMonthCache.evict(previousRuleId);
+    return true;
   }
 
   /**
    * Plan에서 RecurrenceRule 삭제
    *
-   * @param planId Plan ID
+   * @param planId  Plan ID
+   * @param ifMatch (옵션) 클라이언트가 마지막으로 받은 ETag
    * @return 수정된 PlanDetailResponse
    */
-  public PlanDetailResponse removeRecurrenceRule(UUID planId) {
-    Plan plan = findPlanById(planId); // Plan 조회
+  public PlanDetailResponse removeRecurrenceRule(UUID planId, String ifMatch) {
+    Plan plan = findPlanById(planId, ifMatch); // Plan 조회
+    evictCachedOccurrences(plan);
     plan.removeRecurrenceRule(); // RecurrenceRule 제거
+    eventPublisher.publishEvent(PlanChangedEvent.of(planId));
+    return toWrittenResponse(plan);
+  }
+
+  // 쓰기 응답 (flush로 @Version 증가를 반영해 커밋될 버전의 ETag를 담는다)
+  private PlanDetailResponse toWrittenResponse(Plan plan) {
+    planRepository.flush();
     return PlanDetailResponse.fromEntity(plan);
   }
 
@@ -150,21 +413,20 @@ public class PlanService {
         .orElseThrow(() -> new EntityNotFoundException("Plan not found with ID: " + planId));
   }
 
-  // RecurrenceRule 생성 로직 (RecurrenceRuleService 의존)
-  private RecurrenceRule createRecurrenceRule(
-      RecurrenceRuleType ruleType,
-      int interval,
-      List<DayOfWeek> daysOfWeek,
-      List<Integer> daysOfMonth,
-      List<Integer> monthsOfYear
-  ) {
-    return switch (ruleType) {
-      case DAILY -> recurrenceRuleService.createDailyRule(interval);
-      case WEEKLY -> recurrenceRuleService.createWeeklyRule(interval, daysOfWeek);
-      case MONTHLY -> recurrenceRuleService.createMonthlyRule(interval, daysOfWeek, daysOfMonth);
-      case YEARLY -> recurrenceRuleService.createYearlyRule(interval, monthsOfYear, daysOfWeek, daysOfMonth);
-      default -> throw new IllegalArgumentException("Invalid rule type: " + ruleType);
-    };
+  // 공통 메서드: Plan 조회 후 If-Match 확인 (이후 동시 수정은 @Version으로 커밋 시 감지)
+  private Plan findPlanById(UUID planId, String ifMatch) {
+    Plan plan = findPlanById(planId);
+    if (!ResourceVersion.of(plan).matches(ifMatch)) {
+      throw new PreconditionFailedException("Plan has been modified since it was read: " + planId);
+    }
+    return plan;
+  }
+
+  // 공통 메서드: 변경 전 RecurrenceRule의 월별 발생 일자 캐시 제거
+  private void evictCachedOccurrences(Plan plan) {
+    if (plan.hasRecurrenceRule()) {
+      occurrenceMonthCache.evict(plan.getRecurrenceRule().getId());
+    }
   }
 
   public void validateRecurrenceRule(String ruleType) {
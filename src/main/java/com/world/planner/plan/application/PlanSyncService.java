@@ -0,0 +1,95 @@
+package com.world.planner.plan.application;
+
+import com.world.planner.global.config.PlanSyncProperties;
+import com.world.planner.plan.domain.Plan;
+import com.world.planner.plan.infrastructure.repository.PlanRepository;
+import com.world.planner.plan.infrastructure.repository.PlanTombstoneRepository;
+import com.world.planner.plan.presentation.dto.response.PlanChangesResponse;
+import com.world.planner.plan.presentation.dto.response.PlanExportResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Plan 변경 동기화.
+ * 토큰(update_date_time, id) 이후에 생성 / 수정된 Plan과 삭제 기록(plan_tombstones)만 돌려주므로
+ * 응답 크기와 DB 부하가 전체 Plan 수가 아니라 변경량에 비례한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlanSyncService {
+
+  // 한 번에 돌려주는 최대 Plan 수
+  public static final int MAX_PAGE_SIZE = 1_000;
+
+  // 수정 시각은 커밋 전에 기록되므로, 진행 중인 트랜잭션이 커밋될 때까지 최근 변경은 다음 요청으로 미룬다
+  private static final Duration SETTLE_DELAY = Duration.ofSeconds(5);
+
+  private final PlanSyncProperties properties;
+  private final PlanRepository planRepository;
+  private final PlanTombstoneRepository planTombstoneRepository;
+
+  /**
+   * 토큰 이후의 Plan 변경 조회
+   *
+   * @param since 직전 응답의 nextToken (생략하거나 보관 기간이 지났으면 전체 동기화)
+   * @param size  최대 Plan 수
+   * @return 변경된 Plan, 삭제된 Plan ID, 다음 토큰
+   */
+  @Transactional // 읽기 복제본 지연이 SETTLE_DELAY보다 길면 토큰이 아직 복제되지 않은 변경을 건너뛸 수 있으므로 primary에서 읽음
+  public PlanChangesResponse getChanges(String since, int size) {
+    if (size <= 0 || size > MAX_PAGE_SIZE) {
+      throw new IllegalArgumentException("size는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+    }
+    LocalDateTime now = LocalDateTime.now();
+    LocalDateTime until = now.minus(SETTLE_DELAY);
+
+    PlanSyncToken token = PlanSyncToken.decode(since);
+    boolean fullSync = token == null
+        || token.getChangedAt().isBefore(now.minusDays(properties.getTombstoneRetentionDays())); // 삭제 기록이 이미 정리됨
+    PlanSyncToken from = fullSync ? PlanSyncToken.initial() : token;
+
+    List<Plan> plans = planRepository.findChangedAfter(from.getChangedAt(), from.getId(), until, Limit.of(size + 1));
+    boolean hasMore = plans.size() > size;
+    List<Plan> page = hasMore ? plans.subList(0, size) : plans;
+
+    PlanSyncToken next;
+    if (hasMore) {
+      Plan last = page.get(page.size() - 1);
+      next = PlanSyncToken.after(last.getUpdatedAt(), last.getId());
+    } else {
+      // 서버 간 시계 차이로 워터마크가 뒤로 가지 않도록 한다
+      next = until.isAfter(from.getChangedAt()) ? PlanSyncToken.through(until) : from;
+    }
+
+    // 삭제는 이번 응답이 다루는 수정 시각 구간 (from, next]에 속한 것만 전달 (전체 동기화에는 필요 없음)
+    List<UUID> deleted = fullSync
+        ? List.of()
+        : planTombstoneRepository.findPlanIdsDeletedBetween(from.getChangedAt(), next.getChangedAt());
+
+    return PlanChangesResponse.builder()
+        .changed(page.stream().map(plan -> PlanExportResponse.fromEntity(plan, null)).toList())
+        .deleted(deleted)
+        .nextToken(next.encode())
+        .hasMore(hasMore)
+        .fullSync(fullSync)
+        .build();
+  }
+
+  /**
+   * 보관 기간이 지난 삭제 기록 정리 (TombstonePurgeJob이 매일 실행)
+   */
+  @Transactional
+  public void purgeTombstones() {
+    LocalDateTime before = LocalDateTime.now().minusDays(properties.getTombstoneRetentionDays());
+    int purged = planTombstoneRepository.deleteByDeletedAtBefore(before);
+    log.info("Purged {} plan tombstones deleted before {}", purged, before);
+  }
+}
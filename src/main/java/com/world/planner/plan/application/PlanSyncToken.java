@@ -0,0 +1,73 @@
+package com.world.planner.plan.application;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 변경 동기화 워터마크 (update_date_time, id).
+ * 이 위치까지의 변경은 이미 전달되었다는 뜻이며, 클라이언트에는 Base64 URL-safe 문자열로 전달한다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class PlanSyncToken {
+
+  private static final String DELIMITER = "|";
+
+  // 같은 시각의 나머지 Plan이 없음을 나타내는 ID (UUID 정렬상 최댓값)
+  private static final UUID LAST_ID = new UUID(-1L, -1L);
+
+  // 전체 동기화 시작 위치 (모든 Plan이 이 시각 이후에 수정됨)
+  private static final PlanSyncToken INITIAL = new PlanSyncToken(LocalDateTime.of(1970, 1, 1, 0, 0), new UUID(0L, 0L));
+
+  private final LocalDateTime changedAt;
+  private final UUID id;
+
+  public static PlanSyncToken initial() {
+    return INITIAL;
+  }
+
+  /**
+   * 마지막으로 전달한 Plan 바로 다음 위치 (같은 시각의 ID가 더 큰 Plan부터 이어서 조회)
+   */
+  public static PlanSyncToken after(LocalDateTime changedAt, UUID id) {
+    return new PlanSyncToken(changedAt, id);
+  }
+
+  /**
+   * 해당 시각까지의 변경을 모두 전달한 위치
+   */
+  public static PlanSyncToken through(LocalDateTime changedAt) {
+    return new PlanSyncToken(changedAt, LAST_ID);
+  }
+
+  /**
+   * 토큰 문자열 해석
+   *
+   * @param token 토큰 문자열 (null 또는 빈 문자열이면 전체 동기화)
+   * @return PlanSyncToken (전체 동기화면 null)
+   * @throws IllegalArgumentException 잘못된 토큰인 경우
+   */
+  public static PlanSyncToken decode(String token) {
+    if (token == null || token.isBlank()) {
+      return null;
+    }
+    try {
+      String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      int index = decoded.indexOf(DELIMITER);
+      return new PlanSyncToken(LocalDateTime.parse(decoded.substring(0, index)), UUID.fromString(decoded.substring(index + 1)));
+    } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+      throw new IllegalArgumentException("Invalid sync token: " + token);
+    }
+  }
+
+  public String encode() {
+    String raw = changedAt + DELIMITER + id;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -5,21 +5,54 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class RecurrenceRuleService {
 
+  /**
+   * 규칙 타입에 맞는 RecurrenceRule 생성
+   *
+   * @param ruleType     반복 규칙 타입 (DAILY, WEEKLY, MONTHLY, YEARLY)
+   * @param interval     반복 주기
+   * @param daysOfWeek   (옵션) 요일 리스트
+   * @param daysOfMonth  (옵션) 날짜 리스트
+   * @param monthsOfYear (옵션) 월 리스트 (연 단위에서 사용)
+   * @param anchorDate   반복 주기 계산의 기준일 (규칙을 연결할 Plan의 시작 날짜)
+   * @return 생성된 RecurrenceRule
+   */
+  public RecurrenceRule createRule(
+      RecurrenceRuleType ruleType,
+      int interval,
+      List<DayOfWeek> daysOfWeek,
+      List<Integer> daysOfMonth,
+      List<Integer> monthsOfYear,
+      LocalDate anchorDate
+  ) {
+    if (ruleType == null) {
+      throw new IllegalArgumentException("Rule type must be specified.");
+    }
+    return switch (ruleType) {
+      case DAILY -> createDailyRule(interval, anchorDate);
+      case WEEKLY -> createWeeklyRule(interval, daysOfWeek, anchorDate);
+      case MONTHLY -> createMonthlyRule(interval, daysOfWeek, daysOfMonth, anchorDate);
+      case YEARLY -> createYearlyRule(interval, monthsOfYear, daysOfWeek, daysOfMonth, anchorDate);
+      default -> throw new IllegalArgumentException("Invalid rule type: " + ruleType);
+    };
+  }
+
   /**
    * DailyRule 생성
    *
-   * @param interval 반복 주기
+   * @param interval   반복 주기
+   * @param anchorDate 반복 주기 계산의 기준일
    * @return 생성된 DailyRule
    */
-  public DailyRule createDailyRule(int interval) {
+  public DailyRule createDailyRule(int interval, LocalDate anchorDate) {
     validateInterval(interval);
-    return (DailyRule) RecurrenceRuleFactory.createDailyRule(interval);
+    return (DailyRule) RecurrenceRuleFactory.createDailyRule(interval, anchorDate);
   }
 
   /**
@@ -27,12 +60,13 @@ public class RecurrenceRuleService {
    *
    * @param interval   반복 주기
    * @param daysOfWeek 반복 요일 리스트
+   * @param anchorDate 반복 주기 계산의 기준일
    * @return 생성된 WeeklyRule
    */
-  public WeeklyRule createWeeklyRule(int interval, List<DayOfWeek> daysOfWeek) {
+  public WeeklyRule createWeeklyRule(int interval, List<DayOfWeek> daysOfWeek, LocalDate anchorDate) {
     validateInterval(interval);
     validateDaysOfWeek(daysOfWeek);
-    return (WeeklyRule) RecurrenceRuleFactory.createWeeklyRule(interval, daysOfWeek);
+    return (WeeklyRule) RecurrenceRuleFactory.createWeeklyRule(interval, daysOfWeek, anchorDate);
   }
 
   /**
@@ -41,12 +75,14 @@ public class RecurrenceRuleService {
    * @param interval     반복 주기
    * @param daysOfWeek   매달 반복되는 요일 리스트 (선택적)
    * @param daysOfMonth  매달 반복되는 날짜 리스트 (선택적)
+   * @param anchorDate   반복 주기 계산의 기준일
    * @return 생성된 MonthlyRule
    */
-  public MonthlyRule createMonthlyRule(int interval, List<DayOfWeek> daysOfWeek, List<Integer> daysOfMonth) {
+  public MonthlyRule createMonthlyRule(
+      int interval, List<DayOfWeek> daysOfWeek, List<Integer> daysOfMonth, LocalDate anchorDate) {
     validateInterval(interval);
     validateDaysOfWeekOrDaysOfMonth(daysOfWeek, daysOfMonth);
-    return (MonthlyRule) RecurrenceRuleFactory.createMonthlyRule(interval, daysOfWeek, daysOfMonth);
+    return (MonthlyRule) RecurrenceRuleFactory.createMonthlyRule(interval, daysOfWeek, daysOfMonth, anchorDate);
   }
 
   /**
@@ -56,18 +92,20 @@ public class RecurrenceRuleService {
    * @param monthsOfYear 매년에 반복되는 월 리스트 (선택적)
    * @param daysOfWeek   매년에 반복되는 요일 리스트 (선택적)
    * @param daysOfMonth  매년에 반복되는 날짜 리스트 (선택적)
+   * @param anchorDate   반복 주기 계산의 기준일
    * @return 생성된 YearlyRule
    */
   public YearlyRule createYearlyRule(
       int interval,
       List<Integer> monthsOfYear,
       List<DayOfWeek> daysOfWeek,
-      List<Integer> daysOfMonth
+      List<Integer> daysOfMonth,
+      LocalDate anchorDate
   ) {
     validateInterval(interval);
     validateMonthsOfYear(monthsOfYear);
     validateDaysOfWeekOrDaysOfMonth(daysOfWeek, daysOfMonth);
-    return (YearlyRule) RecurrenceRuleFactory.createYearlyRule(interval, monthsOfYear, daysOfWeek, daysOfMonth);
+    return (YearlyRule) RecurrenceRuleFactory.createYearlyRule(interval, monthsOfYear, daysOfWeek, daysOfMonth, anchorDate);
   }
 
   /**
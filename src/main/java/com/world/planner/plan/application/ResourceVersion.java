@@ -0,0 +1,116 @@
+package com.world.planner.plan.application;
+
+import com.world.planner.plan.domain.Plan;
+import com.world.planner.plan.domain.PlanCollectionRevision;
+import com.world.planner.plan.infrastructure.repository.PlanVersionProjection;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 조회 응답의 검증자 (ETag, Last-Modified).
+ * 버전 컬럼과 수정 시각만으로 만들어지므로 If-None-Match / If-Modified-Since 판단에 엔티티 로딩이 필요 없다.
+ *
+ * <p>단일 Plan 응답은 If-Match에 쓰이므로 강한 ETag, 목록 / 발생 일자 / 피드처럼 계산되는 응답은 약한 ETag(W/"...")를 쓴다.
+ * Tomcat은 강한 ETag가 있는 응답을 gzip으로 압축하지 않으므로(압축하면 바이트가 달라짐) 큰 응답일수록 약한 ETag여야 한다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ResourceVersion {
+
+  private final String etag;
+  private final long lastModified; // epoch millis (알 수 없으면 -1)
+
+  /**
+   * 단일 Plan 응답의 검증자 (Plan 버전 + 반복 규칙 버전)
+   */
+  public static ResourceVersion of(PlanVersionProjection version) {
+    String etag = planEtag(version.getPlanVersion(), version.getRuleVersion());
+    return new ResourceVersion(etag, toEpochMilli(latest(version.getUpdatedAt(), version.getRuleUpdatedAt())));
+  }
+
+  /**
+   * 이미 로딩된 Plan의 검증자 (조회 응답의 ETag와 같은 값)
+   */
+  public static ResourceVersion of(Plan plan) {
+    if (!plan.hasRecurrenceRule()) {
+      return new ResourceVersion(planEtag(plan.getVersion(), null), toEpochMilli(plan.getUpdatedAt()));
+    }
+    String etag = planEtag(plan.getVersion(), plan.getRecurrenceRule().getVersion());
+    return new ResourceVersion(etag, toEpochMilli(latest(plan.getUpdatedAt(), plan.getRecurrenceRule().getUpdatedAt())));
+  }
+
+  /**
+   * If-Match 헤더 값과 일치하는지 확인
+   *
+   * @param ifMatch If-Match 헤더 값 (null이면 조건 없음, *는 항상 일치)
+   * @return 일치하거나 조건이 없으면 true
+   */
+  public boolean matches(String ifMatch) {
+    if (ifMatch == null || ifMatch.isBlank()) {
+      return true;
+    }
+    for (String candidate : ifMatch.split(",")) {
+      String tag = candidate.trim();
+      if (tag.equals("*")) {
+        return true;
+      }
+      if (tag.startsWith("W/")) {
+        continue; // If-Match는 강한 비교만 허용
+      }
+      if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+        tag = tag.substring(1, tag.length() - 1);
+      }
+      if (tag.equals(etag)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * 같은 값의 약한 검증자 (단일 Plan 버전에서 계산되는 응답용, 예: 발생 일자 히스토그램)
+   */
+  public ResourceVersion weak() {
+    return new ResourceVersion(weakEtag(etag), lastModified);
+  }
+
+  private static String planEtag(long planVersion, Long ruleVersion) {
+    return "plan-" + planVersion + (ruleVersion == null ? "" : "-rule-" + ruleVersion);
+  }
+
+  /**
+   * 전체 Plan에서 계산되는 응답(목록, 발생 일자, 피드)의 약한 검증자 (생성 / 수정 / 삭제마다 증가하는 변경 번호와 그 시각)
+   */
+  public static ResourceVersion of(PlanCollectionRevision revision) {
+    return new ResourceVersion(collectionEtag(revision.getRevision()), toEpochMilli(revision.getChangedAt()));
+  }
+
+  /**
+   * 아직 변경이 한 번도 없는 전체 Plan의 검증자
+   */
+  public static ResourceVersion initialCollection() {
+    return new ResourceVersion(collectionEtag(0), -1);
+  }
+
+  private static String collectionEtag(long revision) {
+    return weakEtag("plans-" + revision);
+  }
+
+  private static String weakEtag(String tag) {
+    return "W/\"" + tag + "\"";
+  }
+
+  private static LocalDateTime latest(LocalDateTime first, LocalDateTime second) {
+    if (first == null || second == null) {
+      return first == null ? second : first;
+    }
+    return first.isAfter(second) ? first : second;
+  }
+
+  private static long toEpochMilli(LocalDateTime dateTime) {
+    return dateTime == null ? -1 : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+  }
+}
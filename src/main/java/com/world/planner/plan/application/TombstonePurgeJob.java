@@ -0,0 +1,46 @@
+package com.world.planner.plan.application;
+
+import com.world.planner.global.config.PlanSyncProperties;
+import com.world.planner.global.job.BackgroundJob;
+import com.world.planner.global.job.JobPriority;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 보관 기간이 지난 삭제 기록(plan_tombstones) 정리 작업 (매일, 한 인스턴스에서만 실행)
+ */
+@Component
+@RequiredArgsConstructor
+public class TombstonePurgeJob implements BackgroundJob {
+
+  public static final String NAME = "tombstone-purge";
+
+  private final PlanSyncProperties properties;
+  private final PlanSyncService planSyncService;
+
+  @Override
+  public String getName() {
+    return NAME;
+  }
+
+  @Override
+  public void run() {
+    planSyncService.purgeTombstones();
+  }
+
+  @Override
+  public JobPriority getPriority() {
+    return JobPriority.LOW;
+  }
+
+  @Override
+  public Duration getLockAtMostFor() {
+    return Duration.ofMinutes(10);
+  }
+
+  @Override
+  public String getCron() {
+    return properties.getTombstonePurgeCron();
+  }
+}
@@ -0,0 +1,22 @@
+package com.world.planner.plan.domain;
+
+import com.world.planner.plan.domain.recurrence.RecurrenceRule;
+import java.time.LocalDate;
+import java.util.Iterator;
+
+/**
+ * 반복 규칙의 기간 내 발생 일자를 제공하는 포트.
+ * PlanDomainService는 이 인터페이스만 알고, 캐시 구현(infrastructure.cache.OccurrenceMonthCache)은 인프라 계층에 둔다.
+ */
+public interface OccurrenceSource {
+
+  /**
+   * 기간 내 발생 일자 Iterator
+   *
+   * @param rule      반복 규칙
+   * @param startDate 탐색 시작 날짜 (포함)
+   * @param endDate   탐색 종료 날짜 (포함)
+   * @return 정렬된 발생 일자 Iterator
+   */
+  Iterator<LocalDate> occurrenceIterator(RecurrenceRule rule, LocalDate startDate, LocalDate endDate);
+}
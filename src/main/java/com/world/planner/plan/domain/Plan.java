@@ -11,7 +11,9 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.UUID;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -27,6 +29,11 @@ public class Plan extends BaseEntity {
   @GeneratedValue(strategy = GenerationType.UUID)
   private UUID id;
 
+  // 변경될 때마다 증가 (조회 응답 ETag)
+  @Version
+  @Column(nullable = false)
+  private long version;
+
   @Column(nullable = false, length = 100)
   private String title;
 
@@ -61,6 +68,13 @@ public class Plan extends BaseEntity {
     return recurrenceRule != null;
   }
 
+  /**
+   * 날짜가 Plan 적용 기간(startDate ~ endDate) 안에 있는지 확인 (endDate가 없으면 무기한)
+   */
+  public boolean isWithinPeriod(LocalDate date) {
+    return !date.isBefore(startDate) && (endDate == null || !date.isAfter(endDate));
+  }
+
   public void updateDetails(String title, String description, LocalDate startDate, LocalDate endDate) {
     if (endDate != null && startDate.isAfter(endDate)) {
       throw new IllegalArgumentException("Start date must be before or equal to the end date.");
@@ -69,16 +83,48 @@ public class Plan extends BaseEntity {
     this.description = description;
     this.startDate = startDate;
     this.endDate = endDate;
+    if (recurrenceRule != null) {
+      recurrenceRule.anchorTo(startDate); // 반복 주기는 Plan 시작 날짜 기준
+    }
   }
 
   public void addRecurrenceRule(RecurrenceRule rule) {
     if (rule == null || !rule.isValid()) {
       throw new IllegalArgumentException("Invalid recurrence rule");
     }
+    rule.anchorTo(startDate); // 반복 주기는 Plan 시작 날짜 기준
     this.recurrenceRule = rule;
   }
 
+  /**
+   * RecurrenceRule 추가 또는 수정.
+   * 정의가 같으면 아무것도 바꾸지 않고, 타입이 같으면 기존 규칙 행을 그대로 두고 바뀐 값만 반영한다.
+   * 타입이 다를 때만 규칙을 새로 만든다.
+   *
+   * @param rule 새 정의를 가진 규칙 (저장되지 않은 규칙)
+   * @return 변경 여부
+   */
+  public boolean changeRecurrenceRule(RecurrenceRule rule) {
+    if (rule == null || !rule.isValid()) {
+      throw new IllegalArgumentException("Invalid recurrence rule");
+    }
+    if (recurrenceRule == null || recurrenceRule.getRuleType() != rule.getRuleType()) {
+      addRecurrenceRule(rule);
+      return true;
+    }
+    if (recurrenceRule.hasSameDefinition(rule)) {
+      return false;
+    }
+    recurrenceRule.redefine(rule);
+    touch(); // plans 행은 바뀌지 않으므로 버전과 수정 시각을 직접 갱신 (ETag, 변경 동기화)
+    return true;
+  }
+
   public void removeRecurrenceRule() {
     this.recurrenceRule = null;
   }
+
+  private void touch() {
+    setUpdatedAt(LocalDateTime.now());
+  }
 }
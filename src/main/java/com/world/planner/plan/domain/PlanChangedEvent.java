@@ -0,0 +1,23 @@
+package com.world.planner.plan.domain;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import lombok.Getter;
+
+/**
+ * Plan의 적용 기간 또는 반복 규칙이 바뀌었음을 알리는 이벤트 (발행한 트랜잭션 안에서 처리됨)
+ */
+@Getter
+public class PlanChangedEvent {
+
+  private final List<UUID> planIds;
+
+  public PlanChangedEvent(Collection<UUID> planIds) {
+    this.planIds = List.copyOf(planIds);
+  }
+
+  public static PlanChangedEvent of(UUID planId) {
+    return new PlanChangedEvent(List.of(planId));
+  }
+}
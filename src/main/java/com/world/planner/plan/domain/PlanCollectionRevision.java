@@ -0,0 +1,35 @@
+package com.world.planner.plan.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 전체 Plan 변경 번호 (행 하나).
+ * Plan 생성 / 수정 / 삭제, 반복 규칙 변경을 커밋하는 트랜잭션마다 1씩 올라가므로
+ * 목록, 발생 일자, 캘린더 피드 등 전체 Plan에서 계산되는 응답의 검증자(ETag, Last-Modified)로 쓴다.
+ */
+@Entity
+@Table(name = "plan_collection_revision")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PlanCollectionRevision {
+
+  // 유일한 행의 ID
+  public static final short SINGLETON_ID = 1;
+
+  @Id
+  private short id;
+
+  @Column(nullable = false)
+  private long revision;
+
+  // 마지막 변경 시각 (시계가 뒤로 가도 줄어들지 않음)
+  @Column(name = "changed_at", nullable = false)
+  private LocalDateTime changedAt;
+}
@@ -0,0 +1,23 @@
+package com.world.planner.plan.domain;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import lombok.Getter;
+
+/**
+ * Plan이 삭제되었음을 알리는 이벤트 (발행한 트랜잭션 안에서 처리됨)
+ */
+@Getter
+public class PlanDeletedEvent {
+
+  private final List<UUID> planIds;
+
+  public PlanDeletedEvent(Collection<UUID> planIds) {
+    this.planIds = List.copyOf(planIds);
+  }
+
+  public static PlanDeletedEvent of(UUID planId) {
+    return new PlanDeletedEvent(List.of(planId));
+  }
+}
@@ -2,13 +2,26 @@ package com.world.planner.plan.domain;
 
 import com.world.planner.plan.domain.recurrence.RecurrenceRule;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 @Service
+@RequiredArgsConstructor
 public class PlanDomainService {
 
+  private final OccurrenceSource occurrenceSource;
+
   /**
    * Plan의 RecurrenceRule을 기반으로 특정 기간의 발생 일자 계산
    *
@@ -18,39 +31,151 @@ public class PlanDomainService {
    * @return 발생 일자 리스트
    */
   public List<LocalDate> calculateOccurrences(Plan plan, LocalDate filterStartDate, LocalDate filterEndDate) {
-    if (plan == null) {
-      throw new IllegalArgumentException("Plan 객체는 null일 수 없습니다.");
+    getValidRecurrenceRule(plan);
+    List<LocalDate> occurrences = new ArrayList<>();
+    occurrenceIterator(plan, filterStartDate, filterEndDate).forEachRemaining(occurrences::add);
+    return occurrences;
+  }
+
+  /**
+   * 여러 Plan의 특정 기간 발생 일자를 한 번에 계산.
+   * Plan별 발생 일자 Iterator를 (날짜, Plan ID) 순으로 병합하므로 Plan별 리스트를 따로 만들지 않는다.
+   * RecurrenceRule이 없는 Plan은 적용 기간의 모든 날짜에 발생하는 것으로 본다. (isPlanActive와 동일)
+   *
+   * @param plans Plan 목록
+   * @param filterStartDate 검색 시작 날짜
+   * @param filterEndDate 검색 종료 날짜
+   * @return (날짜, Plan ID) 순으로 정렬된 발생 목록
+   */
+  public List<PlanOccurrence> calculateOccurrences(List<Plan> plans, LocalDate filterStartDate, LocalDate filterEndDate) {
+    return mergeCursors(plans, plan -> occurrenceIterator(plan, filterStartDate, filterEndDate));
+  }
+
+  /**
+   * 후보 발생 일자와 같은 날짜에 발생하는 기존 Plan의 발생 일자 계산 (충돌 검사).
+   * Plan마다 후보 발생 일자와 Plan의 발생 일자 Iterator를 정렬 병합해 겹치는 날짜만 내보내고, 이를 다시 날짜 순으로 병합한다.
+   * Plan의 Iterator는 후보의 첫 / 마지막 발생 일자 사이로 잘라서 열고 후보 발생 일자가 끝나면 더 읽지 않으므로
+   * Plan별 발생 일자 리스트를 만들지 않는다.
+   *
+   * @param candidateDates 정렬된 후보 발생 일자
+   * @param plans 기존 Plan 목록
+   * @return (날짜, Plan ID) 순으로 정렬된 충돌 발생 목록
+   */
+  public List<PlanOccurrence> findConflicts(List<LocalDate> candidateDates, List<Plan> plans) {
+    if (candidateDates.isEmpty()) {
+      return List.of();
     }
+    LocalDate first = candidateDates.get(0);
+    LocalDate last = candidateDates.get(candidateDates.size() - 1);
+    return mergeCursors(plans, plan -> new IntersectionIterator(candidateDates, occurrenceIterator(plan, first, last)));
+  }
 
-    RecurrenceRule recurrenceRule = plan.getRecurrenceRule();
-    if (!plan.hasRecurrenceRule() || !recurrenceRule.isValid()) {
-      throw new IllegalArgumentException("Plan에 유효한 RecurrenceRule이 없습니다.");
+  // Plan별 정렬된 날짜 Iterator를 (날짜, Plan ID) 순으로 병합
+  private List<PlanOccurrence> mergeCursors(List<Plan> plans, Function<Plan, Iterator<LocalDate>> iterators) {
+    PriorityQueue<OccurrenceCursor> queue = new PriorityQueue<>(Math.max(1, plans.size()), OccurrenceCursor.ORDER);
+    for (Plan plan : plans) {
+      OccurrenceCursor cursor = new OccurrenceCursor(plan, iterators.apply(plan));
+      if (cursor.advance()) {
+        queue.add(cursor);
+      }
     }
 
+    List<PlanOccurrence> occurrences = new ArrayList<>();
+    while (!queue.isEmpty()) {
+      OccurrenceCursor cursor = queue.poll();
+      occurrences.add(new PlanOccurrence(cursor.current, cursor.plan));
+      if (cursor.advance()) {
+        queue.add(cursor);
+      }
+    }
+    return occurrences;
+  }
+
+  /**
+   * Plan 적용 기간 내에서 from(포함) 이후의 발생 일자를 지연 계산하는 Stream.
+   * 종료일이 없는 Plan은 무한 Stream이 되므로 limit / takeWhile 로 끊어서 사용한다.
+   *
+   * @param plan Plan 객체
+   * @param from 검색 시작 날짜
+   * @return 정렬된 발생 일자 Stream
+   */
+  public Stream<LocalDate> streamOccurrences(Plan plan, LocalDate from) {
+    RecurrenceRule recurrenceRule = getValidRecurrenceRule(plan);
+
     // Plan 적용 기간과 검색 기간 병합
-    LocalDate calculationStartDate = plan.getStartDate().isAfter(filterStartDate) ? plan.getStartDate() : filterStartDate;
-    LocalDate calculationEndDate = plan.getEndDate().isBefore(filterEndDate) ? plan.getEndDate() : filterEndDate;
+    LocalDate calculationStartDate = plan.getStartDate().isAfter(from) ? plan.getStartDate() : from;
+    LocalDate calculationEndDate = plan.getEndDate(); // null이면 무기한
 
-    if (calculationStartDate.isAfter(calculationEndDate)) {
-      return List.of(); // 병합된 기간이 유효하지 않은 경우 빈 리스트 반환
+    if (calculationEndDate != null && calculationStartDate.isAfter(calculationEndDate)) {
+      return Stream.empty(); // 병합된 기간이 유효하지 않은 경우 빈 Stream 반환
     }
 
-    // Rule 기반으로 발생 일자 계산
-    return calculateOccurrencesBasedOnRule(recurrenceRule, calculationStartDate, calculationEndDate);
+    return recurrenceRule.occurrences(calculationStartDate, calculationEndDate);
   }
 
-  private List<LocalDate> calculateOccurrencesBasedOnRule(RecurrenceRule rule, LocalDate startDate, LocalDate endDate) {
-    List<LocalDate> occurrences = new ArrayList<>();
-    LocalDate currentDate = startDate;
-
-    while (!currentDate.isAfter(endDate)) {
-      if (rule.isOccurrence(currentDate)) {
-        occurrences.add(currentDate);
-      }
-      currentDate = currentDate.plusDays(1);
+  /**
+   * 특정 날짜 이후(미포함)의 발생 일자를 최대 count개 계산
+   *
+   * @param plan Plan 객체
+   * @param after 기준 날짜
+   * @param count 최대 개수
+   * @return 발생 일자 리스트
+   */
+  public List<LocalDate> findNextOccurrences(Plan plan, LocalDate after, int count) {
+    if (count <= 0) {
+      throw new IllegalArgumentException("Count must be greater than 0.");
     }
+    return streamOccurrences(plan, after.plusDays(1))
+        .limit(count)
+        .toList();
+  }
 
-    return occurrences;
+  /**
+   * 특정 날짜(포함) 이후의 첫 발생 일자 계산
+   *
+   * @param plan Plan 객체
+   * @param from 검색 시작 날짜
+   * @return 첫 발생 일자 (없으면 Optional.empty())
+   */
+  public Optional<LocalDate> findNextOccurrence(Plan plan, LocalDate from) {
+    return streamOccurrences(plan, from).findFirst();
+  }
+
+  /**
+   * 특정 기간 내 발생 일자가 하나라도 있는지 확인 (첫 발생 일자에서 계산 종료)
+   *
+   * @param plan Plan 객체
+   * @param filterStartDate 검색 시작 날짜
+   * @param filterEndDate 검색 종료 날짜
+   * @return 발생 여부
+   */
+  public boolean hasOccurrence(Plan plan, LocalDate filterStartDate, LocalDate filterEndDate) {
+    return findNextOccurrence(plan, filterStartDate)
+        .filter(date -> !date.isAfter(filterEndDate))
+        .isPresent();
+  }
+
+  /**
+   * Plan 적용 기간과 검색 기간이 겹치는 구간의 발생 일자 수 (발생 일자를 만들지 않음)
+   * RecurrenceRule이 없는 Plan은 겹치는 구간의 일수이다. (isPlanActive와 동일)
+   *
+   * @param plan Plan 객체
+   * @param filterStartDate 검색 시작 날짜
+   * @param filterEndDate 검색 종료 날짜
+   * @return 발생 일자 수
+   */
+  public long countOccurrences(Plan plan, LocalDate filterStartDate, LocalDate filterEndDate) {
+    LocalDate startDate = plan.getStartDate().isAfter(filterStartDate) ? plan.getStartDate() : filterStartDate;
+    LocalDate endDate = plan.getEndDate() != null && plan.getEndDate().isBefore(filterEndDate)
+        ? plan.getEndDate() : filterEndDate;
+
+    if (startDate.isAfter(endDate)) {
+      return 0;
+    }
+    if (!plan.hasRecurrenceRule()) {
+      return ChronoUnit.DAYS.between(startDate, endDate) + 1;
+    }
+    return plan.getRecurrenceRule().countOccurrences(startDate, endDate);
   }
 
   /**
@@ -66,7 +191,7 @@ public class PlanDomainService {
     }
 
     // Plan의 startDate - endDate 범위 체크
-    if (checkDate.isBefore(plan.getStartDate()) || checkDate.isAfter(plan.getEndDate())) {
+    if (!plan.isWithinPeriod(checkDate)) {
       return false;
     }
 
@@ -75,4 +200,134 @@ public class PlanDomainService {
     // RecurrenceRule이 없는 경우 고정된 Plan인지 판단
     return recurrenceRule == null || recurrenceRule.isOccurrence(checkDate);
   }
-}
\ No newline at end of file
+
+  /**
+   * Plan 적용 기간과 검색 기간을 병합한 발생 일자 Iterator
+   * RecurrenceRule이 없는 Plan은 적용 기간의 모든 날짜에 발생하는 것으로 본다.
+   * 반복 규칙의 발생 일자는 OccurrenceSource(월 단위 캐시)에서 읽는다.
+   *
+   * @param plan Plan 객체
+   * @param filterStartDate 검색 시작 날짜
+   * @param filterEndDate 검색 종료 날짜
+   * @return 발생 일자 Iterator
+   */
+  public Iterator<LocalDate> occurrenceIterator(Plan plan, LocalDate filterStartDate, LocalDate filterEndDate) {
+    return occurrenceIterator(plan, filterStartDate, filterEndDate, true);
+  }
+
+  /**
+   * 캐시를 거치지 않는 발생 일자 Iterator (커밋 전 상태로 계산하는 경우 사용).
+   * 트랜잭션 안에서 flush된 규칙은 커밋 전에 버전이 올라가므로, 캐시에 넣으면 롤백 후 같은 버전의 다른 규칙이 그 항목을 읽게 된다.
+   *
+   * @param plan Plan 객체
+   * @param filterStartDate 검색 시작 날짜
+   * @param filterEndDate 검색 종료 날짜
+   * @return 발생 일자 Iterator
+   */
+  public Iterator<LocalDate> uncachedOccurrenceIterator(Plan plan, LocalDate filterStartDate, LocalDate filterEndDate) {
+    return occurrenceIterator(plan, filterStartDate, filterEndDate, false);
+  }
+
+  private Iterator<LocalDate> occurrenceIterator(Plan plan, LocalDate filterStartDate, LocalDate filterEndDate, boolean cached) {
+    LocalDate startDate = plan.getStartDate().isAfter(filterStartDate) ? plan.getStartDate() : filterStartDate;
+    LocalDate endDate = plan.getEndDate() != null && plan.getEndDate().isBefore(filterEndDate)
+        ? plan.getEndDate() : filterEndDate;
+
+    if (startDate.isAfter(endDate)) {
+      return Collections.emptyIterator();
+    }
+    if (!plan.hasRecurrenceRule()) {
+      return startDate.datesUntil(endDate.plusDays(1)).iterator();
+    }
+    RecurrenceRule rule = plan.getRecurrenceRule();
+    return cached
+        ? occurrenceSource.occurrenceIterator(rule, startDate, endDate)
+        : rule.occurrenceIterator(startDate, endDate);
+  }
+
+  private RecurrenceRule getValidRecurrenceRule(Plan plan) {
+    if (plan == null) {
+      throw new IllegalArgumentException("Plan 객체는 null일 수 없습니다.");
+    }
+
+    RecurrenceRule recurrenceRule = plan.getRecurrenceRule();
+    if (!plan.hasRecurrenceRule() || !recurrenceRule.isValid()) {
+      throw new IllegalArgumentException("Plan에 유효한 RecurrenceRule이 없습니다.");
+    }
+    return recurrenceRule;
+  }
+
+  // 병합 중인 Plan별 발생 일자 위치
+  private static class OccurrenceCursor {
+
+    static final Comparator<OccurrenceCursor> ORDER = Comparator
+        .comparing((OccurrenceCursor cursor) -> cursor.current)
+        .thenComparing(cursor -> cursor.plan.getId(), Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final Plan plan;
+    private final Iterator<LocalDate> iterator;
+    private LocalDate current;
+
+    OccurrenceCursor(Plan plan, Iterator<LocalDate> iterator) {
+      this.plan = plan;
+      this.iterator = iterator;
+    }
+
+    boolean advance() {
+      current = iterator.hasNext() ? iterator.next() : null;
+      return current != null;
+    }
+  }
+
+  // 정렬된 후보 발생 일자와 Plan 발생 일자 Iterator에 모두 있는 날짜만 내보내는 Iterator
+  private static class IntersectionIterator implements Iterator<LocalDate> {
+
+    private final List<LocalDate> candidateDates;
+    private final Iterator<LocalDate> planDates;
+    private int index;       // 아직 비교하지 않은 첫 후보 발생 일자
+    private LocalDate next;  // 다음에 반환할 충돌 날짜
+
+    IntersectionIterator(List<LocalDate> candidateDates, Iterator<LocalDate> planDates) {
+      this.candidateDates = candidateDates;
+      this.planDates = planDates;
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (next == null && index < candidateDates.size() && planDates.hasNext()) {
+        LocalDate planDate = planDates.next();
+        index = lowerBound(planDate); // Plan 발생 일자보다 앞선 후보 발생 일자는 건너뜀
+        if (index < candidateDates.size() && candidateDates.get(index).equals(planDate)) {
+          next = planDate;
+          index++;
+        }
+      }
+      return next != null;
+    }
+
+    @Override
+    public LocalDate next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      LocalDate date = next;
+      next = null;
+      return date;
+    }
+
+    // index 이후에서 date 이상인 첫 후보 발생 일자 위치
+    private int lowerBound(LocalDate date) {
+      int low = index;
+      int high = candidateDates.size();
+      while (low < high) {
+        int mid = (low + high) >>> 1;
+        if (candidateDates.get(mid).isBefore(date)) {
+          low = mid + 1;
+        } else {
+          high = mid;
+        }
+      }
+      return low;
+    }
+  }
+}
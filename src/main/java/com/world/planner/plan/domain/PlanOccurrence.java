@@ -0,0 +1,16 @@
+package com.world.planner.plan.domain;
+
+import java.time.LocalDate;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 특정 날짜에 발생하는 Plan
+ */
+@Getter
+@RequiredArgsConstructor
+public class PlanOccurrence {
+
+  private final LocalDate date;
+  private final Plan plan;
+}
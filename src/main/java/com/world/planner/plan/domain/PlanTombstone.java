@@ -0,0 +1,38 @@
+package com.world.planner.plan.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 삭제된 Plan 기록 (변경 동기화에서 삭제를 전달하기 위해 보관 기간 동안 유지)
+ */
+@Entity
+@Table(name = "plan_tombstones", indexes = @Index(name = "idx_plan_tombstones_deleted_at", columnList = "deleted_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PlanTombstone {
+
+  @Id
+  @Column(name = "plan_id")
+  private UUID planId;
+
+  @Column(name = "deleted_at", nullable = false)
+  private LocalDateTime deletedAt;
+
+  private PlanTombstone(UUID planId, LocalDateTime deletedAt) {
+    this.planId = planId;
+    this.deletedAt = deletedAt;
+  }
+
+  public static PlanTombstone of(UUID planId, LocalDateTime deletedAt) {
+    return new PlanTombstone(planId, deletedAt);
+  }
+}
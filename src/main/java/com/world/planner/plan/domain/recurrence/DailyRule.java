@@ -11,8 +11,13 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class DailyRule extends RecurrenceRule {
 
-  public DailyRule(int interval) {
-    super(interval);
+  public DailyRule(int interval, LocalDate anchorDate) {
+    super(interval, anchorDate);
+  }
+
+  @Override
+  public RecurrenceRuleType getRuleType() {
+    return RecurrenceRuleType.DAILY;
   }
 
   @Override
@@ -35,9 +40,42 @@ public class DailyRule extends RecurrenceRule {
       return false;
     }
 
-    LocalDate startDate = LocalDate.now(); // 발생 시작일 (기본값으로 LocalDate.now() 사용)
-    long daysBetween = java.time.temporal.ChronoUnit.DAYS.between(startDate, date);
+    long daysBetween = date.toEpochDay() - getAnchorEpochDay(); // 기준일로부터 경과 일수
 
     return daysBetween >= 0 && daysBetween % getInterval() == 0;
   }
+
+  /**
+   * 기준일로부터 interval 일 단위로 건너뛰어 다음 발생 일자 계산
+   */
+  @Override
+  public LocalDate nextOccurrence(LocalDate from) {
+    if (from == null || !isValid()) {
+      return null;
+    }
+
+    long daysBetween = from.toEpochDay() - getAnchorEpochDay();
+    if (daysBetween < 0) {
+      return getAnchorDate();
+    }
+
+    long remainder = daysBetween % getInterval();
+    return remainder == 0 ? from : from.plusDays(getInterval() - remainder);
+  }
+
+  /**
+   * 기준일로부터의 경과 일수 구간 [first, last]에 있는 interval 배수의 개수
+   */
+  @Override
+  public long countOccurrences(LocalDate from, LocalDate to) {
+    if (from == null || to == null || !isValid()) {
+      return 0;
+    }
+    long first = Math.max(from.toEpochDay() - getAnchorEpochDay(), 0); // 기준일 이전은 발생 없음
+    long last = to.toEpochDay() - getAnchorEpochDay();
+    if (last < first) {
+      return 0;
+    }
+    return Math.floorDiv(last, getInterval()) - Math.floorDiv(first - 1, getInterval());
+  }
 }
@@ -10,11 +10,14 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.JoinColumn;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.SortedSet;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.SortNatural;
 
 @Getter
 @Entity
@@ -23,20 +26,37 @@ import lombok.NoArgsConstructor;
 public class MonthlyRule extends RecurrenceRule {
 
   @ElementCollection
+  @BatchSize(size = RecurrenceRule.BATCH_FETCH_SIZE)
   @CollectionTable(name = "recurrence_rule_days", joinColumns = @JoinColumn(name = "recurrence_rule_id"))
   @Enumerated(EnumType.STRING)
   @Column(name = "day_of_week")
-  private List<DayOfWeek> daysOfWeek;
+  @SortNatural
+  private SortedSet<DayOfWeek> daysOfWeek;
 
   @ElementCollection
+  @BatchSize(size = RecurrenceRule.BATCH_FETCH_SIZE)
   @CollectionTable(name = "recurrence_rule_days_of_month", joinColumns = @JoinColumn(name = "recurrence_rule_id"))
   @Column(name = "day_of_month")
-  private List<Integer> daysOfMonth;
+  @SortNatural
+  private SortedSet<Integer> daysOfMonth;
 
-  public MonthlyRule(int interval, List<DayOfWeek> daysOfWeek, List<Integer> daysOfMonth) {
-    super(interval);
-    this.daysOfWeek = daysOfWeek;
-    this.daysOfMonth = daysOfMonth;
+  public MonthlyRule(int interval, List<DayOfWeek> daysOfWeek, List<Integer> daysOfMonth, LocalDate anchorDate) {
+    super(interval, anchorDate);
+    applyMasks(daysOfWeek, daysOfMonth, null);
+    this.daysOfWeek = toSortedSet(daysOfWeek);
+    this.daysOfMonth = toSortedSet(daysOfMonth);
+  }
+
+  @Override
+  public RecurrenceRuleType getRuleType() {
+    return RecurrenceRuleType.MONTHLY;
+  }
+
+  @Override
+  protected void copyCollections(RecurrenceRule source) {
+    MonthlyRule monthlyRule = (MonthlyRule) source;
+    replaceElements(daysOfWeek, monthlyRule.daysOfWeek);
+    replaceElements(daysOfMonth, monthlyRule.daysOfMonth);
   }
 
   @Override
@@ -55,22 +75,102 @@ public class MonthlyRule extends RecurrenceRule {
 
   @Override
   public boolean isValid() {
-    return getInterval() > 0 &&
-        (daysOfWeek == null || !daysOfWeek.isEmpty()) &&
-        (daysOfMonth == null || daysOfMonth.stream().allMatch(day -> day > 0 && day <= 31));
+    // 날짜 범위(1-31)는 마스크 생성 시 예외로 막고, 저장된 마스크도 다시 확인
+    return getInterval() > 0 && RecurrenceMasks.isDayOfMonthMaskInRange(getDayOfMonthMask());
   }
 
+  /**
+   * 날짜 조건과 요일 조건을 모두 만족하는 날짜만 발생 일자로 본다. (예: 13일 + 금요일 = 13일의 금요일)
+   * 예전에는 날짜 조건만 확인하고 요일 조건은 무시했으나, YearlyRule 및 RFC 5545(BYMONTHDAY와 BYDAY의 교집합)와 같게 맞췄다.
+   * 한쪽 조건이 비어 있으면 그 조건은 모든 날짜/요일과 일치한다.
+   */
   @Override
   public boolean isOccurrence(LocalDate date) {
     if (!isValid() || date == null) {
       return false;
     }
-    LocalDate startDate = LocalDate.now(); // 기본 발생 시작일
-    long monthsBetween = ChronoUnit.MONTHS.between(startDate.withDayOfMonth(1), date.withDayOfMonth(1));
+    int monthsBetween = monthIndex(date) - getAnchorMonthIndex(); // 기준 월로부터 경과 개월 수
 
     return monthsBetween >= 0 &&
         monthsBetween % getInterval() == 0 &&
-        daysOfMonth.contains(date.getDayOfMonth());
+        RecurrenceMasks.matchesDayOfMonth(getDayOfMonthMask(), date.getDayOfMonth()) &&
+        RecurrenceMasks.matchesDayOfWeek(getWeekdayMask(), date.getDayOfWeek());
   }
 
+  /**
+   * interval 개월씩 건너뛰며 해당 월의 날짜/요일 조건으로 다음 발생 일자 계산
+   */
+  @Override
+  public LocalDate nextOccurrence(LocalDate from) {
+    if (!isValid() || from == null) {
+      return null;
+    }
+
+    YearMonth startMonth = YearMonth.from(getAnchorDate());
+    YearMonth month = YearMonth.from(from);
+    int fromDay = from.getDayOfMonth();
+    if (month.isBefore(startMonth)) {
+      month = startMonth;
+      fromDay = 1;
+    }
+
+    long monthIndex = monthIndex(month.atDay(1)) - getAnchorMonthIndex();
+    long maxMonthIndex = monthIndex + MAX_SEARCH_YEARS * 12L;
+    long offset = monthIndex % getInterval();
+    if (offset != 0) {
+      monthIndex += getInterval() - offset; // 다음 반복 월로 이동
+      fromDay = 1;
+    }
+
+    while (monthIndex <= maxMonthIndex) {
+      LocalDate match = firstMatchInMonth(startMonth.plusMonths(monthIndex), fromDay);
+      if (match != null) {
+        return match;
+      }
+      monthIndex += getInterval();
+      fromDay = 1;
+    }
+    return null;
+  }
+
+  /**
+   * 날짜 조건만 있고 모두 28일 이하이면 반복 월마다 발생 일자 수가 같으므로 반복 월 수 * 날짜 수에서 양 끝 월의 범위 밖 날짜만 뺀다.
+   * 그 밖의 경우(요일 조건, 29일 이후 날짜)는 반복 월만 interval 개월씩 건너뛰며 월 길이와 1일의 요일을 반영한 날짜 수를 비트 연산으로 더한다.
+   */
+  @Override
+  public long countOccurrences(LocalDate from, LocalDate to) {
+    if (!isValid() || from == null || to == null || from.isAfter(to)) {
+      return 0;
+    }
+    int fromMonthIndex = monthIndex(from);
+    int toMonthIndex = monthIndex(to);
+    int firstMonthIndex = Math.max(fromMonthIndex, getAnchorMonthIndex());
+    int offset = (firstMonthIndex - getAnchorMonthIndex()) % getInterval();
+    if (offset != 0) {
+      firstMonthIndex += getInterval() - offset; // 첫 반복 월로 이동
+    }
+    if (firstMonthIndex > toMonthIndex) {
+      return 0;
+    }
+
+    if (getWeekdayMask() == RecurrenceMasks.NONE && getDayOfMonthMask() != RecurrenceMasks.NONE
+        && getDayOfMonthMask() >>> 28 == 0) {
+      long months = (toMonthIndex - firstMonthIndex) / getInterval() + 1;
+      int lastMonthIndex = firstMonthIndex + (int) (months - 1) * getInterval();
+      long count = months * Integer.bitCount(getDayOfMonthMask());
+      if (firstMonthIndex == fromMonthIndex) {
+        count -= RecurrenceMasks.countDays(getDayOfMonthMask(), 1, from.getDayOfMonth() - 1);
+      }
+      if (lastMonthIndex == toMonthIndex) {
+        count -= RecurrenceMasks.countDays(getDayOfMonthMask(), to.getDayOfMonth() + 1, 31);
+      }
+      return count;
+    }
+
+    long count = 0;
+    for (int monthIndex = firstMonthIndex; monthIndex <= toMonthIndex; monthIndex += getInterval()) {
+      count += countInMonth(monthIndex, from, to);
+    }
+    return count;
+  }
 }
@@ -0,0 +1,55 @@
+package com.world.planner.plan.domain.recurrence;
+
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * RecurrenceRule의 발생 일자를 필요할 때마다 하나씩 계산하는 Iterator.
+ * 다음 발생 일자만 보관하므로 기간 길이와 무관하게 메모리 사용량이 일정하다.
+ */
+public class OccurrenceIterator implements Iterator<LocalDate> {
+
+  private final RecurrenceRule rule;
+  private final LocalDate endDate; // null이면 무기한
+
+  private LocalDate searchFrom;
+  private LocalDate next;
+
+  /**
+   * @param rule      반복 규칙
+   * @param startDate 탐색 시작 날짜 (포함)
+   * @param endDate   탐색 종료 날짜 (포함, null이면 무기한)
+   */
+  public OccurrenceIterator(RecurrenceRule rule, LocalDate startDate, LocalDate endDate) {
+    if (rule == null || startDate == null) {
+      throw new IllegalArgumentException("RecurrenceRule과 시작 날짜는 null일 수 없습니다.");
+    }
+    this.rule = rule;
+    this.endDate = endDate;
+    this.searchFrom = startDate;
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (next == null && searchFrom != null) {
+      next = rule.nextOccurrence(searchFrom);
+      if (next == null || (endDate != null && next.isAfter(endDate))) {
+        next = null;
+        searchFrom = null; // 더 이상 발생 일자 없음
+      }
+    }
+    return next != null;
+  }
+
+  @Override
+  public LocalDate next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    LocalDate current = next;
+    next = null;
+    searchFrom = current.plusDays(1);
+    return current;
+  }
+}
@@ -0,0 +1,489 @@
+package com.world.planner.plan.domain.recurrence;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import lombok.Getter;
+
+/**
+ * RFC 5545 RRULE 값 (FREQ, INTERVAL, BYDAY, BYMONTHDAY, BYMONTH, UNTIL, COUNT).
+ * 문자열을 앞에서부터 한 번만 훑어 요일/날짜/월을 바로 비트마스크로 읽으므로 split, 정규식, 중간 컬렉션을 만들지 않는다.
+ *
+ * <p>이 서비스의 반복 규칙으로 표현할 수 없는 값은 IllegalArgumentException으로 거부한다.
+ * <ul>
+ *   <li>FREQ는 DAILY, WEEKLY, MONTHLY, YEARLY만 지원 (DAILY는 BY* 조건 없음, WEEKLY는 BYDAY만, MONTHLY는 BYMONTH 제외)</li>
+ *   <li>순번이 붙은 BYDAY(1MO, -1FR), 음수 BYMONTHDAY, BYSETPOS / BYWEEKNO / BYYEARDAY / 시간 단위 BY*</li>
+ * </ul>
+ * WeeklyRule의 주 블록은 WKST가 아니라 Plan 시작 날짜 기준이므로 INTERVAL이 2 이상일 때
+ * WKST 주에서 시작 요일보다 앞선 BYDAY가 있으면(주 블록과 WKST 주가 어긋나 발생 주가 달라짐) toRecurrenceRule에서 거부한다.
+ * 반대로 출력할 때는 WKST에 기준일의 요일을 적어 주 블록이 그대로 전달되게 한다.
+ */
+@Getter
+public final class RRule {
+
+  // COUNT가 없는 규칙
+  public static final int NO_COUNT = 0;
+
+  private static final String PREFIX = "RRULE:";
+  private static final int ALL_DAYS_OF_MONTH = 0x7FFFFFFF;
+  private static final String[] WEEKDAY_CODES = {"MO", "TU", "WE", "TH", "FR", "SA", "SU"};
+
+  private final RecurrenceRuleType ruleType;
+  private final int interval;
+  private final int weekdayMask;    // RecurrenceMasks 형식 (0이면 조건 없음)
+  private final int dayOfMonthMask;
+  private final int monthMask;
+  private final LocalDate until;    // 없으면 null
+  private final int count;          // 없으면 NO_COUNT
+  private final int weekStart;      // WKST 요일의 RecurrenceMasks 비트 위치 (기본 MO = 0)
+
+  private RRule(
+      RecurrenceRuleType ruleType,
+      int interval,
+      int weekdayMask,
+      int dayOfMonthMask,
+      int monthMask,
+      LocalDate until,
+      int count,
+      int weekStart
+  ) {
+    this.ruleType = ruleType;
+    this.interval = interval;
+    this.weekdayMask = weekdayMask;
+    this.dayOfMonthMask = dayOfMonthMask;
+    this.monthMask = monthMask;
+    this.until = until;
+    this.count = count;
+    this.weekStart = weekStart;
+  }
+
+  /**
+   * RRULE 값 파싱 ("RRULE:" 접두사는 있어도 되고 없어도 됨)
+   *
+   * @param value RRULE 값 (예: FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,WE)
+   * @return 파싱된 RRule
+   * @throws IllegalArgumentException 형식이 잘못되었거나 지원하지 않는 값이 있는 경우
+   */
+  public static RRule parse(CharSequence value) {
+    if (value == null) {
+      throw new IllegalArgumentException("RRULE must not be empty.");
+    }
+    int position = 0;
+    int end = value.length();
+    while (position < end && Character.isWhitespace(value.charAt(position))) {
+      position++;
+    }
+    while (end > position && Character.isWhitespace(value.charAt(end - 1))) {
+      end--;
+    }
+    if (regionEqualsIgnoreCase(value, position, Math.min(position + PREFIX.length(), end), PREFIX)) {
+      position += PREFIX.length();
+    }
+    if (position == end) {
+      throw new IllegalArgumentException("RRULE must not be empty.");
+    }
+
+    RecurrenceRuleType ruleType = null;
+    int interval = 1;
+    int weekdayMask = RecurrenceMasks.NONE;
+    int dayOfMonthMask = RecurrenceMasks.NONE;
+    int monthMask = RecurrenceMasks.NONE;
+    LocalDate until = null;
+    int count = NO_COUNT;
+    int weekStart = 0;
+    int seenParts = 0; // 중복 확인용 Part 비트
+
+    while (position < end) {
+      int partEnd = indexOf(value, ';', position, end);
+      int equals = indexOf(value, '=', position, partEnd);
+      if (equals == partEnd || equals == position) {
+        throw new IllegalArgumentException("Invalid RRULE part: " + value.subSequence(position, partEnd));
+      }
+      Part part = Part.of(value, position, equals);
+      if ((seenParts & part.bit()) != 0) {
+        throw new IllegalArgumentException("RRULE must not contain " + part + " more than once.");
+      }
+      seenParts |= part.bit();
+
+      int valueStart = equals + 1;
+      switch (part) {
+        case FREQ -> ruleType = parseFrequency(value, valueStart, partEnd);
+        case INTERVAL -> interval = parsePositiveInt(value, valueStart, partEnd, "INTERVAL");
+        case BYDAY -> weekdayMask = parseWeekdays(value, valueStart, partEnd);
+        case BYMONTHDAY -> dayOfMonthMask = parseNumbers(value, valueStart, partEnd, 31, "BYMONTHDAY");
+        case BYMONTH -> monthMask = parseNumbers(value, valueStart, partEnd, 12, "BYMONTH");
+        case UNTIL -> until = parseDate(value, valueStart, partEnd);
+        case COUNT -> count = parsePositiveInt(value, valueStart, partEnd, "COUNT");
+        case WKST -> weekStart = parseWeekday(value, valueStart, partEnd);
+      }
+      position = partEnd + 1;
+    }
+
+    if (ruleType == null) {
+      throw new IllegalArgumentException("RRULE must contain FREQ.");
+    }
+    if (until != null && count != NO_COUNT) {
+      throw new IllegalArgumentException("RRULE must not contain both UNTIL and COUNT.");
+    }
+    switch (ruleType) {
+      case DAILY -> {
+        if ((weekdayMask | dayOfMonthMask | monthMask) != RecurrenceMasks.NONE) {
+          throw new IllegalArgumentException("BYDAY, BYMONTHDAY and BYMONTH are not supported with FREQ=DAILY.");
+        }
+      }
+      case WEEKLY -> {
+        if ((dayOfMonthMask | monthMask) != RecurrenceMasks.NONE) {
+          throw new IllegalArgumentException("Only BYDAY is supported with FREQ=WEEKLY.");
+        }
+      }
+      case MONTHLY -> {
+        if (monthMask != RecurrenceMasks.NONE) {
+          throw new IllegalArgumentException("BYMONTH is not supported with FREQ=MONTHLY.");
+        }
+      }
+      case YEARLY -> {
+      }
+    }
+    return new RRule(ruleType, interval, weekdayMask, dayOfMonthMask, monthMask, until, count, weekStart);
+  }
+
+  /**
+   * 반복 규칙 생성 (RecurrenceRuleFactory 사용, startDate를 기준일로 지정).
+   * RFC 5545와 같이 요일/날짜 조건이 없으면 시작 날짜의 요일(WEEKLY), 날짜(MONTHLY), 월과 날짜(YEARLY)를 사용한다.
+   *
+   * @param startDate 반복 시작 날짜 (DTSTART, Plan 시작 날짜)
+   * @return 저장되지 않은 반복 규칙
+   * @throws IllegalArgumentException INTERVAL이 2 이상인 WEEKLY에서 BYDAY가 WKST 주의 시작 요일 앞에 있는 경우
+   */
+  public RecurrenceRule toRecurrenceRule(LocalDate startDate) {
+    int weekdays = weekdayMask;
+    int days = dayOfMonthMask;
+    int months = monthMask;
+    boolean noDayCondition = weekdays == RecurrenceMasks.NONE && days == RecurrenceMasks.NONE;
+    switch (ruleType) {
+      case WEEKLY -> {
+        if (weekdays == RecurrenceMasks.NONE) {
+          weekdays = RecurrenceMasks.weekdayBit(startDate.getDayOfWeek());
+        }
+        if (interval > 1 && (weekdays & weekdaysBeforeStart(startDate)) != RecurrenceMasks.NONE) {
+          throw new IllegalArgumentException(
+              "BYDAY values before the DTSTART weekday in the WKST week are not supported with FREQ=WEEKLY and INTERVAL > 1.");
+        }
+      }
+      case MONTHLY -> {
+        if (noDayCondition) {
+          days = 1 << (startDate.getDayOfMonth() - 1);
+        }
+      }
+      case YEARLY -> {
+        if (noDayCondition) {
+          days = 1 << (startDate.getDayOfMonth() - 1);
+          if (months == RecurrenceMasks.NONE) {
+            months = 1 << (startDate.getMonthValue() - 1);
+          }
+        }
+      }
+      case DAILY -> {
+      }
+    }
+
+    return switch (ruleType) {
+      case DAILY -> RecurrenceRuleFactory.createDailyRule(interval, startDate);
+      case WEEKLY -> RecurrenceRuleFactory.createWeeklyRule(interval, RecurrenceMasks.toDaysOfWeek(weekdays), startDate);
+      case MONTHLY -> RecurrenceRuleFactory.createMonthlyRule(
+          interval, RecurrenceMasks.toDaysOfWeek(weekdays), RecurrenceMasks.toDaysOfMonth(days), startDate);
+      case YEARLY -> RecurrenceRuleFactory.createYearlyRule(interval, RecurrenceMasks.toMonths(months),
+          RecurrenceMasks.toDaysOfWeek(weekdays), RecurrenceMasks.toDaysOfMonth(days), startDate);
+    };
+  }
+
+  /**
+   * UNTIL / COUNT를 Plan 종료 날짜로 변환.
+   * COUNT는 countOccurrences(닫힌 식)로 범위를 두 배씩 넓힌 뒤 이분 탐색하므로 발생 일자를 하나씩 만들지 않는다.
+   *
+   * @param rule      toRecurrenceRule(startDate)로 만든 규칙
+   * @param startDate 반복 시작 날짜
+   * @return 종료 날짜 (UNTIL, COUNT번째 발생 일자, 둘 다 없으면 null)
+   */
+  public LocalDate endDate(RecurrenceRule rule, LocalDate startDate) {
+    if (until != null) {
+      return until;
+    }
+    if (count == NO_COUNT) {
+      return null;
+    }
+    // [low, high]만 세고 앞 구간의 발생 수는 counted에 누적하므로 전체 비용은 결과 구간을 몇 번 세는 정도로 끝난다
+    long limit = startDate.plusYears(RecurrenceRule.MAX_SEARCH_YEARS).toEpochDay();
+    long low = startDate.toEpochDay();
+    long counted = 0; // low 이전 발생 수
+    long high;
+    for (long span = 32; ; span <<= 1) {
+      high = Math.min(low + span - 1, limit);
+      long inRange = countBetween(rule, low, high);
+      if (counted + inRange >= count) {
+        break;
+      }
+      if (high == limit) {
+        return LocalDate.ofEpochDay(limit); // 탐색 한도 안에서 COUNT번 발생하지 않으면 한도까지
+      }
+      counted += inRange;
+      low = high + 1;
+    }
+    while (low < high) {
+      long middle = (low + high) >>> 1;
+      long inLeft = countBetween(rule, low, middle);
+      if (counted + inLeft >= count) {
+        high = middle;
+      } else {
+        counted += inLeft;
+        low = middle + 1;
+      }
+    }
+    return LocalDate.ofEpochDay(low);
+  }
+
+  /**
+   * 반복 규칙을 RRULE 값으로 변환 ("RRULE:" 접두사 없음)
+   *
+   * @param rule  반복 규칙
+   * @param until 반복 종료 날짜 (Plan 종료 날짜, 없으면 null)
+   * @return RRULE 값 (예: FREQ=WEEKLY;BYDAY=MO,WE;UNTIL=20271231)
+   */
+  public static String format(RecurrenceRule rule, LocalDate until) {
+    return appendTo(new StringBuilder(64), rule, until).toString();
+  }
+
+  /**
+   * 반복 규칙을 RRULE 값으로 출력 (INTERVAL은 1이면 생략, 격주 이상의 WEEKLY는 기준일 요일을 WKST로 출력). 마스크 비트를 바로 출력하므로 중간 컬렉션을 만들지 않는다.
+   *
+   * @param out   출력 대상
+   * @param rule  반복 규칙
+   * @param until 반복 종료 날짜 (Plan 종료 날짜, 없으면 null)
+   * @return out
+   */
+  public static StringBuilder appendTo(StringBuilder out, RecurrenceRule rule, LocalDate until) {
+    out.append("FREQ=").append(rule.getRuleType().name());
+    if (rule.getInterval() != 1) {
+      out.append(";INTERVAL=").append(rule.getInterval());
+    }
+    if (rule.getMonthMask() != RecurrenceMasks.NONE) {
+      appendNumbers(out.append(";BYMONTH="), rule.getMonthMask());
+    }
+    int dayOfMonthMask = rule.getDayOfMonthMask();
+    if (dayOfMonthMask == RecurrenceMasks.NONE && rule.getWeekdayMask() == RecurrenceMasks.NONE
+        && (rule.getRuleType() == RecurrenceRuleType.MONTHLY || rule.getRuleType() == RecurrenceRuleType.YEARLY)) {
+      dayOfMonthMask = ALL_DAYS_OF_MONTH; // 조건이 없으면 RRULE에서는 시작 날짜의 날짜만 뜻하므로 모든 날짜를 적는다
+    }
+    if (dayOfMonthMask != RecurrenceMasks.NONE) {
+      appendNumbers(out.append(";BYMONTHDAY="), dayOfMonthMask);
+    }
+    if (rule.getWeekdayMask() != RecurrenceMasks.NONE) {
+      out.append(";BYDAY=");
+      for (int bits = rule.getWeekdayMask(); bits != 0; bits &= bits - 1) {
+        out.append(WEEKDAY_CODES[Integer.numberOfTrailingZeros(bits)]);
+        if ((bits & (bits - 1)) != 0) {
+          out.append(',');
+        }
+      }
+    }
+    if (rule.getRuleType() == RecurrenceRuleType.WEEKLY && rule.getInterval() != 1) {
+      // 주 블록이 기준일 요일부터 시작하므로 WKST로 맞춘다 (DTSTART가 첫 발생 일자이면 발생 주가 같아짐)
+      out.append(";WKST=").append(WEEKDAY_CODES[rule.getAnchorDate().getDayOfWeek().getValue() - 1]);
+    }
+    if (until != null) {
+      appendDate(out.append(";UNTIL="), until);
+    }
+    return out;
+  }
+
+  /**
+   * RFC 5545 DATE(yyyyMMdd) 또는 DATE-TIME(yyyyMMddTHHmmss[Z]) 값의 날짜 부분 파싱
+   *
+   * @param value 날짜 값
+   * @return 날짜
+   * @throws IllegalArgumentException 형식이 잘못된 경우
+   */
+  public static LocalDate parseDate(CharSequence value) {
+    if (value == null) {
+      throw new IllegalArgumentException("Date must not be empty.");
+    }
+    return parseDate(value, 0, value.length());
+  }
+
+  /**
+   * RFC 5545 DATE 값(yyyyMMdd) 출력
+   */
+  public static StringBuilder appendDate(StringBuilder out, LocalDate date) {
+    int year = date.getYear();
+    if (year < 1000) {
+      out.append(year < 10 ? "000" : year < 100 ? "00" : "0");
+    }
+    out.append(year);
+    appendTwoDigits(out, date.getMonthValue());
+    return appendTwoDigits(out, date.getDayOfMonth());
+  }
+
+  // WKST로 시작하는 주에서 startDate의 요일보다 앞선 요일 마스크 (주 블록은 startDate 요일부터이므로 이 요일들은 발생 주가 어긋남)
+  private int weekdaysBeforeStart(LocalDate startDate) {
+    int mask = RecurrenceMasks.NONE;
+    for (int weekday = weekStart; weekday != startDate.getDayOfWeek().getValue() - 1; weekday = (weekday + 1) % 7) {
+      mask |= 1 << weekday;
+    }
+    return mask;
+  }
+
+  private static long countBetween(RecurrenceRule rule, long fromEpochDay, long toEpochDay) {
+    return rule.countOccurrences(LocalDate.ofEpochDay(fromEpochDay), LocalDate.ofEpochDay(toEpochDay));
+  }
+
+  private static LocalDate parseDate(CharSequence value, int start, int end) {
+    int length = end - start;
+    boolean dateTime = length >= 15 && value.charAt(start + 8) == 'T'
+        && (length == 15 || (length == 16 && value.charAt(end - 1) == 'Z'));
+    if (length != 8 && !dateTime) {
+      throw new IllegalArgumentException("Invalid date: " + value.subSequence(start, end));
+    }
+    if (dateTime) {
+      parseDigits(value, start + 9, start + 15, "time"); // 시각은 형식만 검사 (Plan은 날짜 단위)
+    }
+    int year = parseDigits(value, start, start + 4, "date");
+    int month = parseDigits(value, start + 4, start + 6, "date");
+    int day = parseDigits(value, start + 6, start + 8, "date");
+    try {
+      return LocalDate.of(year, month, day);
+    } catch (DateTimeException e) {
+      throw new IllegalArgumentException("Invalid date: " + value.subSequence(start, end));
+    }
+  }
+
+  private static RecurrenceRuleType parseFrequency(CharSequence value, int start, int end) {
+    for (RecurrenceRuleType type : RecurrenceRuleType.values()) {
+      if (regionEqualsIgnoreCase(value, start, end, type.name())) {
+        return type;
+      }
+    }
+    throw new IllegalArgumentException("Unsupported FREQ: " + value.subSequence(start, end));
+  }
+
+  private static int parseWeekdays(CharSequence value, int start, int end) {
+    int mask = RecurrenceMasks.NONE;
+    for (int itemStart = start; itemStart <= end; ) {
+      int itemEnd = indexOf(value, ',', itemStart, end);
+      char first = itemStart < itemEnd ? value.charAt(itemStart) : ' ';
+      if (first == '+' || first == '-' || (first >= '0' && first <= '9')) {
+        throw new IllegalArgumentException("Ordinal BYDAY values (e.g. 1MO, -1FR) are not supported.");
+      }
+      mask |= 1 << parseWeekday(value, itemStart, itemEnd);
+      itemStart = itemEnd + 1;
+    }
+    return mask;
+  }
+
+  // 요일 코드(MO..SU)의 RecurrenceMasks 비트 위치
+  private static int parseWeekday(CharSequence value, int start, int end) {
+    for (int index = 0; index < WEEKDAY_CODES.length; index++) {
+      if (regionEqualsIgnoreCase(value, start, end, WEEKDAY_CODES[index])) {
+        return index;
+      }
+    }
+    throw new IllegalArgumentException("Invalid weekday: " + value.subSequence(start, end));
+  }
+
+  private static int parseNumbers(CharSequence value, int start, int end, int max, String name) {
+    int mask = RecurrenceMasks.NONE;
+    for (int itemStart = start; itemStart <= end; ) {
+      int itemEnd = indexOf(value, ',', itemStart, end);
+      int numberStart = itemStart;
+      if (numberStart < itemEnd && value.charAt(numberStart) == '-') {
+        throw new IllegalArgumentException("Negative " + name + " values are not supported.");
+      }
+      if (numberStart < itemEnd && value.charAt(numberStart) == '+') {
+        numberStart++;
+      }
+      int number = parseDigits(value, numberStart, itemEnd, name);
+      if (number < 1 || number > max) {
+        throw new IllegalArgumentException(name + " values must be between 1 and " + max + ".");
+      }
+      mask |= 1 << (number - 1);
+      itemStart = itemEnd + 1;
+    }
+    return mask;
+  }
+
+  private static int parsePositiveInt(CharSequence value, int start, int end, String name) {
+    int number = parseDigits(value, start, end, name);
+    if (number <= 0) {
+      throw new IllegalArgumentException(name + " must be greater than 0.");
+    }
+    return number;
+  }
+
+  private static int parseDigits(CharSequence value, int start, int end, String name) {
+    if (start >= end || end - start > 9) { // 9자리까지는 int 범위를 넘지 않음
+      throw new IllegalArgumentException("Invalid " + name + ": " + value.subSequence(start, Math.max(start, end)));
+    }
+    int number = 0;
+    for (int index = start; index < end; index++) {
+      char c = value.charAt(index);
+      if (c < '0' || c > '9') {
+        throw new IllegalArgumentException("Invalid " + name + ": " + value.subSequence(start, end));
+      }
+      number = number * 10 + (c - '0');
+    }
+    return number;
+  }
+
+  private static void appendNumbers(StringBuilder out, int mask) {
+    for (int bits = mask; bits != 0; bits &= bits - 1) {
+      out.append(Integer.numberOfTrailingZeros(bits) + 1);
+      if ((bits & (bits - 1)) != 0) {
+        out.append(',');
+      }
+    }
+  }
+
+  private static StringBuilder appendTwoDigits(StringBuilder out, int value) {
+    return out.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+  }
+
+  // [start, end)에서 c의 위치 (없으면 end)
+  private static int indexOf(CharSequence value, char c, int start, int end) {
+    for (int index = start; index < end; index++) {
+      if (value.charAt(index) == c) {
+        return index;
+      }
+    }
+    return end;
+  }
+
+  private static boolean regionEqualsIgnoreCase(CharSequence value, int start, int end, String expected) {
+    if (end - start != expected.length()) {
+      return false;
+    }
+    for (int index = 0; index < expected.length(); index++) {
+      if (Character.toUpperCase(value.charAt(start + index)) != expected.charAt(index)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // RRULE 구성 요소 (지원하지 않는 이름은 Part.of에서 거부)
+  private enum Part {
+    FREQ, INTERVAL, BYDAY, BYMONTHDAY, BYMONTH, UNTIL, COUNT, WKST;
+
+    private static final Part[] VALUES = values();
+
+    int bit() {
+      return 1 << ordinal();
+    }
+
+    static Part of(CharSequence value, int start, int end) {
+      for (Part part : VALUES) {
+        if (regionEqualsIgnoreCase(value, start, end, part.name())) {
+          return part;
+        }
+      }
+      throw new IllegalArgumentException("Unsupported RRULE part: " + value.subSequence(start, end));
+    }
+  }
+}
@@ -0,0 +1,224 @@
+package com.world.planner.plan.domain.recurrence;
+
+import java.time.DayOfWeek;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 요일/날짜/월 조건을 정수 비트마스크로 다루는 유틸리티.
+ * 마스크가 0이면 해당 조건이 없는 것(모든 값 허용)으로 본다.
+ *
+ * <ul>
+ *   <li>요일: MONDAY = bit 0 ... SUNDAY = bit 6 (7비트)</li>
+ *   <li>날짜: 1일 = bit 0 ... 31일 = bit 30 (31비트)</li>
+ *   <li>월: 1월 = bit 0 ... 12월 = bit 11 (12비트)</li>
+ * </ul>
+ */
+public final class RecurrenceMasks {
+
+  public static final int NONE = 0;
+
+  // 일(day) 비트마스크에서 7일 간격 날짜 (bit 0, 7, 14, 21, 28)
+  private static final int EVERY_SEVENTH_DAY = 0x10204081;
+
+  private RecurrenceMasks() {
+  }
+
+  /**
+   * 요일 리스트를 7비트 마스크로 변환
+   */
+  public static int ofDaysOfWeek(Collection<DayOfWeek> daysOfWeek) {
+    int mask = NONE;
+    if (daysOfWeek != null) {
+      for (DayOfWeek dayOfWeek : daysOfWeek) {
+        mask |= weekdayBit(dayOfWeek);
+      }
+    }
+    return mask;
+  }
+
+  /**
+   * 날짜 리스트를 31비트 마스크로 변환
+   */
+  public static int ofDaysOfMonth(Collection<Integer> daysOfMonth) {
+    int mask = NONE;
+    if (daysOfMonth != null) {
+      for (int day : daysOfMonth) {
+        if (day <= 0 || day > 31) {
+          throw new IllegalArgumentException("Days of the month must be between 1 and 31.");
+        }
+        mask |= 1 << (day - 1);
+      }
+    }
+    return mask;
+  }
+
+  /**
+   * 월 리스트를 12비트 마스크로 변환
+   */
+  public static int ofMonths(Collection<Integer> monthsOfYear) {
+    int mask = NONE;
+    if (monthsOfYear != null) {
+      for (int month : monthsOfYear) {
+        if (month <= 0 || month > 12) {
+          throw new IllegalArgumentException("Months of the year must be between 1 and 12.");
+        }
+        mask |= 1 << (month - 1);
+      }
+    }
+    return mask;
+  }
+
+  /**
+   * 요일 마스크를 요일 리스트로 변환 (MONDAY부터 순서대로)
+   */
+  public static List<DayOfWeek> toDaysOfWeek(int weekdayMask) {
+    List<DayOfWeek> daysOfWeek = new ArrayList<>(Integer.bitCount(weekdayMask));
+    for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+      if ((weekdayMask & weekdayBit(dayOfWeek)) != 0) {
+        daysOfWeek.add(dayOfWeek);
+      }
+    }
+    return daysOfWeek;
+  }
+
+  /**
+   * 날짜 마스크를 날짜 리스트로 변환 (오름차순)
+   */
+  public static List<Integer> toDaysOfMonth(int dayOfMonthMask) {
+    return toValues(dayOfMonthMask);
+  }
+
+  /**
+   * 월 마스크를 월 리스트로 변환 (오름차순)
+   */
+  public static List<Integer> toMonths(int monthMask) {
+    return toValues(monthMask);
+  }
+
+  public static int weekdayBit(DayOfWeek dayOfWeek) {
+    return 1 << (dayOfWeek.getValue() - 1);
+  }
+
+  /**
+   * 날짜 마스크가 1-31일 비트만 가지는지 확인 (생성자를 거치지 않고 저장된 값 검증)
+   */
+  public static boolean isDayOfMonthMaskInRange(int dayOfMonthMask) {
+    return dayOfMonthMask >>> 31 == 0;
+  }
+
+  /**
+   * 월 마스크가 1-12월 비트만 가지는지 확인 (생성자를 거치지 않고 저장된 값 검증)
+   */
+  public static boolean isMonthMaskInRange(int monthMask) {
+    return monthMask >>> 12 == 0;
+  }
+
+  public static boolean matchesDayOfWeek(int weekdayMask, DayOfWeek dayOfWeek) {
+    return weekdayMask == NONE || (weekdayMask & weekdayBit(dayOfWeek)) != 0;
+  }
+
+  public static boolean matchesDayOfMonth(int dayOfMonthMask, int dayOfMonth) {
+    return dayOfMonthMask == NONE || (dayOfMonthMask & (1 << (dayOfMonth - 1))) != 0;
+  }
+
+  public static boolean matchesMonth(int monthMask, int month) {
+    return monthMask == NONE || (monthMask & (1 << (month - 1))) != 0;
+  }
+
+  /**
+   * 해당 월에서 fromDay(포함) 이후 날짜/요일 마스크를 만족하는 첫 일(day) 계산
+   *
+   * @param month          탐색할 월
+   * @param fromDay        탐색 시작 일
+   * @param dayOfMonthMask 날짜 마스크
+   * @param weekdayMask    요일 마스크
+   * @return 조건을 만족하는 첫 일 (없으면 0)
+   */
+  public static int firstMatchingDay(YearMonth month, int fromDay, int dayOfMonthMask, int weekdayMask) {
+    int lengthOfMonth = month.lengthOfMonth();
+    if (fromDay > lengthOfMonth) {
+      return 0;
+    }
+    // 1일의 요일 인덱스 (MONDAY = 0)
+    int firstWeekday = month.atDay(1).getDayOfWeek().getValue() - 1;
+
+    if (dayOfMonthMask != NONE) {
+      // fromDay ~ 말일 범위의 후보 날짜만 남긴 뒤 낮은 비트부터 검사
+      int candidates = dayOfMonthMask & (-1 << (fromDay - 1)) & (-1 >>> (32 - lengthOfMonth));
+      while (candidates != 0) {
+        int day = Integer.numberOfTrailingZeros(candidates) + 1;
+        if (weekdayMask == NONE || (weekdayMask & (1 << ((firstWeekday + day - 1) % 7))) != 0) {
+          return day;
+        }
+        candidates &= candidates - 1;
+      }
+      return 0;
+    }
+
+    if (weekdayMask == NONE) {
+      return fromDay;
+    }
+    // 요일 조건만 있으면 최대 7일 이내에서 결정
+    int weekday = (firstWeekday + fromDay - 1) % 7;
+    for (int offset = 0; offset < 7; offset++) {
+      if ((weekdayMask & (1 << ((weekday + offset) % 7))) != 0) {
+        int day = fromDay + offset;
+        return day <= lengthOfMonth ? day : 0;
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * 해당 월에서 날짜/요일 마스크를 만족하는 날짜를 일(day) 비트마스크로 계산 (day d = bit d-1).
+   * 요일마다 7일 간격 비트 패턴을 1일의 요일만큼 밀어 합치므로 날짜를 하나씩 검사하지 않는다.
+   *
+   * @param month          계산할 월
+   * @param dayOfMonthMask 날짜 마스크
+   * @param weekdayMask    요일 마스크
+   * @return 조건을 만족하는 날짜 비트마스크 (말일 이후 비트는 0)
+   */
+  public static int matchingDays(YearMonth month, int dayOfMonthMask, int weekdayMask) {
+    int days = (dayOfMonthMask == NONE ? -1 : dayOfMonthMask) & (-1 >>> (32 - month.lengthOfMonth()));
+    if (weekdayMask != NONE) {
+      int firstWeekday = month.atDay(1).getDayOfWeek().getValue() - 1;
+      int weekdayDays = 0;
+      for (int bits = weekdayMask; bits != 0; bits &= bits - 1) {
+        int weekday = Integer.numberOfTrailingZeros(bits);
+        weekdayDays |= EVERY_SEVENTH_DAY << ((weekday - firstWeekday + 7) % 7);
+      }
+      days &= weekdayDays;
+    }
+    return days;
+  }
+
+  /**
+   * 일(day) 비트마스크에서 fromDay ~ toDay(포함) 사이의 날짜 수
+   */
+  public static int countDays(int days, int fromDay, int toDay) {
+    if (fromDay > toDay) {
+      return 0;
+    }
+    return Integer.bitCount(days & (-1 << (fromDay - 1)) & (-1 >>> (32 - Math.min(toDay, 31))));
+  }
+
+  /**
+   * startWeekday(MONDAY = 0)부터 연속된 days일(최대 7일)의 요일 마스크
+   */
+  public static int consecutiveWeekdays(int startWeekday, int days) {
+    int window = (1 << Math.min(days, 7)) - 1;
+    return ((window << startWeekday) | (window >>> (7 - startWeekday))) & 0x7F;
+  }
+
+  // bit n -> 값 n + 1
+  private static List<Integer> toValues(int mask) {
+    List<Integer> values = new ArrayList<>(Integer.bitCount(mask));
+    for (int bits = mask; bits != 0; bits &= bits - 1) {
+      values.add(Integer.numberOfTrailingZeros(bits) + 1);
+    }
+    return values;
+  }
+}
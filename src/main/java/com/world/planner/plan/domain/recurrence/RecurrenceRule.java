@@ -10,8 +10,20 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Inheritance;
 import jakarta.persistence.InheritanceType;
+import jakarta.persistence.Version;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TreeSet;
 import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -25,20 +37,141 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public abstract class RecurrenceRule extends BaseEntity {
 
+  // 요일/날짜/월 컬렉션을 여러 규칙에 대해 한 번에 조회하는 단위
+  public static final int BATCH_FETCH_SIZE = 100;
+
+  // 다음 발생 일자 탐색 한도 (그레고리력 400년 주기)
+  protected static final int MAX_SEARCH_YEARS = 400;
+
   @Id
   @GeneratedValue(strategy = GenerationType.UUID)
   private UUID id;
 
+  // 규칙이 바뀔 때마다 증가 (발생 일자 캐시 키에 포함)
+  @Version
+  @Column(nullable = false)
+  private long version;
+
   @Column(name = "recurrence_interval", nullable = false)
   private int interval;
 
-  protected RecurrenceRule(int interval) {
+  // 매칭용 요일 비트마스크 (RecurrenceMasks 참고, 0이면 조건 없음)
+  @Column(name = "weekday_mask", nullable = false)
+  private int weekdayMask;
+
+  // 매칭용 날짜 비트마스크
+  @Column(name = "day_of_month_mask", nullable = false)
+  private int dayOfMonthMask;
+
+  // 매칭용 월 비트마스크
+  @Column(name = "month_mask", nullable = false)
+  private int monthMask;
+
+  // 반복 주기 계산의 기준일 (Plan에 연결되면 Plan 시작 날짜)
+  @Column(name = "anchor_date", nullable = false)
+  private LocalDate anchorDate;
+
+  // 기준일의 epoch day (일/주 단위 계산 및 SQL 후보 필터용, anchorDate에서 파생)
+  @Column(name = "anchor_epoch_day", nullable = false)
+  private long anchorEpochDay;
+
+  // 기준일의 월 번호 year * 12 + (month - 1) (월/년 단위 계산 및 SQL 후보 필터용, anchorDate에서 파생)
+  @Column(name = "anchor_month_index", nullable = false)
+  private int anchorMonthIndex;
+
+  /**
+   * @param interval   반복 주기
+   * @param anchorDate 반복 주기 계산의 기준일 (보통 Plan 시작 날짜, Plan에 연결되면 Plan 시작 날짜로 다시 맞춤)
+   */
+  protected RecurrenceRule(int interval, LocalDate anchorDate) {
     if (interval <= 0) {
       throw new IllegalArgumentException("Interval must be greater than 0.");
     }
     this.interval = interval;
+    anchorTo(anchorDate);
+  }
+
+  /**
+   * 반복 주기 계산의 기준일 지정. 파생 값(epoch day, 월 번호)을 함께 계산해 두므로 매칭은 정수 연산만으로 끝난다.
+   *
+   * @param anchorDate 기준일
+   */
+  public void anchorTo(LocalDate anchorDate) {
+    if (anchorDate == null) {
+      throw new IllegalArgumentException("Anchor date must not be null.");
+    }
+    if (!anchorDate.equals(this.anchorDate)) {
+      this.anchorDate = anchorDate;
+      this.anchorEpochDay = anchorDate.toEpochDay();
+      this.anchorMonthIndex = monthIndex(anchorDate);
+    }
+  }
+
+  /**
+   * 날짜의 월 번호 (year * 12 + (month - 1))
+   */
+  public static int monthIndex(LocalDate date) {
+    return date.getYear() * 12 + date.getMonthValue() - 1;
+  }
+
+  /**
+   * 요일/날짜/월 리스트로부터 매칭용 비트마스크 계산.
+   * 마스크는 recurrence_rule 행에 함께 저장되므로 매칭 시 컬렉션 테이블을 조회하지 않는다.
+   */
+  protected void applyMasks(List<DayOfWeek> daysOfWeek, List<Integer> daysOfMonth, List<Integer> monthsOfYear) {
+    this.weekdayMask = RecurrenceMasks.ofDaysOfWeek(daysOfWeek);
+    this.dayOfMonthMask = RecurrenceMasks.ofDaysOfMonth(daysOfMonth);
+    this.monthMask = RecurrenceMasks.ofMonths(monthsOfYear);
+  }
+
+  /**
+   * 정의(타입, 주기, 요일/날짜/월)가 같은 규칙인지 확인. 기준일은 Plan이 정하므로 비교하지 않는다.
+   *
+   * @param other 비교할 규칙
+   * @return 정의가 같으면 true
+   */
+  public boolean hasSameDefinition(RecurrenceRule other) {
+    return other != null
+        && getRuleType() == other.getRuleType()
+        && interval == other.interval
+        && weekdayMask == other.weekdayMask
+        && dayOfMonthMask == other.dayOfMonthMask
+        && monthMask == other.monthMask;
+  }
+
+  /**
+   * 같은 타입 규칙의 정의를 이 규칙에 반영.
+   * 행을 새로 만들지 않고 바뀐 컬럼과 컬렉션 원소만 갱신하며, 버전이 올라가 월별 캐시 키도 바뀐다.
+   *
+   * @param source 새 정의를 가진 규칙 (저장되지 않은 규칙)
+   */
+  public void redefine(RecurrenceRule source) {
+    if (source == null || getRuleType() != source.getRuleType()) {
+      throw new IllegalArgumentException("Rule type cannot be changed in place.");
+    }
+    this.interval = source.interval;
+    this.weekdayMask = source.weekdayMask;
+    this.dayOfMonthMask = source.dayOfMonthMask;
+    this.monthMask = source.monthMask;
+    copyCollections(source);
+  }
+
+  // 요일/날짜/월 컬렉션 복사 (컬렉션이 있는 규칙에서 재정의)
+  protected void copyCollections(RecurrenceRule source) {
   }
 
+  // 빠진 원소만 삭제하고 새 원소만 추가 (컬렉션 테이블 전체 삭제 후 재삽입 방지)
+  protected static <T> void replaceElements(Set<T> target, Set<T> source) {
+    target.retainAll(source);
+    target.addAll(source);
+  }
+
+  protected static <T extends Comparable<? super T>> SortedSet<T> toSortedSet(Collection<T> values) {
+    return values == null ? new TreeSet<>() : new TreeSet<>(values);
+  }
+
+  public abstract RecurrenceRuleType getRuleType(); // 규칙 타입 반환
+
   public abstract String getDescription(); // 규칙 설명 반환
 
   public abstract boolean isValid();       // 유효성 검증
@@ -50,4 +183,86 @@ public abstract class RecurrenceRule extends BaseEntity {
    * @return 포함 여부
    */
   public abstract boolean isOccurrence(LocalDate date);
+
+  /**
+   * 주어진 날짜(포함) 이후의 가장 가까운 발생 일자 계산.
+   * 하루씩 검사하지 않고 interval 단위로 주/월/년을 건너뛰며 다음 발생 일자를 바로 구한다.
+   *
+   * @param from 탐색 시작 날짜
+   * @return 다음 발생 일자 (탐색 한도 내에 발생 일자가 없으면 null)
+   */
+  public abstract LocalDate nextOccurrence(LocalDate from);
+
+  /**
+   * 기간 내 발생 일자 수 계산.
+   * 발생 일자를 만들지 않고 반복 주기 수와 요일/날짜 조건 집합의 크기로 계산하므로 기간이 길어도 비용이 거의 늘지 않는다.
+   *
+   * @param from 시작 날짜 (포함)
+   * @param to   종료 날짜 (포함)
+   * @return 발생 일자 수 (기간이 역전되었으면 0)
+   */
+  public abstract long countOccurrences(LocalDate from, LocalDate to);
+
+  /**
+   * from(포함) 이후의 발생 일자를 지연 계산하는 Iterator
+   *
+   * @param from 탐색 시작 날짜
+   * @param to   탐색 종료 날짜 (포함, null이면 무기한)
+   * @return 발생 일자 Iterator
+   */
+  public OccurrenceIterator occurrenceIterator(LocalDate from, LocalDate to) {
+    return new OccurrenceIterator(this, from, to);
+  }
+
+  /**
+   * from(포함) 이후의 발생 일자를 지연 계산하는 정렬된 Stream.
+   * 종료 날짜가 없으면 무한 Stream이므로 limit / takeWhile 등으로 끊어서 사용한다.
+   *
+   * @param from 탐색 시작 날짜
+   * @param to   탐색 종료 날짜 (포함, null이면 무기한)
+   * @return 발생 일자 Stream
+   */
+  public Stream<LocalDate> occurrences(LocalDate from, LocalDate to) {
+    int characteristics = Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT
+        | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+    return StreamSupport.stream(
+        Spliterators.spliteratorUnknownSize(occurrenceIterator(from, to), characteristics), false);
+  }
+
+  /**
+   * 해당 월의 발생 일자를 일(day) 비트마스크로 계산 (day d = bit d-1)
+   *
+   * @param month 계산할 월
+   * @return 발생 일자 비트마스크 (발생 일자가 없으면 0)
+   */
+  public int occurrenceDaysInMonth(YearMonth month) {
+    int days = 0;
+    OccurrenceIterator iterator = occurrenceIterator(month.atDay(1), month.atEndOfMonth());
+    while (iterator.hasNext()) {
+      days |= 1 << (iterator.next().getDayOfMonth() - 1);
+    }
+    return days;
+  }
+
+  /**
+   * 월 번호 monthIndex인 월에서 [from, to]에 속하고 날짜/요일 마스크를 만족하는 날짜 수 (월 길이 반영)
+   */
+  protected int countInMonth(int monthIndex, LocalDate from, LocalDate to) {
+    YearMonth month = YearMonth.of(Math.floorDiv(monthIndex, 12), Math.floorMod(monthIndex, 12) + 1);
+    int fromDay = monthIndex == monthIndex(from) ? from.getDayOfMonth() : 1;
+    int toDay = monthIndex == monthIndex(to) ? to.getDayOfMonth() : 31;
+    return RecurrenceMasks.countDays(RecurrenceMasks.matchingDays(month, dayOfMonthMask, weekdayMask), fromDay, toDay);
+  }
+
+  /**
+   * 해당 월에서 fromDay(포함) 이후 날짜/요일 마스크를 만족하는 첫 날짜 계산
+   *
+   * @param month   탐색할 월
+   * @param fromDay 탐색 시작 일
+   * @return 조건을 만족하는 첫 날짜 (없으면 null)
+   */
+  protected LocalDate firstMatchInMonth(YearMonth month, int fromDay) {
+    int day = RecurrenceMasks.firstMatchingDay(month, fromDay, dayOfMonthMask, weekdayMask);
+    return day == 0 ? null : month.atDay(day);
+  }
 }
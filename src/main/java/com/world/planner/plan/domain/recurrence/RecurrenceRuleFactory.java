@@ -1,6 +1,7 @@
 package com.world.planner.plan.domain.recurrence;
 
 import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.util.List;
 
 public class RecurrenceRuleFactory {
@@ -9,10 +10,11 @@ public class RecurrenceRuleFactory {
    * DailyRule 생성
    *
    * @param interval 반복 주기
+   * @param anchorDate 반복 주기 계산의 기준일
    * @return DailyRule
    */
-  public static RecurrenceRule createDailyRule(int interval) {
-    return new DailyRule(interval);
+  public static RecurrenceRule createDailyRule(int interval, LocalDate anchorDate) {
+    return new DailyRule(interval, anchorDate);
   }
 
   /**
@@ -20,10 +22,11 @@ public class RecurrenceRuleFactory {
    *
    * @param interval 반복 주기
    * @param daysOfWeek 반복 요일
+   * @param anchorDate 반복 주기 계산의 기준일
    * @return WeeklyRule
    */
-  public static RecurrenceRule createWeeklyRule(int interval, List<DayOfWeek> daysOfWeek) {
-    return new WeeklyRule(interval, daysOfWeek);
+  public static RecurrenceRule createWeeklyRule(int interval, List<DayOfWeek> daysOfWeek, LocalDate anchorDate) {
+    return new WeeklyRule(interval, daysOfWeek, anchorDate);
   }
 
   /**
@@ -32,10 +35,12 @@ public class RecurrenceRuleFactory {
    * @param interval 반복 주기
    * @param daysOfWeek 특정한 요일에 반복 (선택적)
    * @param daysOfMonth 특정한 날짜에 반복 (선택적)
+   * @param anchorDate 반복 주기 계산의 기준일
    * @return MonthlyRule
    */
-  public static RecurrenceRule createMonthlyRule(int interval, List<DayOfWeek> daysOfWeek, List<Integer> daysOfMonth) {
-    return new MonthlyRule(interval, daysOfWeek, daysOfMonth);
+  public static RecurrenceRule createMonthlyRule(
+      int interval, List<DayOfWeek> daysOfWeek, List<Integer> daysOfMonth, LocalDate anchorDate) {
+    return new MonthlyRule(interval, daysOfWeek, daysOfMonth, anchorDate);
   }
 
   /**
@@ -45,14 +50,16 @@ public class RecurrenceRuleFactory {
    * @param monthsOfYear 반복되는 월 (선택적)
    * @param daysOfWeek 특정한 요일에 반복 (선택적)
    * @param daysOfMonth 특정한 날짜에 반복 (선택적)
+   * @param anchorDate 반복 주기 계산의 기준일
    * @return YearlyRule
    */
   public static RecurrenceRule createYearlyRule(
       int interval,
       List<Integer> monthsOfYear,
       List<DayOfWeek> daysOfWeek,
-      List<Integer> daysOfMonth
+      List<Integer> daysOfMonth,
+      LocalDate anchorDate
   ) {
-    return new YearlyRule(interval, monthsOfYear, daysOfWeek, daysOfMonth);
+    return new YearlyRule(interval, monthsOfYear, daysOfWeek, daysOfMonth, anchorDate);
   }
 }
@@ -10,11 +10,13 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.JoinColumn;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.SortedSet;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.SortNatural;
 
 @Getter
 @Entity
@@ -23,14 +25,27 @@ import lombok.NoArgsConstructor;
 public class WeeklyRule extends RecurrenceRule {
 
   @ElementCollection
+  @BatchSize(size = RecurrenceRule.BATCH_FETCH_SIZE)
   @CollectionTable(name = "recurrence_rule_days", joinColumns = @JoinColumn(name = "recurrence_rule_id"))
   @Enumerated(EnumType.STRING)
   @Column(name = "day_of_week")
-  private List<DayOfWeek> daysOfWeek;
+  @SortNatural
+  private SortedSet<DayOfWeek> daysOfWeek;
 
-  public WeeklyRule(int interval, List<DayOfWeek> daysOfWeek) {
-    super(interval);
-    this.daysOfWeek = daysOfWeek;
+  public WeeklyRule(int interval, List<DayOfWeek> daysOfWeek, LocalDate anchorDate) {
+    super(interval, anchorDate);
+    applyMasks(daysOfWeek, null, null);
+    this.daysOfWeek = toSortedSet(daysOfWeek);
+  }
+
+  @Override
+  public RecurrenceRuleType getRuleType() {
+    return RecurrenceRuleType.WEEKLY;
+  }
+
+  @Override
+  protected void copyCollections(RecurrenceRule source) {
+    replaceElements(daysOfWeek, ((WeeklyRule) source).daysOfWeek);
   }
 
   @Override
@@ -40,7 +55,7 @@ public class WeeklyRule extends RecurrenceRule {
 
   @Override
   public boolean isValid() {
-    return getInterval() > 0 && daysOfWeek != null && !daysOfWeek.isEmpty();
+    return getInterval() > 0 && getWeekdayMask() != RecurrenceMasks.NONE;
   }
 
   @Override
@@ -48,12 +63,71 @@ public class WeeklyRule extends RecurrenceRule {
     if (!isValid() || date == null) {
       return false;
     }
-    LocalDate startDate = LocalDate.now(); // 기본 발생 시작일 (예: 현재 날짜)
-    long weeksBetween = ChronoUnit.WEEKS.between(startDate, date);
+    long daysBetween = date.toEpochDay() - getAnchorEpochDay(); // 기준일로부터 경과 일수
+
+    return daysBetween >= 0 &&
+        (daysBetween / 7) % getInterval() == 0 &&
+        RecurrenceMasks.matchesDayOfWeek(getWeekdayMask(), date.getDayOfWeek());
+  }
+
+  /**
+   * 기준일부터 7일 단위 주 블록을 interval 주씩 건너뛰며 다음 발생 일자 계산
+   */
+  @Override
+  public LocalDate nextOccurrence(LocalDate from) {
+    if (!isValid() || from == null) {
+      return null;
+    }
+
+    LocalDate startDate = getAnchorDate();
+    LocalDate candidate = from.isBefore(startDate) ? startDate : from;
+    LocalDate limit = candidate.plusYears(MAX_SEARCH_YEARS);
+    long weekIndex = (candidate.toEpochDay() - getAnchorEpochDay()) / 7;
+
+    while (!candidate.isAfter(limit)) {
+      long offset = weekIndex % getInterval();
+      if (offset != 0) {
+        weekIndex += getInterval() - offset; // 다음 반복 주로 이동
+        candidate = startDate.plusWeeks(weekIndex);
+      }
+
+      // 주 블록 안에서 요일 마스크를 만족하는 첫 날짜 (최대 7일)
+      int weekday = candidate.getDayOfWeek().getValue() - 1;
+      int daysLeftInWeek = (int) (7 - (candidate.toEpochDay() - getAnchorEpochDay()) % 7);
+      for (int days = 0; days < daysLeftInWeek; days++) {
+        if ((getWeekdayMask() & (1 << ((weekday + days) % 7))) != 0) {
+          return candidate.plusDays(days);
+        }
+      }
+      weekIndex += getInterval();
+      candidate = startDate.plusWeeks(weekIndex);
+    }
+    return null;
+  }
 
-    return weeksBetween >= 0 &&
-        weeksBetween % getInterval() == 0 &&
-        daysOfWeek.contains(date.getDayOfWeek());
+  /**
+   * 기준일부터 7 * interval 일 주기마다 반복 주(첫 7일)에 선택한 요일이 한 번씩 있으므로
+   * 전체 주기 수 * 요일 수에 마지막 주기의 나머지 일수만 보정한다.
+   */
+  @Override
+  public long countOccurrences(LocalDate from, LocalDate to) {
+    if (!isValid() || from == null || to == null) {
+      return 0;
+    }
+    long first = Math.max(from.toEpochDay() - getAnchorEpochDay(), 0); // 기준일 이전은 발생 없음
+    long last = to.toEpochDay() - getAnchorEpochDay();
+    if (last < first) {
+      return 0;
+    }
+    return countWithin(last + 1) - countWithin(first);
   }
 
+  // 기준일부터 days일 동안의 발생 일자 수
+  private long countWithin(long days) {
+    long period = 7L * getInterval();
+    int remainingDays = (int) Math.min(days % period, 7); // 마지막 주기 중 반복 주에 속한 일수
+    int anchorWeekday = getAnchorDate().getDayOfWeek().getValue() - 1;
+    return days / period * Integer.bitCount(getWeekdayMask())
+        + Integer.bitCount(getWeekdayMask() & RecurrenceMasks.consecutiveWeekdays(anchorWeekday, remainingDays));
+  }
 }
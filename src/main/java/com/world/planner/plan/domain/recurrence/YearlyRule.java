@@ -10,11 +10,14 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.JoinColumn;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.SortedSet;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.SortNatural;
 
 @Getter
 @Entity
@@ -24,26 +27,47 @@ public class YearlyRule extends RecurrenceRule {
 
   // Getters for each collection
   @ElementCollection
+  @BatchSize(size = RecurrenceRule.BATCH_FETCH_SIZE)
   @CollectionTable(name = "recurrence_rule_months", joinColumns = @JoinColumn(name = "recurrence_rule_id"))
   @Column(name = "month_of_year")
-  private List<Integer> monthsOfYear;
+  @SortNatural
+  private SortedSet<Integer> monthsOfYear;
 
   @ElementCollection
+  @BatchSize(size = RecurrenceRule.BATCH_FETCH_SIZE)
   @CollectionTable(name = "recurrence_rule_days", joinColumns = @JoinColumn(name = "recurrence_rule_id"))
   @Enumerated(EnumType.STRING)
   @Column(name = "day_of_week")
-  private List<DayOfWeek> daysOfWeek;
+  @SortNatural
+  private SortedSet<DayOfWeek> daysOfWeek;
 
   @ElementCollection
+  @BatchSize(size = RecurrenceRule.BATCH_FETCH_SIZE)
   @CollectionTable(name = "recurrence_rule_days_of_month", joinColumns = @JoinColumn(name = "recurrence_rule_id"))
   @Column(name = "day_of_month")
-  private List<Integer> daysOfMonth;
+  @SortNatural
+  private SortedSet<Integer> daysOfMonth;
 
-  public YearlyRule(int interval, List<Integer> monthsOfYear, List<DayOfWeek> daysOfWeek, List<Integer> daysOfMonth) {
-    super(interval);
-    this.monthsOfYear = monthsOfYear;
-    this.daysOfWeek = daysOfWeek;
-    this.daysOfMonth = daysOfMonth;
+  public YearlyRule(
+      int interval, List<Integer> monthsOfYear, List<DayOfWeek> daysOfWeek, List<Integer> daysOfMonth, LocalDate anchorDate) {
+    super(interval, anchorDate);
+    applyMasks(daysOfWeek, daysOfMonth, monthsOfYear);
+    this.monthsOfYear = toSortedSet(monthsOfYear);
+    this.daysOfWeek = toSortedSet(daysOfWeek);
+    this.daysOfMonth = toSortedSet(daysOfMonth);
+  }
+
+  @Override
+  public RecurrenceRuleType getRuleType() {
+    return RecurrenceRuleType.YEARLY;
+  }
+
+  @Override
+  protected void copyCollections(RecurrenceRule source) {
+    YearlyRule yearlyRule = (YearlyRule) source;
+    replaceElements(monthsOfYear, yearlyRule.monthsOfYear);
+    replaceElements(daysOfWeek, yearlyRule.daysOfWeek);
+    replaceElements(daysOfMonth, yearlyRule.daysOfMonth);
   }
 
   @Override
@@ -65,10 +89,10 @@ public class YearlyRule extends RecurrenceRule {
 
   @Override
   public boolean isValid() {
-    return getInterval() > 0 &&
-        (monthsOfYear != null && monthsOfYear.stream().allMatch(month -> month > 0 && month <= 12)) &&
-        (daysOfWeek == null || !daysOfWeek.isEmpty()) &&
-        (daysOfMonth == null || daysOfMonth.stream().allMatch(day -> day > 0 && day <= 31));
+    // 월(1-12) / 날짜(1-31) 범위는 마스크 생성 시 예외로 막고, 저장된 마스크도 다시 확인
+    return getInterval() > 0
+        && RecurrenceMasks.isMonthMaskInRange(getMonthMask())
+        && RecurrenceMasks.isDayOfMonthMaskInRange(getDayOfMonthMask());
   }
 
   @Override
@@ -76,14 +100,86 @@ public class YearlyRule extends RecurrenceRule {
     if (!isValid() || date == null) {
       return false;
     }
-    LocalDate startDate = LocalDate.now();
-    long yearsBetween = ChronoUnit.YEARS.between(startDate.withDayOfYear(1), date.withDayOfYear(1));
+    int yearsBetween = date.getYear() - getAnchorDate().getYear(); // 기준 연도로부터 경과 연수
 
     return yearsBetween >= 0 &&
         yearsBetween % getInterval() == 0 &&
-        (monthsOfYear == null || monthsOfYear.contains(date.getMonthValue())) &&
-        (daysOfMonth == null || daysOfMonth.contains(date.getDayOfMonth())) &&
-        (daysOfWeek == null || daysOfWeek.contains(date.getDayOfWeek()));
+        RecurrenceMasks.matchesMonth(getMonthMask(), date.getMonthValue()) &&
+        RecurrenceMasks.matchesDayOfMonth(getDayOfMonthMask(), date.getDayOfMonth()) &&
+        RecurrenceMasks.matchesDayOfWeek(getWeekdayMask(), date.getDayOfWeek());
+  }
+
+  /**
+   * interval 년씩 건너뛰며 대상 월의 날짜/요일 조건으로 다음 발생 일자 계산
+   */
+  @Override
+  public LocalDate nextOccurrence(LocalDate from) {
+    if (!isValid() || from == null) {
+      return null;
+    }
+
+    int startYear = getAnchorDate().getYear();
+    int year = from.getYear();
+    int fromMonth = from.getMonthValue();
+    int fromDay = from.getDayOfMonth();
+    if (year < startYear) {
+      year = startYear;
+      fromMonth = 1;
+      fromDay = 1;
+    }
+
+    int offset = (year - startYear) % getInterval();
+    if (offset != 0) {
+      year += getInterval() - offset; // 다음 반복 연도로 이동
+      fromMonth = 1;
+      fromDay = 1;
+    }
+
+    int maxYear = year + MAX_SEARCH_YEARS;
+    while (year <= maxYear) {
+      for (int month = fromMonth; month <= 12; month++) {
+        if (!RecurrenceMasks.matchesMonth(getMonthMask(), month)) {
+          continue;
+        }
+        LocalDate match = firstMatchInMonth(YearMonth.of(year, month), month == fromMonth ? fromDay : 1);
+        if (match != null) {
+          return match;
+        }
+      }
+      year += getInterval();
+      fromMonth = 1;
+      fromDay = 1;
+    }
+    return null;
   }
 
+  /**
+   * 반복 연도만 interval 년씩 건너뛰며 대상 월마다 조건을 만족하는 날짜 수를 비트 연산으로 더한다.
+   */
+  @Override
+  public long countOccurrences(LocalDate from, LocalDate to) {
+    if (!isValid() || from == null || to == null || from.isAfter(to)) {
+      return 0;
+    }
+    int startYear = getAnchorDate().getYear();
+    int year = Math.max(from.getYear(), startYear);
+    int offset = (year - startYear) % getInterval();
+    if (offset != 0) {
+      year += getInterval() - offset; // 첫 반복 연도로 이동
+    }
+
+    int fromMonthIndex = monthIndex(from);
+    int toMonthIndex = monthIndex(to);
+    long count = 0;
+    for (; year <= to.getYear(); year += getInterval()) {
+      for (int month = 1; month <= 12; month++) {
+        int monthIndex = year * 12 + month - 1;
+        if (RecurrenceMasks.matchesMonth(getMonthMask(), month)
+            && monthIndex >= fromMonthIndex && monthIndex <= toMonthIndex) {
+          count += countInMonth(monthIndex, from, to);
+        }
+      }
+    }
+    return count;
+  }
 }
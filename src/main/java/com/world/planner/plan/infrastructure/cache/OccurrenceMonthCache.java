@@ -0,0 +1,164 @@
+package com.world.planner.plan.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.world.planner.plan.domain.OccurrenceSource;
+import com.world.planner.plan.domain.recurrence.RecurrenceRule;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+
+/**
+ * RecurrenceRule의 월별 발생 일자 캐시.
+ * (규칙 ID, 규칙 버전, 월) 단위로 해당 월의 발생 일자를 일(day) 비트마스크 하나로 저장하고,
+ * 기간 조회는 캐시된 월을 이어 붙여 계산한다.
+ * 규칙이 바뀌면(기준일 변경 포함) ID 또는 버전이 달라지므로 오래된 항목이 조회되는 일은 없고, evict는 메모리를 바로 돌려주기 위한 것이다.
+ * 단, 이는 커밋된 규칙으로만 채울 때 성립한다. 쓰기 트랜잭션 안에서 flush로 버전이 올라간 규칙을 넣으면
+ * 롤백 후 같은 버전이 다른 정의로 다시 쓰일 수 있으므로, 커밋 전 상태의 계산은 캐시를 거치지 않는다.
+ * (PlanDomainService.uncachedOccurrenceIterator)
+ */
+@Component
+public class OccurrenceMonthCache implements OccurrenceSource {
+
+  // 캐시 이름 (actuator 메트릭 태그)
+  public static final String CACHE_NAME = "planOccurrenceMonths";
+
+  private static final long MAXIMUM_SIZE = 200_000;
+  private static final Duration EXPIRE_AFTER_ACCESS = Duration.ofHours(6);
+
+  private final Cache<MonthKey, Integer> cache;
+
+  public OccurrenceMonthCache(MeterRegistry meterRegistry) {
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(MAXIMUM_SIZE)
+        .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME); // cache.gets{result=hit|miss}, cache.evictions 등
+  }
+
+  /**
+   * 기간 내 발생 일자 Iterator (월 단위 캐시 사용)
+   *
+   * @param rule      반복 규칙 (저장되지 않은 규칙은 캐시하지 않음)
+   * @param startDate 탐색 시작 날짜 (포함)
+   * @param endDate   탐색 종료 날짜 (포함)
+   * @return 발생 일자 Iterator
+   */
+  @Override
+  public Iterator<LocalDate> occurrenceIterator(RecurrenceRule rule, LocalDate startDate, LocalDate endDate) {
+    if (rule.getId() == null) {
+      return rule.occurrenceIterator(startDate, endDate);
+    }
+    if (startDate.isAfter(endDate)) {
+      return Collections.emptyIterator();
+    }
+    return new MonthStitchingIterator(rule, startDate, endDate);
+  }
+
+  /**
+   * 기간에 걸친 월의 발생 일자를 미리 캐시에 채움 (이미 있는 월은 건너뜀)
+   *
+   * @param rule      반복 규칙 (저장되지 않은 규칙은 캐시하지 않음)
+   * @param startDate 시작 날짜 (포함)
+   * @param endDate   종료 날짜 (포함)
+   */
+  public void warm(RecurrenceRule rule, LocalDate startDate, LocalDate endDate) {
+    if (rule.getId() == null || startDate.isAfter(endDate)) {
+      return;
+    }
+    YearMonth lastMonth = YearMonth.from(endDate);
+    for (YearMonth month = YearMonth.from(startDate); !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+      occurrenceDays(rule, month);
+    }
+  }
+
+  /**
+   * 규칙의 캐시 항목 제거
+   *
+   * @param ruleId 반복 규칙 ID
+   */
+  public void evict(UUID ruleId) {
+    if (ruleId != null) {
+      evictAll(Set.of(ruleId));
+    }
+  }
+
+  /**
+   * 여러 규칙의 캐시 항목을 한 번에 제거
+   *
+   * @param ruleIds 반복 규칙 ID 목록
+   */
+  public void evictAll(Collection<UUID> ruleIds) {
+    if (ruleIds.isEmpty()) {
+      return;
+    }
+    // 규칙 ID로 항목을 찾기 위해 전체 키를 한 번 훑는다 (크기 상한이 있으므로 비용이 제한됨)
+    Set<UUID> targets = Set.copyOf(ruleIds);
+    cache.asMap().keySet().removeIf(key -> targets.contains(key.ruleId()));
+  }
+
+  private int occurrenceDays(RecurrenceRule rule, YearMonth month) {
+    MonthKey key = new MonthKey(rule.getId(), rule.getVersion(), month);
+    return cache.get(key, ignored -> rule.occurrenceDaysInMonth(month));
+  }
+
+  private record MonthKey(UUID ruleId, long version, YearMonth month) {
+  }
+
+  // 캐시된 월별 비트마스크를 차례로 읽어 발생 일자를 만드는 Iterator
+  private class MonthStitchingIterator implements Iterator<LocalDate> {
+
+    private final RecurrenceRule rule;
+    private final LocalDate endDate;
+    private final YearMonth lastMonth;
+
+    private YearMonth month;
+    private int remainingDays; // 현재 월에서 아직 반환하지 않은 발생 일자
+
+    MonthStitchingIterator(RecurrenceRule rule, LocalDate startDate, LocalDate endDate) {
+      this.rule = rule;
+      this.endDate = endDate;
+      this.lastMonth = YearMonth.from(endDate);
+      this.month = YearMonth.from(startDate);
+      this.remainingDays = occurrenceDays(rule, month) & (-1 << (startDate.getDayOfMonth() - 1));
+      clipToEndDate();
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (remainingDays == 0 && month.isBefore(lastMonth)) {
+        month = month.plusMonths(1);
+        remainingDays = occurrenceDays(rule, month);
+        clipToEndDate();
+      }
+      return remainingDays != 0;
+    }
+
+    @Override
+    public LocalDate next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      int day = Integer.numberOfTrailingZeros(remainingDays) + 1;
+      remainingDays &= remainingDays - 1; // 가장 낮은 비트 제거
+      return month.atDay(day);
+    }
+
+    private void clipToEndDate() {
+      if (month.equals(lastMonth)) {
+        int lastDay = endDate.getDayOfMonth();
+        remainingDays &= lastDay == 31 ? -1 : (1 << lastDay) - 1;
+      }
+    }
+  }
+}
@@ -0,0 +1,93 @@
+package com.world.planner.plan.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+
+/**
+ * Plan별로 미리 만든 캘린더 피드 VEVENT 바이트 캐시.
+ * 항목에 만들 때의 Plan 버전과 반복 규칙 버전을 함께 저장하고 조회할 때 현재 버전과 비교하므로 오래된 본문이 나가는 일은 없고,
+ * evict는 메모리를 바로 돌려주기 위한 것이다. 크기 상한은 항목 수가 아니라 본문 바이트 수 기준이다.
+ */
+@Component
+public class PlanFeedCache {
+
+  // 캐시 이름 (actuator 메트릭 태그)
+  public static final String CACHE_NAME = "planFeedEvents";
+
+  private static final long MAXIMUM_WEIGHT_BYTES = 64L * 1024 * 1024;
+  private static final Duration EXPIRE_AFTER_ACCESS = Duration.ofHours(6);
+
+  // 반복 규칙이 없는 Plan의 규칙 버전
+  private static final long NO_RULE_VERSION = -1;
+
+  private final Cache<UUID, Entry> cache;
+
+  public PlanFeedCache(MeterRegistry meterRegistry) {
+    this.cache = Caffeine.newBuilder()
+        .maximumWeight(MAXIMUM_WEIGHT_BYTES)
+        .weigher((UUID planId, Entry entry) -> entry.body().length)
+        .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  /**
+   * 현재 버전의 VEVENT 조회
+   *
+   * @param planId      Plan ID
+   * @param planVersion 현재 Plan 버전
+   * @param ruleVersion 현재 반복 규칙 버전 (규칙이 없으면 null)
+   * @return VEVENT 바이트 (없거나 버전이 다르면 null)
+   */
+  public byte[] get(UUID planId, long planVersion, Long ruleVersion) {
+    Entry entry = cache.getIfPresent(planId);
+    if (entry == null || entry.planVersion() != planVersion || entry.ruleVersion() != toRuleVersion(ruleVersion)) {
+      return null;
+    }
+    return entry.body();
+  }
+
+  /**
+   * VEVENT 저장
+   *
+   * @param planId      Plan ID
+   * @param planVersion 본문을 만든 Plan 버전
+   * @param ruleVersion 본문을 만든 반복 규칙 버전 (규칙이 없으면 null)
+   * @param body        VEVENT 바이트 (호출 후 변경하면 안 됨)
+   */
+  public void put(UUID planId, long planVersion, Long ruleVersion, byte[] body) {
+    cache.put(planId, new Entry(planVersion, toRuleVersion(ruleVersion), body));
+  }
+
+  /**
+   * Plan의 캐시 항목 제거
+   *
+   * @param planId Plan ID
+   */
+  public void evict(UUID planId) {
+    cache.invalidate(planId);
+  }
+
+  /**
+   * 여러 Plan의 캐시 항목 제거
+   *
+   * @param planIds Plan ID 목록
+   */
+  public void evictAll(Collection<UUID> planIds) {
+    cache.invalidateAll(planIds);
+  }
+
+  private static long toRuleVersion(Long ruleVersion) {
+    return ruleVersion == null ? NO_RULE_VERSION : ruleVersion;
+  }
+
+  private record Entry(long planVersion, long ruleVersion, byte[] body) {
+  }
+}
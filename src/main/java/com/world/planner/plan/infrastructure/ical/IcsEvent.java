@@ -0,0 +1,33 @@
+package com.world.planner.plan.infrastructure.ical;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * .ics 파일에서 읽은 VEVENT 하나 (Plan 변환에 필요한 속성만 보관, 날짜 / RRULE 값은 파싱하지 않은 원문)
+ */
+@Getter
+@Builder
+public class IcsEvent {
+
+  // BEGIN:VEVENT 줄 번호 (1부터 시작, 오류 메시지용)
+  private final int lineNumber;
+
+  private final String uid;
+
+  private final String summary;
+
+  private final String description;
+
+  // DTSTART 값 (yyyyMMdd 또는 yyyyMMddTHHmmss[Z])
+  private final String startValue;
+
+  // DTEND 값 (없으면 null)
+  private final String endValue;
+
+  // 종일 일정 여부 (DTSTART가 DATE 값이면 DTEND는 포함하지 않는 다음 날)
+  private final boolean allDay;
+
+  // RRULE 값 (없으면 null)
+  private final String rrule;
+}
@@ -0,0 +1,248 @@
+package com.world.planner.plan.infrastructure.ical;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * iCalendar(.ics) 스트림에서 VEVENT를 하나씩 읽는 Iterator.
+ * 접힌 줄(RFC 5545 3.1)을 펼치며 한 줄씩 읽고 현재 VEVENT에서 필요한 속성(UID, SUMMARY, DESCRIPTION, DTSTART, DTEND, RRULE)만
+ * 보관하므로 파일 크기와 무관하게 메모리 사용량이 일정하다. 줄 버퍼는 재사용하고, 보관하는 속성 값만 String으로 만든다.
+ *
+ * <p>VEVENT 안의 VALARM 등 하위 컴포넌트와 VTIMEZONE 등 다른 컴포넌트는 건너뛴다.
+ * RRULE이 여러 개면 첫 번째만 사용하고, RDATE / EXDATE / DURATION은 읽지 않는다.
+ */
+public class IcsEventReader implements Iterator<IcsEvent>, Closeable {
+
+  // 펼친 줄 하나의 최대 길이 (문자 수)
+  public static final int MAX_LINE_LENGTH = 64 * 1024;
+
+  private static final int BUFFER_SIZE = 8 * 1024;
+
+  private final Reader reader;
+  private final char[] buffer = new char[BUFFER_SIZE];
+  private int bufferPosition;
+  private int bufferLimit;
+
+  private StringBuilder line = new StringBuilder(256);      // 펼친 현재 줄
+  private StringBuilder lookahead = new StringBuilder(256); // 다음 물리적 줄 (접힌 줄인지 판단용)
+  private boolean hasLookahead;
+  private int lineNumber;          // 현재 줄 번호
+  private int lookaheadLineNumber; // 다음 물리적 줄 번호
+
+  private IcsEvent next;
+
+  public IcsEventReader(Reader reader) {
+    this.reader = reader;
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (next == null) {
+      try {
+        next = readEvent();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+    return next != null;
+  }
+
+  @Override
+  public IcsEvent next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    IcsEvent event = next;
+    next = null;
+    return event;
+  }
+
+  @Override
+  public void close() throws IOException {
+    reader.close();
+  }
+
+  // 다음 VEVENT (스트림 끝이면 null)
+  private IcsEvent readEvent() throws IOException {
+    IcsEvent.IcsEventBuilder event = null;
+    boolean hasRrule = false;
+    int nestedDepth = 0; // VEVENT 안의 하위 컴포넌트 깊이
+
+    while (readLine()) {
+      int nameEnd = nameEnd();
+      if (event == null) {
+        if (is("BEGIN", nameEnd) && valueIs(nameEnd, "VEVENT")) {
+          event = IcsEvent.builder().lineNumber(lineNumber);
+          hasRrule = false;
+        }
+        continue;
+      }
+
+      if (is("BEGIN", nameEnd)) {
+        nestedDepth++;
+      } else if (is("END", nameEnd)) {
+        if (nestedDepth == 0) {
+          return event.build(); // END:VEVENT
+        }
+        nestedDepth--;
+      } else if (nestedDepth == 0) {
+        int valueStart = valueStart(nameEnd);
+        if (is("UID", nameEnd)) {
+          event.uid(line.substring(valueStart));
+        } else if (is("SUMMARY", nameEnd)) {
+          event.summary(unescapeText(valueStart));
+        } else if (is("DESCRIPTION", nameEnd)) {
+          event.description(unescapeText(valueStart));
+        } else if (is("DTSTART", nameEnd)) {
+          event.startValue(line.substring(valueStart))
+              .allDay(line.length() - valueStart == 8 || hasDateValueParameter(nameEnd, valueStart));
+        } else if (is("DTEND", nameEnd)) {
+          event.endValue(line.substring(valueStart));
+        } else if (is("RRULE", nameEnd) && !hasRrule) {
+          event.rrule(line.substring(valueStart));
+          hasRrule = true;
+        }
+      }
+    }
+    return null; // 닫히지 않은 VEVENT는 버린다
+  }
+
+  // 펼친 줄 하나를 line에 읽기 (스트림 끝이면 false)
+  private boolean readLine() throws IOException {
+    if (!hasLookahead && !readPhysicalLine(lookahead)) {
+      return false;
+    }
+    StringBuilder current = lookahead;
+    lookahead = line;
+    line = current;
+    lineNumber = lookaheadLineNumber;
+
+    while ((hasLookahead = readPhysicalLine(lookahead)) && isFolded(lookahead)) {
+      if (line.length() + lookahead.length() - 1 > MAX_LINE_LENGTH) {
+        throw new IllegalArgumentException("Line " + lineNumber + " is longer than " + MAX_LINE_LENGTH + " characters.");
+      }
+      line.append(lookahead, 1, lookahead.length());
+    }
+    return true;
+  }
+
+  // CRLF 또는 LF로 끝나는 물리적 줄 하나를 target에 읽기 (스트림 끝이면 false)
+  private boolean readPhysicalLine(StringBuilder target) throws IOException {
+    target.setLength(0);
+    boolean read = false;
+    while (true) {
+      if (bufferPosition == bufferLimit) {
+        bufferLimit = reader.read(buffer, 0, BUFFER_SIZE);
+        bufferPosition = 0;
+        if (bufferLimit <= 0) {
+          bufferLimit = 0;
+          break;
+        }
+      }
+      read = true;
+      int start = bufferPosition;
+      while (bufferPosition < bufferLimit && buffer[bufferPosition] != '\n') {
+        bufferPosition++;
+      }
+      target.append(buffer, start, bufferPosition - start);
+      if (target.length() > MAX_LINE_LENGTH) {
+        throw new IllegalArgumentException("Line " + (lookaheadLineNumber + 1) + " is longer than " + MAX_LINE_LENGTH + " characters.");
+      }
+      if (bufferPosition < bufferLimit) {
+        bufferPosition++; // '\n'
+        break;
+      }
+    }
+    if (!read) {
+      return false;
+    }
+    int length = target.length();
+    if (length > 0 && target.charAt(length - 1) == '\r') {
+      target.setLength(length - 1);
+    }
+    lookaheadLineNumber++;
+    return true;
+  }
+
+  private static boolean isFolded(StringBuilder physicalLine) {
+    return !physicalLine.isEmpty() && (physicalLine.charAt(0) == ' ' || physicalLine.charAt(0) == '\t');
+  }
+
+  // 속성 이름 끝 (';' 또는 ':' 위치, 없으면 줄 길이)
+  private int nameEnd() {
+    for (int index = 0; index < line.length(); index++) {
+      char c = line.charAt(index);
+      if (c == ';' || c == ':') {
+        return index;
+      }
+    }
+    return line.length();
+  }
+
+  // 값 시작 위치 (매개변수의 따옴표 안 ':'는 건너뜀)
+  private int valueStart(int nameEnd) {
+    boolean quoted = false;
+    for (int index = nameEnd; index < line.length(); index++) {
+      char c = line.charAt(index);
+      if (c == '"') {
+        quoted = !quoted;
+      } else if (c == ':' && !quoted) {
+        return index + 1;
+      }
+    }
+    return line.length();
+  }
+
+  private boolean hasDateValueParameter(int nameEnd, int valueStart) {
+    String parameter = ";VALUE=DATE";
+    for (int start = nameEnd; start + parameter.length() <= valueStart - 1; start++) {
+      if (regionEqualsIgnoreCase(start, parameter)) {
+        char after = line.charAt(start + parameter.length());
+        if (after == ';' || after == ':') {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private boolean is(String name, int nameEnd) {
+    return nameEnd == name.length() && regionEqualsIgnoreCase(0, name);
+  }
+
+  private boolean valueIs(int nameEnd, String value) {
+    int valueStart = valueStart(nameEnd);
+    return line.length() - valueStart == value.length() && regionEqualsIgnoreCase(valueStart, value);
+  }
+
+  private boolean regionEqualsIgnoreCase(int start, String expected) {
+    for (int index = 0; index < expected.length(); index++) {
+      if (Character.toUpperCase(line.charAt(start + index)) != expected.charAt(index)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // TEXT 값의 이스케이프(\n, \N, \\, \;, \,) 해제
+  private String unescapeText(int valueStart) {
+    if (line.indexOf("\\", valueStart) < 0) {
+      return line.substring(valueStart);
+    }
+    StringBuilder text = new StringBuilder(line.length() - valueStart);
+    for (int index = valueStart; index < line.length(); index++) {
+      char c = line.charAt(index);
+      if (c == '\\' && index + 1 < line.length()) {
+        char escaped = line.charAt(++index);
+        text.append(escaped == 'n' || escaped == 'N' ? '\n' : escaped);
+      } else {
+        text.append(c);
+      }
+    }
+    return text.toString();
+  }
+}
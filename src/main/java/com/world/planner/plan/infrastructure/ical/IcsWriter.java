@@ -0,0 +1,157 @@
+package com.world.planner.plan.infrastructure.ical;
+
+import com.world.planner.plan.domain.Plan;
+import com.world.planner.plan.domain.recurrence.RRule;
+import com.world.planner.plan.domain.recurrence.RecurrenceRule;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * Plan을 iCalendar(.ics) VEVENT로 출력.
+ * VEVENT 본문은 Plan과 반복 규칙의 값(버전 포함)만으로 정해지므로 같은 버전이면 항상 같은 바이트가 나오고,
+ * 피드는 캐시된 VEVENT 바이트를 CALENDAR_HEADER와 CALENDAR_FOOTER 사이에 그대로 이어 붙여 만든다.
+ *
+ * <p>일정은 모두 종일(VALUE=DATE) 이벤트다. 반복 일정은 첫 발생 일자를 DTSTART로, Plan 종료 날짜를 RRULE의 UNTIL로 출력한다.
+ */
+public final class IcsWriter {
+
+  private static final String CRLF = "\r\n";
+
+  // 한 줄의 최대 길이 (RFC 5545 3.1, CRLF 제외 옥텟 수)
+  private static final int MAX_LINE_OCTETS = 75;
+
+  // SEQUENCE 기준 시각 (2020-01-01T00:00:00Z). RFC 5545 INTEGER는 32비트이므로 epoch 초 대신 이 시각부터의 초를 출력 (2088년까지)
+  private static final long SEQUENCE_EPOCH_SECOND = 1_577_836_800L;
+
+  public static final byte[] CALENDAR_HEADER = ("BEGIN:VCALENDAR" + CRLF
+      + "VERSION:2.0" + CRLF
+      + "PRODID:-//World//Planner//KO" + CRLF
+      + "CALSCALE:GREGORIAN" + CRLF).getBytes(StandardCharsets.US_ASCII);
+
+  public static final byte[] CALENDAR_FOOTER = ("END:VCALENDAR" + CRLF).getBytes(StandardCharsets.US_ASCII);
+
+  private IcsWriter() {
+  }
+
+  /**
+   * Plan 하나를 VEVENT로 출력 (반복 규칙과 반복 규칙 포함 엔티티가 로딩된 상태여야 함)
+   *
+   * @param plan Plan
+   * @return UTF-8 VEVENT 바이트 (종료 날짜까지 발생 일자가 하나도 없으면 빈 배열)
+   */
+  public static byte[] renderEvent(Plan plan) {
+    RecurrenceRule rule = plan.getRecurrenceRule();
+    LocalDate startDate = plan.getStartDate();
+    LocalDate endDate = plan.getEndDate();
+    String rrule = null;
+    LocalDate firstDate = startDate;
+    LocalDate exclusiveEndDate;
+
+    if (rule != null) {
+      firstDate = rule.nextOccurrence(startDate); // RRULE의 DTSTART는 첫 발생 일자여야 한다
+      if (firstDate == null || (endDate != null && firstDate.isAfter(endDate))) {
+        return new byte[0];
+      }
+      exclusiveEndDate = firstDate.plusDays(1);
+      rrule = RRule.format(rule, endDate);
+    } else if (endDate != null) {
+      exclusiveEndDate = endDate.plusDays(1);
+    } else {
+      exclusiveEndDate = startDate.plusDays(1);
+      rrule = "FREQ=DAILY"; // 종료 날짜가 없는 일정은 매일 계속되는 것으로 출력
+    }
+
+    StringBuilder out = new StringBuilder(256);
+    StringBuilder line = new StringBuilder(128);
+    out.append("BEGIN:VEVENT").append(CRLF);
+    appendLine(out, line.append("UID:").append(plan.getId()).append("@planner"));
+    LocalDateTime lastModified = lastModified(plan);
+    appendLine(out, appendDateTime(line.append("DTSTAMP:"), lastModified));
+    appendLine(out, RRule.appendDate(line.append("DTSTART;VALUE=DATE:"), firstDate));
+    appendLine(out, RRule.appendDate(line.append("DTEND;VALUE=DATE:"), exclusiveEndDate));
+    if (rrule != null) {
+      appendLine(out, line.append("RRULE:").append(rrule));
+    }
+    // 캘린더 앱이 변경을 알아차리도록 마지막 수정 시각(초)을 SEQUENCE로 출력.
+    // 버전 합은 규칙 타입이 바뀌면(새 규칙 엔티티, 버전 0) 줄어들 수 있으므로 쓰지 않는다
+    appendLine(out, line.append("SEQUENCE:").append(sequence(lastModified)));
+    appendLine(out, appendText(line.append("SUMMARY:"), plan.getTitle()));
+    if (plan.getDescription() != null && !plan.getDescription().isEmpty()) {
+      appendLine(out, appendText(line.append("DESCRIPTION:"), plan.getDescription()));
+    }
+    out.append("END:VEVENT").append(CRLF);
+    return out.toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  // Plan과 반복 규칙 중 나중에 바뀐 시각
+  private static LocalDateTime lastModified(Plan plan) {
+    LocalDateTime updatedAt = plan.getUpdatedAt();
+    RecurrenceRule rule = plan.getRecurrenceRule();
+    if (rule != null && rule.getUpdatedAt() != null && (updatedAt == null || rule.getUpdatedAt().isAfter(updatedAt))) {
+      updatedAt = rule.getUpdatedAt();
+    }
+    return updatedAt == null ? plan.getCreatedAt() : updatedAt;
+  }
+
+  // 줄어들지 않는 SEQUENCE 값 (수정 시각은 Plan이나 규칙이 바뀔 때마다 뒤로 간다)
+  private static long sequence(LocalDateTime lastModified) {
+    long epochSecond = lastModified.atZone(ZoneId.systemDefault()).toEpochSecond();
+    return Math.max(0, epochSecond - SEQUENCE_EPOCH_SECOND);
+  }
+
+  // UTC DATE-TIME (yyyyMMddTHHmmssZ)
+  private static StringBuilder appendDateTime(StringBuilder out, LocalDateTime dateTime) {
+    LocalDateTime utc = dateTime.atZone(ZoneId.systemDefault()).withZoneSameInstant(ZoneOffset.UTC).toLocalDateTime();
+    RRule.appendDate(out, utc.toLocalDate()).append('T');
+    appendTwoDigits(out, utc.getHour());
+    appendTwoDigits(out, utc.getMinute());
+    appendTwoDigits(out, utc.getSecond());
+    return out.append('Z');
+  }
+
+  private static void appendTwoDigits(StringBuilder out, int value) {
+    if (value < 10) {
+      out.append('0');
+    }
+    out.append(value);
+  }
+
+  // TEXT 값 이스케이프 (\\, \;, \,, 줄바꿈 → \n, CR은 제거)
+  private static StringBuilder appendText(StringBuilder out, String text) {
+    for (int index = 0; index < text.length(); index++) {
+      char c = text.charAt(index);
+      switch (c) {
+        case '\\', ';', ',' -> out.append('\\').append(c);
+        case '\n' -> out.append("\\n");
+        case '\r' -> {
+        }
+        default -> out.append(c);
+      }
+    }
+    return out;
+  }
+
+  // 콘텐츠 줄을 75옥텟마다 접어 출력하고 line을 비운다 (서로게이트 쌍은 나누지 않음)
+  private static void appendLine(StringBuilder out, StringBuilder line) {
+    int octets = 0;
+    for (int index = 0; index < line.length(); index++) {
+      char c = line.charAt(index);
+      boolean pair = Character.isHighSurrogate(c) && index + 1 < line.length();
+      int length = pair ? 4 : c < 0x80 ? 1 : c < 0x800 ? 2 : 3;
+      if (octets + length > MAX_LINE_OCTETS) {
+        out.append(CRLF).append(' ');
+        octets = 1; // 이어지는 줄의 앞 공백
+      }
+      out.append(c);
+      if (pair) {
+        out.append(line.charAt(++index));
+      }
+      octets += length;
+    }
+    out.append(CRLF);
+    line.setLength(0);
+  }
+}
@@ -0,0 +1,112 @@
+package com.world.planner.plan.infrastructure.metrics;
+
+import com.world.planner.plan.domain.Plan;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 발생 일자 계산 / 활성 여부 판정 메트릭.
+ * 발생 일자 계산은 Observation으로 감싸 타이머와 트레이싱 span을 함께 남기고,
+ * 호출 빈도가 높은 활성 여부 판정은 span 없이 타이머만 기록한다.
+ * 모든 미터는 rule.type 태그(DAILY, WEEKLY, MONTHLY, YEARLY, 규칙 없음은 NONE, 여러 Plan 일괄 계산은 MIXED)로 구분한다.
+ */
+@Component
+public class PlanMetrics {
+
+  public static final String RULE_TYPE_TAG = "rule.type";
+  public static final String NO_RULE = "NONE";
+  public static final String MIXED = "MIXED";
+
+  // 발생 일자 계산 (Observation: 타이머 + span)
+  private static final String CALCULATE_OBSERVATION = "planner.occurrences.calculate";
+  // 계산한 기간 길이 (일)
+  private static final String WINDOW_SUMMARY = "planner.occurrences.window";
+  // 반환한 발생 일자 수
+  private static final String RETURNED_SUMMARY = "planner.occurrences.returned";
+  // 활성 여부 판정
+  private static final String ACTIVE_TIMER = "planner.plan.active";
+
+  private final MeterRegistry meterRegistry;
+  private final ObservationRegistry observationRegistry;
+
+  // 규칙 타입별 미터 (호출마다 레지스트리를 조회하지 않도록 보관)
+  private final Map<String, Timer> activeTimers = new ConcurrentHashMap<>();
+  private final Map<String, DistributionSummary> windowSummaries = new ConcurrentHashMap<>();
+  private final Map<String, DistributionSummary> returnedSummaries = new ConcurrentHashMap<>();
+
+  public PlanMetrics(MeterRegistry meterRegistry, ObservationRegistry observationRegistry) {
+    this.meterRegistry = meterRegistry;
+    this.observationRegistry = observationRegistry;
+  }
+
+  /**
+   * Plan의 rule.type 태그 값
+   *
+   * @param plan Plan 객체
+   * @return 반복 규칙 타입 이름 (규칙이 없으면 NONE)
+   */
+  public static String ruleTypeOf(Plan plan) {
+    return plan.hasRecurrenceRule() ? plan.getRecurrenceRule().getRuleType().name() : NO_RULE;
+  }
+
+  /**
+   * 검색 기간 길이 (양 끝 포함, 일)
+   */
+  public static long windowDays(LocalDate from, LocalDate to) {
+    return Math.max(0, ChronoUnit.DAYS.between(from, to) + 1);
+  }
+
+  /**
+   * 발생 일자 계산을 Observation으로 감싸 실행하고 기간 길이, 반환 개수를 기록
+   *
+   * @param ruleType    rule.type 태그 값
+   * @param windowDays  계산한 기간 길이 (일)
+   * @param calculation 발생 일자 계산
+   * @return 계산 결과
+   */
+  public <T extends Collection<?>> T observeCalculation(String ruleType, long windowDays, Supplier<T> calculation) {
+    T occurrences = Observation.createNotStarted(CALCULATE_OBSERVATION, observationRegistry)
+        .contextualName("calculate-occurrences")
+        .lowCardinalityKeyValue(RULE_TYPE_TAG, ruleType)
+        .highCardinalityKeyValue("window.days", Long.toString(windowDays))
+        .observe(calculation);
+    windowSummaries.computeIfAbsent(ruleType, type -> DistributionSummary.builder(WINDOW_SUMMARY)
+            .description("Length of the window occurrences were calculated for")
+            .baseUnit("days")
+            .tag(RULE_TYPE_TAG, type)
+            .register(meterRegistry))
+        .record(windowDays);
+    returnedSummaries.computeIfAbsent(ruleType, type -> DistributionSummary.builder(RETURNED_SUMMARY)
+            .description("Number of occurrences returned by a calculation")
+            .baseUnit("occurrences")
+            .tag(RULE_TYPE_TAG, type)
+            .register(meterRegistry))
+        .record(occurrences.size());
+    return occurrences;
+  }
+
+  /**
+   * 활성 여부 판정 시간 기록
+   *
+   * @param ruleType rule.type 태그 값
+   * @param check    활성 여부 판정
+   * @return 판정 결과
+   */
+  public boolean recordActivityCheck(String ruleType, Supplier<Boolean> check) {
+    return activeTimers.computeIfAbsent(ruleType, type -> Timer.builder(ACTIVE_TIMER)
+            .description("Time spent deciding whether a plan is active on a date")
+            .tag(RULE_TYPE_TAG, type)
+            .register(meterRegistry))
+        .record(check);
+  }
+}
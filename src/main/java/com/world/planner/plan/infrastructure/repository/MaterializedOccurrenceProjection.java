@@ -0,0 +1,18 @@
+package com.world.planner.plan.infrastructure.repository;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * plan_occurrences 조회용 프로젝션
+ */
+@Getter
+@AllArgsConstructor
+public class MaterializedOccurrenceProjection {
+
+  private LocalDate date;
+  private UUID planId;
+  private String title;
+}
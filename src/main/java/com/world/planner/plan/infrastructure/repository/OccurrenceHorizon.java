@@ -0,0 +1,20 @@
+package com.world.planner.plan.infrastructure.repository;
+
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * plan_occurrences에 구체화되어 있는 날짜 범위 (양 끝 포함)
+ */
+@Getter
+@AllArgsConstructor
+public class OccurrenceHorizon {
+
+  private LocalDate validFrom;
+  private LocalDate validTo;
+
+  public boolean covers(LocalDate from, LocalDate to) {
+    return !from.isBefore(validFrom) && !to.isAfter(validTo);
+  }
+}
@@ -0,0 +1,33 @@
+package com.world.planner.plan.infrastructure.repository;
+
+import com.world.planner.plan.domain.PlanCollectionRevision;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PlanCollectionRevisionRepository extends JpaRepository<PlanCollectionRevision, Short> {
+
+  /**
+   * 전체 Plan 변경 번호 조회
+   *
+   * @return 변경 번호 (아직 변경이 없으면 empty)
+   */
+  @Query("select r from PlanCollectionRevision r where r.id = " + PlanCollectionRevision.SINGLETON_ID)
+  Optional<PlanCollectionRevision> findCurrent();
+
+  /**
+   * 전체 Plan 변경 번호를 1 올리고 변경 시각 갱신 (단일 UPDATE, 커밋할 때까지 다른 쓰기 트랜잭션의 증가가 대기)
+   * 변경 시각은 시계가 뒤로 가도 줄어들지 않는다.
+   *
+   * @param now 현재 시각
+   * @return 갱신된 행 수
+   */
+  @Modifying
+  @Query("update PlanCollectionRevision r set r.revision = r.revision + 1, "
+      + "r.changedAt = case when r.changedAt < :now then :now else r.changedAt end "
+      + "where r.id = " + PlanCollectionRevision.SINGLETON_ID)
+  int advance(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,19 @@
+package com.world.planner.plan.infrastructure.repository;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 캘린더 피드용 Plan 버전 프로젝션 (캐시된 VEVENT가 최신인지 판단, 엔티티를 로딩하지 않음)
+ */
+@Getter
+@AllArgsConstructor
+public class PlanFeedVersionProjection {
+
+  private UUID planId;
+  private LocalDate startDate; // 다음 페이지 키셋
+  private long planVersion;
+  private Long ruleVersion; // 반복 규칙이 없으면 null
+}
@@ -0,0 +1,131 @@
+package com.world.planner.plan.infrastructure.repository;
+
+import com.world.planner.plan.domain.PlanOccurrence;
+import io.micrometer.observation.annotation.Observed;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 구체화된 발생 일자(plan_occurrences)와 구체화 범위(plan_occurrence_horizon) 저장소.
+ * 행 수가 많고 단순한 (날짜, Plan ID) 쌍이므로 엔티티 대신 JDBC로 직접 다룬다.
+ */
+@Repository
+@RequiredArgsConstructor
+@Observed(name = "planner.occurrence.repository") // JPA Repository는 spring.data.repository.invocations로 측정됨
+public class PlanOccurrenceRepository {
+
+  // INSERT 배치 크기
+  private static final int INSERT_BATCH_SIZE = 1_000;
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  /**
+   * 현재 구체화 범위 조회
+   *
+   * @return 구체화 범위 (아직 구체화되지 않았으면 empty)
+   */
+  public Optional<OccurrenceHorizon> findHorizon() {
+    return queryHorizon("");
+  }
+
+  /**
+   * 구체화 범위 조회 (공유 잠금). Plan 변경 반영 중에 범위 확장이 끼어들지 않도록 한다.
+   */
+  public Optional<OccurrenceHorizon> findHorizonForShare() {
+    return queryHorizon(" for share");
+  }
+
+  /**
+   * 구체화 범위 조회 (배타 잠금). 범위 확장 중에는 Plan 변경 반영이 대기한다.
+   */
+  public Optional<OccurrenceHorizon> findHorizonForUpdate() {
+    return queryHorizon(" for update");
+  }
+
+  /**
+   * 구체화 범위 저장
+   */
+  public void saveHorizon(OccurrenceHorizon horizon) {
+    jdbcTemplate.update(
+        "insert into plan_occurrence_horizon (id, valid_from, valid_to) values (1, :from, :to) "
+            + "on conflict (id) do update set valid_from = excluded.valid_from, valid_to = excluded.valid_to",
+        new MapSqlParameterSource()
+            .addValue("from", horizon.getValidFrom())
+            .addValue("to", horizon.getValidTo())
+    );
+  }
+
+  /**
+   * 기간 내 발생 일자 조회.
+   * 반복 규칙이 있는 Plan은 plan_occurrences(occurrence_date 선두 PK 인덱스 범위 스캔)에서,
+   * 반복 규칙이 없는 Plan은 구체화하지 않으므로 plans의 적용 기간과 검색 기간이 겹치는 날짜를 그 자리에서 만든다.
+   *
+   * @return (날짜, Plan ID) 순으로 정렬된 발생 일자 목록
+   */
+  public List<MaterializedOccurrenceProjection> findInRange(LocalDate from, LocalDate to) {
+    return jdbcTemplate.query(
+        "select o.occurrence_date, o.plan_id, p.title from plan_occurrences o "
+            + "join plans p on p.id = o.plan_id "
+            + "where o.occurrence_date between :from and :to "
+            + "union all "
+            + "select cast(d as date), p.id, p.title from plans p "
+            + "cross join lateral generate_series("
+            + "greatest(p.start_date, cast(:from as date)), "
+            + "least(coalesce(p.end_date, cast(:to as date)), cast(:to as date)), interval '1 day') d "
+            + "where p.recurrence_rule_id is null and p.start_date <= :to and (p.end_date is null or p.end_date >= :from) "
+            + "order by 1, 2",
+        Map.of("from", from, "to", to),
+        (rs, rowNum) -> new MaterializedOccurrenceProjection(
+            rs.getObject(1, LocalDate.class),
+            rs.getObject(2, UUID.class),
+            rs.getString(3)
+        )
+    );
+  }
+
+  /**
+   * Plan의 구체화된 발생 일자 삭제
+   */
+  public void deleteByPlanIds(Collection<UUID> planIds) {
+    jdbcTemplate.update("delete from plan_occurrences where plan_id in (:planIds)", Map.of("planIds", planIds));
+  }
+
+  /**
+   * 기준 날짜 이전의 발생 일자 삭제 (구체화 범위 밖으로 밀려난 행)
+   */
+  public void deleteBefore(LocalDate date) {
+    jdbcTemplate.update("delete from plan_occurrences where occurrence_date < :date", Map.of("date", date));
+  }
+
+  /**
+   * 발생 일자 일괄 저장 (이미 있는 행은 무시)
+   */
+  public void insertAll(List<PlanOccurrence> occurrences) {
+    for (int start = 0; start < occurrences.size(); start += INSERT_BATCH_SIZE) {
+      List<PlanOccurrence> chunk = occurrences.subList(start, Math.min(start + INSERT_BATCH_SIZE, occurrences.size()));
+      jdbcTemplate.batchUpdate(
+          "insert into plan_occurrences (occurrence_date, plan_id) values (:date, :planId) on conflict do nothing",
+          chunk.stream()
+              .map(occurrence -> new MapSqlParameterSource()
+                  .addValue("date", occurrence.getDate())
+                  .addValue("planId", occurrence.getPlan().getId()))
+              .toArray(MapSqlParameterSource[]::new)
+      );
+    }
+  }
+
+  private Optional<OccurrenceHorizon> queryHorizon(String lockClause) {
+    return jdbcTemplate.query(
+        "select valid_from, valid_to from plan_occurrence_horizon where id = 1" + lockClause,
+        (rs, rowNum) -> new OccurrenceHorizon(rs.getObject(1, LocalDate.class), rs.getObject(2, LocalDate.class))
+    ).stream().findFirst();
+  }
+}
@@ -1,9 +1,221 @@
 package com.world.planner.plan.infrastructure.repository;
 
 import com.world.planner.plan.domain.Plan;
+import com.world.planner.plan.domain.recurrence.RecurrenceMasks;
+import com.world.planner.plan.domain.recurrence.RecurrenceRule;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface PlanRepository extends JpaRepository<Plan, UUID> {
+public interface PlanRepository extends JpaRepository<Plan, UUID>, PlanRepositoryCustom {
 
+  /**
+   * 적용 기간(start_date ~ end_date)이 검색 기간과 겹치는 Plan 조회 (idx_plans_date_range 사용)
+   * RecurrenceRule은 같은 쿼리에서 함께 조회하고, 요일/날짜/월 컬렉션은 규칙 단위 배치로 조회한다.
+   *
+   * @param from 검색 시작 날짜
+   * @param to   검색 종료 날짜
+   * @return 기간이 겹치는 Plan 목록
+   */
+  @EntityGraph(attributePaths = "recurrenceRule")
+  @Query("select p from Plan p where p.startDate <= :to and (p.endDate is null or p.endDate >= :from)")
+  List<Plan> findAllOverlapping(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+  /**
+   * ID 목록으로 Plan과 RecurrenceRule을 함께 조회
+   *
+   * @param ids Plan ID 목록
+   * @return Plan 목록
+   */
+  @EntityGraph(attributePaths = "recurrenceRule")
+  List<Plan> findAllWithRecurrenceRuleByIdIn(Collection<UUID> ids);
+
+  /**
+   * Plan과 RecurrenceRule의 버전, 수정 시각만 조회 (조건부 요청 판단용)
+   *
+   * @param planId Plan ID
+   * @return 버전 정보 (Plan이 없으면 empty)
+   */
+  @Query("select new com.world.planner.plan.infrastructure.repository.PlanVersionProjection("
+      + "p.version, r.version, p.updatedAt, r.updatedAt) "
+      + "from Plan p left join p.recurrenceRule r where p.id = :planId")
+  Optional<PlanVersionProjection> findVersionById(@Param("planId") UUID planId);
+
+  /**
+   * (update_date_time, id) 키셋 기준으로 워터마크 이후에 생성 / 수정된 Plan 조회 (idx_plans_update_date_time_id 사용)
+   *
+   * @param afterUpdatedAt 워터마크 수정 시각
+   * @param afterId        워터마크 ID (같은 수정 시각에서는 이보다 큰 ID만 조회)
+   * @param until          조회할 최대 수정 시각 (포함)
+   * @param limit          최대 조회 개수
+   * @return (update_date_time, id) 순으로 정렬된 Plan 목록
+   */
+  @EntityGraph(attributePaths = "recurrenceRule")
+  @Query("select p from Plan p "
+      + "where p.updatedAt <= :until "
+      + "and (p.updatedAt > :afterUpdatedAt or (p.updatedAt = :afterUpdatedAt and p.id > :afterId)) "
+      + "order by p.updatedAt, p.id")
+  List<Plan> findChangedAfter(
+      @Param("afterUpdatedAt") LocalDateTime afterUpdatedAt,
+      @Param("afterId") UUID afterId,
+      @Param("until") LocalDateTime until,
+      Limit limit
+  );
+
+  /**
+   * 종료일이 기준 날짜 이전인 Plan 조회 (종료된 Plan 정리용)
+   *
+   * @param date  기준 날짜 (미포함)
+   * @param limit 최대 조회 개수
+   * @return (종료일, ID) 순으로 정렬된 Plan 목록
+   */
+  @EntityGraph(attributePaths = "recurrenceRule")
+  @Query("select p from Plan p where p.endDate < :date order by p.endDate, p.id")
+  List<Plan> findEndedBefore(@Param("date") LocalDate date, Limit limit);
+
+  /**
+   * 전체 Plan의 ID와 버전 첫 페이지를 시작 날짜, ID 순으로 조회 (캘린더 피드용, idx_plans_start_date_id 사용)
+   *
+   * @param limit 최대 조회 개수
+   * @return 버전 목록
+   */
+  @Query("select new com.world.planner.plan.infrastructure.repository.PlanFeedVersionProjection(p.id, p.startDate, p.version, r.version) "
+      + "from Plan p left join p.recurrenceRule r order by p.startDate, p.id")
+  List<PlanFeedVersionProjection> findFeedVersions(Limit limit);
+
+  /**
+   * (start_date, id) 키셋 기준으로 직전 페이지 다음의 Plan ID와 버전 조회 (캘린더 피드용)
+   *
+   * @param afterStartDate 직전 페이지 마지막 Plan의 시작 날짜
+   * @param afterId        직전 페이지 마지막 Plan의 ID (같은 시작 날짜에서는 이보다 큰 ID만 조회)
+   * @param limit          최대 조회 개수
+   * @return 시작 날짜, ID 순으로 정렬된 버전 목록
+   */
+  @Query("select new com.world.planner.plan.infrastructure.repository.PlanFeedVersionProjection(p.id, p.startDate, p.version, r.version) "
+      + "from Plan p left join p.recurrenceRule r "
+      + "where p.startDate > :afterStartDate or (p.startDate = :afterStartDate and p.id > :afterId) "
+      + "order by p.startDate, p.id")
+  List<PlanFeedVersionProjection> findFeedVersionsAfter(
+      @Param("afterStartDate") LocalDate afterStartDate,
+      @Param("afterId") UUID afterId,
+      Limit limit
+  );
+
+  /**
+   * 지정한 Plan의 ID와 버전을 시작 날짜, ID 순으로 조회 (캘린더 피드용)
+   *
+   * @param ids Plan ID 목록
+   * @return 버전 목록 (없는 ID는 제외)
+   */
+  @Query("select new com.world.planner.plan.infrastructure.repository.PlanFeedVersionProjection(p.id, p.startDate, p.version, r.version) "
+      + "from Plan p left join p.recurrenceRule r where p.id in :ids order by p.startDate, p.id")
+  List<PlanFeedVersionProjection> findFeedVersionsByIdIn(@Param("ids") Collection<UUID> ids);
+
+  /**
+   * 전체 Plan 첫 페이지를 시작 날짜, ID 순으로 조회 (내보내기용, idx_plans_start_date_id 사용)
+   *
+   * @param limit 최대 조회 개수
+   * @return Plan 목록
+   */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+  @Query("select p from Plan p left join fetch p.recurrenceRule order by p.startDate, p.id")
+  List<Plan> findPage(Limit limit);
+
+  /**
+   * (start_date, id) 키셋 기준으로 직전 페이지 다음의 Plan 조회 (내보내기용)
+   *
+   * @param afterStartDate 직전 페이지 마지막 Plan의 시작 날짜
+   * @param afterId        직전 페이지 마지막 Plan의 ID (같은 시작 날짜에서는 이보다 큰 ID만 조회)
+   * @param limit          최대 조회 개수
+   * @return 시작 날짜, ID 순으로 정렬된 Plan 목록
+   */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+  @Query("select p from Plan p left join fetch p.recurrenceRule "
+      + "where p.startDate > :afterStartDate or (p.startDate = :afterStartDate and p.id > :afterId) "
+      + "order by p.startDate, p.id")
+  List<Plan> findPageAfter(
+      @Param("afterStartDate") LocalDate afterStartDate,
+      @Param("afterId") UUID afterId,
+      Limit limit
+  );
+
+  /**
+   * 기간이 겹치는 Plan을 서버 측 커서로 스트리밍 조회 (트랜잭션 안에서 사용 후 반드시 close)
+   *
+   * @param from 검색 시작 날짜
+   * @param to   검색 종료 날짜
+   * @return Plan Stream
+   */
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query("select p from Plan p left join fetch p.recurrenceRule "
+      + "where p.startDate <= :to and (p.endDate is null or p.endDate >= :from)")
+  Stream<Plan> streamAllOverlapping(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+  /**
+   * 특정 날짜에 발생할 수 있는 Plan 후보 조회.
+   * 규칙 행의 마스크, 주기, 기준일 오프셋(anchor_epoch_day, anchor_month_index)으로 SQL에서 먼저 거르므로
+   * 후보만 엔티티로 로딩된다. 마스크 비트 검사는 mod(mask / bit, 2) = 1 로 표현한다.
+   *
+   * @param date 확인할 날짜
+   * @return 발생 후보 Plan 목록 (isOccurrence로 최종 확인)
+   */
+  default List<Plan> findOccurrenceCandidates(LocalDate date) {
+    return findOccurrenceCandidates(
+        date,
+        date.toEpochDay(),
+        RecurrenceRule.monthIndex(date),
+        date.getYear(),
+        RecurrenceMasks.weekdayBit(date.getDayOfWeek()),
+        1 << (date.getDayOfMonth() - 1),
+        1 << (date.getMonthValue() - 1)
+    );
+  }
+
+  @EntityGraph(attributePaths = "recurrenceRule")
+  @Query("select p from Plan p left join p.recurrenceRule r "
+      + "where p.startDate <= :date and (p.endDate is null or p.endDate >= :date) "
+      + "and (r is null "
+      + "  or (type(r) = DailyRule "
+      + "    and r.anchorEpochDay <= :epochDay "
+      + "    and mod(:epochDay - r.anchorEpochDay, r.interval) = 0) "
+      + "  or (type(r) = WeeklyRule "
+      + "    and r.anchorEpochDay <= :epochDay "
+      + "    and mod((:epochDay - r.anchorEpochDay) / 7, r.interval) = 0 "
+      + "    and mod(r.weekdayMask / :weekdayBit, 2) = 1) "
+      + "  or (type(r) = MonthlyRule "
+      + "    and r.anchorMonthIndex <= :monthIndex "
+      + "    and mod(:monthIndex - r.anchorMonthIndex, r.interval) = 0 "
+      + "    and (r.dayOfMonthMask = 0 or mod(r.dayOfMonthMask / :dayOfMonthBit, 2) = 1) "
+      + "    and (r.weekdayMask = 0 or mod(r.weekdayMask / :weekdayBit, 2) = 1)) "
+      + "  or (type(r) = YearlyRule "
+      + "    and r.anchorMonthIndex / 12 <= :year "
+      + "    and mod(:year - r.anchorMonthIndex / 12, r.interval) = 0 "
+      + "    and (r.monthMask = 0 or mod(r.monthMask / :monthBit, 2) = 1) "
+      + "    and (r.dayOfMonthMask = 0 or mod(r.dayOfMonthMask / :dayOfMonthBit, 2) = 1) "
+      + "    and (r.weekdayMask = 0 or mod(r.weekdayMask / :weekdayBit, 2) = 1))) "
+      + "order by p.startDate, p.id")
+  List<Plan> findOccurrenceCandidates(
+      @Param("date") LocalDate date,
+      @Param("epochDay") long epochDay,
+      @Param("monthIndex") int monthIndex,
+      @Param("year") int year,
+      @Param("weekdayBit") int weekdayBit,
+      @Param("dayOfMonthBit") int dayOfMonthBit,
+      @Param("monthBit") int monthBit
+  );
 }
@@ -0,0 +1,19 @@
+package com.world.planner.plan.infrastructure.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface PlanRepositoryCustom {
+
+  /**
+   * (start_date, id) 키셋 기준으로 커서 다음의 Plan 요약 목록 조회
+   *
+   * @param condition      검색 조건
+   * @param afterStartDate 직전 페이지 마지막 Plan의 시작 날짜 (첫 페이지는 null)
+   * @param afterId        직전 페이지 마지막 Plan의 ID (첫 페이지는 null)
+   * @param limit          최대 조회 개수
+   * @return (start_date, id) 순으로 정렬된 Plan 요약 목록
+   */
+  List<PlanSummaryProjection> findSummaries(PlanSearchCondition condition, LocalDate afterStartDate, UUID afterId, int limit);
+}
@@ -0,0 +1,67 @@
+package com.world.planner.plan.infrastructure.repository;
+
+import com.world.planner.plan.domain.Plan;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class PlanRepositoryImpl implements PlanRepositoryCustom {
+
+  private final EntityManager entityManager;
+
+  @Override
+  public List<PlanSummaryProjection> findSummaries(
+      PlanSearchCondition condition,
+      LocalDate afterStartDate,
+      UUID afterId,
+      int limit
+  ) {
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+    CriteriaQuery<PlanSummaryProjection> query = cb.createQuery(PlanSummaryProjection.class);
+    Root<Plan> plan = query.from(Plan.class);
+    Path<UUID> id = plan.get("id");
+    Path<String> title = plan.get("title");
+    Path<LocalDate> startDate = plan.get("startDate");
+    Path<LocalDate> endDate = plan.get("endDate");
+
+    List<Predicate> predicates = new ArrayList<>();
+    if (condition.getKeyword() != null && !condition.getKeyword().isBlank()) {
+      predicates.add(cb.like(cb.lower(title), "%" + escapeLike(condition.getKeyword().toLowerCase()) + "%", '\\'));
+    }
+    if (condition.getFrom() != null) {
+      predicates.add(cb.or(cb.isNull(endDate), cb.greaterThanOrEqualTo(endDate, condition.getFrom())));
+    }
+    if (condition.getTo() != null) {
+      predicates.add(cb.lessThanOrEqualTo(startDate, condition.getTo()));
+    }
+    // 키셋 조건: (start_date, id) > (afterStartDate, afterId)
+    if (afterStartDate != null && afterId != null) {
+      predicates.add(cb.or(
+          cb.greaterThan(startDate, afterStartDate),
+          cb.and(cb.equal(startDate, afterStartDate), cb.greaterThan(id, afterId))
+      ));
+    }
+
+    query.select(cb.construct(PlanSummaryProjection.class, id, title, startDate, endDate))
+        .where(predicates.toArray(new Predicate[0]))
+        .orderBy(cb.asc(startDate), cb.asc(id));
+
+    return entityManager.createQuery(query)
+        .setMaxResults(limit)
+        .getResultList();
+  }
+
+  // LIKE 패턴 특수문자 이스케이프
+  private String escapeLike(String keyword) {
+    return keyword.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+  }
+}
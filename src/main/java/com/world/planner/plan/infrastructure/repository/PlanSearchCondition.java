@@ -0,0 +1,17 @@
+package com.world.planner.plan.infrastructure.repository;
+
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Plan 목록 검색 조건 (모든 조건은 선택적)
+ */
+@Getter
+@AllArgsConstructor
+public class PlanSearchCondition {
+
+  private String keyword;   // 제목 검색어
+  private LocalDate from;   // 적용 기간이 겹치는지 확인할 시작 날짜
+  private LocalDate to;     // 적용 기간이 겹치는지 확인할 종료 날짜
+}
@@ -0,0 +1,19 @@
+package com.world.planner.plan.infrastructure.repository;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Plan 목록 조회용 프로젝션 (엔티티를 영속성 컨텍스트에 올리지 않고 요약 컬럼만 조회)
+ */
+@Getter
+@AllArgsConstructor
+public class PlanSummaryProjection {
+
+  private UUID id;
+  private String title;
+  private LocalDate startDate;
+  private LocalDate endDate;
+}
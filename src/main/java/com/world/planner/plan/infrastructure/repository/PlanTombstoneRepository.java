@@ -0,0 +1,34 @@
+package com.world.planner.plan.infrastructure.repository;
+
+import com.world.planner.plan.domain.PlanTombstone;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PlanTombstoneRepository extends JpaRepository<PlanTombstone, UUID> {
+
+  /**
+   * (after, until] 구간에 삭제된 Plan ID 조회 (idx_plan_tombstones_deleted_at 사용)
+   *
+   * @param after 구간 시작 (미포함)
+   * @param until 구간 끝 (포함)
+   * @return 삭제 시각 순으로 정렬된 Plan ID 목록
+   */
+  @Query("select t.planId from PlanTombstone t "
+      + "where t.deletedAt > :after and t.deletedAt <= :until order by t.deletedAt, t.planId")
+  List<UUID> findPlanIdsDeletedBetween(@Param("after") LocalDateTime after, @Param("until") LocalDateTime until);
+
+  /**
+   * 보관 기간이 지난 삭제 기록 제거
+   *
+   * @param before 기준 시각 (미포함)
+   * @return 제거된 행 수
+   */
+  @Modifying
+  @Query("delete from PlanTombstone t where t.deletedAt < :before")
+  int deleteByDeletedAtBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,18 @@
+package com.world.planner.plan.infrastructure.repository;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 단일 Plan의 버전 정보 프로젝션 (조건부 요청 판단용, 엔티티를 로딩하지 않음)
+ */
+@Getter
+@AllArgsConstructor
+public class PlanVersionProjection {
+
+  private long planVersion;
+  private Long ruleVersion; // 반복 규칙이 없으면 null
+  private LocalDateTime updatedAt;
+  private LocalDateTime ruleUpdatedAt; // 반복 규칙이 없으면 null
+}
@@ -1,19 +1,46 @@
 package com.world.planner.plan.presentation.controller;
 
+import com.world.planner.plan.application.OccurrenceBucket;
+import com.world.planner.plan.application.PlanActivityService;
+import com.world.planner.plan.application.PlanBatchService;
+import com.world.planner.plan.application.PlanConflictService;
+import com.world.planner.plan.application.PlanExportService;
+import com.world.planner.plan.application.PlanFeedService;
+import com.world.planner.plan.application.PlanImportService;
 import com.world.planner.plan.application.PlanService;
+import com.world.planner.plan.application.PlanSyncService;
+import com.world.planner.plan.application.ResourceVersion;
+import com.world.planner.plan.presentation.dto.response.ActivePlansResponse;
+import com.world.planner.plan.presentation.dto.response.BatchResultResponse;
+import com.world.planner.plan.presentation.dto.response.OccurrenceHistogramResponse;
+import com.world.planner.plan.presentation.dto.response.PlanChangesResponse;
+import com.world.planner.plan.presentation.dto.response.PlanConflictsResponse;
 import com.world.planner.plan.presentation.dto.response.PlanDetailResponse;
+import com.world.planner.plan.presentation.dto.response.PlanOccurrenceResponse;
+import com.world.planner.plan.presentation.dto.response.PlanPageResponse;
 import com.world.planner.plan.presentation.dto.response.PlanSummaryResponse;
+import com.world.planner.plan.presentation.dto.request.ActivePlansRequest;
 import com.world.planner.plan.presentation.dto.request.CreatePlanRequest;
+import com.world.planner.plan.presentation.dto.request.PlanConflictRequest;
+import com.world.planner.plan.presentation.dto.request.PlanRecurrenceRuleRequest;
 import com.world.planner.plan.presentation.dto.request.RecurrenceRuleRequest;
 import com.world.planner.plan.presentation.dto.request.UpdatePlanRequest;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import io.swagger.v3.oas.annotations.Operation;
 
 @RestController
@@ -23,6 +50,13 @@ import io.swagger.v3.oas.annotations.Operation;
 public class PlanRestController {
 
   private final PlanService planService;
+  private final PlanExportService planExportService;
+  private final PlanBatchService planBatchService;
+  private final PlanActivityService planActivityService;
+  private final PlanSyncService planSyncService;
+  private final PlanConflictService planConflictService;
+  private final PlanImportService planImportService;
+  private final PlanFeedService planFeedService;
 
   /**
    * Plan 생성
@@ -33,7 +67,7 @@ public class PlanRestController {
   @PostMapping
   @Operation(summary = "Plan 생성", description = "새로운 Plan을 추가합니다.")
   public ResponseEntity<Void> createPlan(@Valid @RequestBody CreatePlanRequest request) {
-    UUID planId = planService.createPlan(
+    PlanDetailResponse createdPlan = planService.createPlan(
         request.getTitle(),
         request.getDescription(),
         request.getStartDate(),
@@ -43,8 +77,22 @@ public class PlanRestController {
     // Location 헤더를 설정하여 생성된 자원의 URI를 반환
     return ResponseEntity
         .status(HttpStatus.CREATED)
-        .header("Location", "/api/plans/" + planId) // 생성된 Plan의 접근 경로
-        .build();         // 생성된 ID를 포함한 응답 바디
+        .header("Location", "/api/plans/" + createdPlan.getPlanId()) // 생성된 Plan의 접근 경로
+        .eTag(createdPlan.getEtag()) // 다시 조회하지 않고 If-Match로 이어서 수정할 수 있도록
+        .build();
+  }
+
+  /**
+   * Plan 일괄 생성
+   *
+   * @param requests Plan 생성 요청 리스트
+   * @return 요청 순서대로 정렬된 항목별 결과
+   */
+  @PostMapping("/batch")
+  @Operation(summary = "Plan 일괄 생성", description = "여러 Plan을 청크 단위 트랜잭션으로 생성하고 항목별 결과를 반환합니다.")
+  public ResponseEntity<BatchResultResponse> createPlans(@RequestBody List<CreatePlanRequest> requests) {
+    BatchResultResponse result = planBatchService.createPlans(requests);
+    return ResponseEntity.ok(result);
   }
 
   /**
@@ -52,73 +100,297 @@ public class PlanRestController {
    *
    * @param planId  수정할 Plan의 ID
    * @param request Plan 수정 요청
+   * @param ifMatch (옵션) 조회 / 수정 응답의 ETag (다르면 412)
    * @return 수정된 PlanDetailResponse
    */
   @PutMapping("/{planId}")
   @Operation(summary = "Plan 수정", description = "특정 Plan의 내용을 수정합니다.")
   public ResponseEntity<PlanDetailResponse> updatePlan(
       @PathVariable UUID planId,
-      @Valid @RequestBody UpdatePlanRequest request
+      @Valid @RequestBody UpdatePlanRequest request,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
   ) {
     PlanDetailResponse updatedPlan = planService.updatePlan(
         planId,
         request.getTitle(),
         request.getDescription(),
         request.getStartDate(), // 변경된 필드 적용
-        request.getEndDate()    // 변경된 필드 적용
+        request.getEndDate(),   // 변경된 필드 적용
+        ifMatch
     );
-    return ResponseEntity.ok(updatedPlan);
+    return ResponseEntity.ok().eTag(updatedPlan.getEtag()).body(updatedPlan);
   }
 
   /**
    * Plan 삭제
    *
-   * @param planId 삭제할 Plan의 ID
+   * @param planId  삭제할 Plan의 ID
+   * @param ifMatch (옵션) 조회 / 수정 응답의 ETag (다르면 412)
    */
   @DeleteMapping("/{planId}")
   @Operation(summary = "Plan 삭제", description = "특정 Plan을 삭제합니다.")
-  public ResponseEntity<Void> deletePlan(@PathVariable UUID planId) {
-    planService.deletePlan(planId);
+  public ResponseEntity<Void> deletePlan(
+      @PathVariable UUID planId,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+  ) {
+    planService.deletePlan(planId, ifMatch);
     return ResponseEntity.noContent().build();
   }
 
   /**
    * 단일 Plan 조회
    *
-   * @param planId 조회할 Plan의 ID
-   * @return PlanDetailResponse
+   * @param planId     조회할 Plan의 ID
+   * @param webRequest 조건부 요청 (If-None-Match / If-Modified-Since)
+   * @return PlanDetailResponse (변경이 없으면 304)
    */
   @GetMapping("/{planId}")
   @Operation(summary = "Plan 조회", description = "특정 Plan의 상세 정보를 가져옵니다.")
-  public ResponseEntity<PlanDetailResponse> getPlan(@PathVariable UUID planId) {
+  public ResponseEntity<PlanDetailResponse> getPlan(@PathVariable UUID planId, WebRequest webRequest) {
+    ResourceVersion version = planService.getPlanVersion(planId);
+    if (webRequest.checkNotModified(version.getEtag(), version.getLastModified())) {
+      return null; // 304 Not Modified (본문을 만들지 않음)
+    }
     PlanDetailResponse plan = planService.getPlan(planId);
     return ResponseEntity.ok(plan);
   }
 
   /**
-   * 모든 Plan 목록 조회
+   * Plan 목록 조회 (커서 기반 페이지네이션)
    *
-   * @return 모든 PlanSummaryResponse 리스트
+   * @param keyword 제목 검색어 (선택적)
+   * @param from    적용 기간 검색 시작 날짜 (선택적)
+   * @param to      적용 기간 검색 종료 날짜 (선택적)
+   * @param cursor  직전 응답의 nextCursor (첫 페이지는 생략)
+   * @param size    페이지 크기
+   * @param webRequest 조건부 요청 (If-None-Match / If-Modified-Since)
+   * @return PlanPageResponse (변경이 없으면 304)
    */
   @GetMapping
-  @Operation(summary = "모든 Plan 조회", description = "전체 Plan 목록을 가져옵니다.")
-  public ResponseEntity<List<PlanSummaryResponse>> getAllPlans() {
-    List<PlanSummaryResponse> plans = planService.getAllPlans();
+  @Operation(summary = "Plan 목록 조회", description = "시작 날짜, ID 순으로 Plan 목록을 커서 기반으로 가져옵니다.")
+  public ResponseEntity<PlanPageResponse> getAllPlans(
+      @RequestParam(required = false) String keyword,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int size,
+      WebRequest webRequest
+  ) {
+    if (isNotModified(webRequest)) {
+      return null;
+    }
+    PlanPageResponse plans = planService.getAllPlans(keyword, from, to, cursor, size);
     return ResponseEntity.ok(plans);
   }
 
+  /**
+   * 토큰 이후의 Plan 변경 조회 (변경 동기화)
+   *
+   * @param since 직전 응답의 nextToken (최초 동기화는 생략)
+   * @param size  최대 Plan 수
+   * @return 생성 / 수정된 Plan, 삭제된 Plan ID, 다음 토큰
+   */
+  @GetMapping("/changes")
+  @Operation(summary = "Plan 변경 동기화", description = "토큰 이후에 생성, 수정, 삭제된 Plan만 다음 토큰과 함께 반환합니다.")
+  public ResponseEntity<PlanChangesResponse> getChanges(
+      @RequestParam(required = false) String since,
+      @RequestParam(defaultValue = "500") int size
+  ) {
+    PlanChangesResponse changes = planSyncService.getChanges(since, size);
+    return ResponseEntity.ok(changes);
+  }
+
+  /**
+   * 기간 내 모든 Plan의 발생 일자 조회
+   *
+   * @param from 검색 시작 날짜
+   * @param to   검색 종료 날짜
+   * @param webRequest 조건부 요청 (If-None-Match / If-Modified-Since)
+   * @return (날짜, Plan ID) 순으로 정렬된 PlanOccurrenceResponse 리스트 (변경이 없으면 304)
+   */
+  @GetMapping("/occurrences")
+  @Operation(summary = "기간 내 Plan 발생 일자 조회", description = "기간 내 모든 Plan의 반복 규칙을 전개해 (날짜, Plan ID) 순으로 반환합니다.")
+  public ResponseEntity<List<PlanOccurrenceResponse>> getOccurrences(
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+      WebRequest webRequest
+  ) {
+    if (isNotModified(webRequest)) {
+      return null;
+    }
+    List<PlanOccurrenceResponse> occurrences = planService.getOccurrences(from, to);
+    return ResponseEntity.ok(occurrences);
+  }
+
+  /**
+   * 특정 날짜의 일정(발생하는 Plan) 조회
+   *
+   * @param date 조회할 날짜
+   * @param webRequest 조건부 요청 (If-None-Match / If-Modified-Since)
+   * @return 시작 날짜, ID 순으로 정렬된 PlanSummaryResponse 리스트 (변경이 없으면 304)
+   */
+  @GetMapping("/agenda")
+  @Operation(summary = "날짜별 일정 조회", description = "주어진 날짜에 발생하는 Plan 목록을 반환합니다.")
+  public ResponseEntity<List<PlanSummaryResponse>> getAgenda(
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+      WebRequest webRequest
+  ) {
+    if (isNotModified(webRequest)) {
+      return null;
+    }
+    List<PlanSummaryResponse> agenda = planService.getAgenda(date);
+    return ResponseEntity.ok(agenda);
+  }
+
+  /**
+   * 기간 내 모든 Plan의 구간별 발생 일자 수 조회
+   *
+   * @param from   검색 시작 날짜
+   * @param to     검색 종료 날짜
+   * @param bucket 구간 단위 (WEEK, MONTH, YEAR)
+   * @param webRequest 조건부 요청 (If-None-Match / If-Modified-Since)
+   * @return 구간별 발생 일자 수 (변경이 없으면 304)
+   */
+  @GetMapping("/occurrences/histogram")
+  @Operation(summary = "발생 일자 수 히스토그램", description = "기간 내 모든 Plan의 발생 일자 수를 구간별로 반환합니다. (최대 " + OccurrenceBucket.MAX_DAYS + "일)")
+  public ResponseEntity<OccurrenceHistogramResponse> getOccurrenceHistogram(
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+      @RequestParam(defaultValue = "MONTH") OccurrenceBucket bucket,
+      WebRequest webRequest
+  ) {
+    if (isNotModified(webRequest)) {
+      return null;
+    }
+    OccurrenceHistogramResponse histogram = planService.getOccurrenceHistogram(from, to, bucket);
+    return ResponseEntity.ok(histogram);
+  }
+
+  /**
+   * 단일 Plan의 구간별 발생 일자 수 조회
+   *
+   * @param planId 조회할 Plan의 ID
+   * @param from   검색 시작 날짜
+   * @param to     검색 종료 날짜
+   * @param bucket 구간 단위 (WEEK, MONTH, YEAR)
+   * @param webRequest 조건부 요청 (If-None-Match / If-Modified-Since)
+   * @return 구간별 발생 일자 수 (변경이 없으면 304)
+   */
+  @GetMapping("/{planId}/occurrences/histogram")
+  @Operation(summary = "Plan 발생 일자 수 히스토그램", description = "특정 Plan의 기간 내 발생 일자 수를 구간별로 반환합니다.")
+  public ResponseEntity<OccurrenceHistogramResponse> getPlanOccurrenceHistogram(
+      @PathVariable UUID planId,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+      @RequestParam(defaultValue = "MONTH") OccurrenceBucket bucket,
+      WebRequest webRequest
+  ) {
+    ResourceVersion version = planService.getPlanVersion(planId).weak(); // Plan 응답과 다른 표현이므로 약한 ETag
+    if (webRequest.checkNotModified(version.getEtag(), version.getLastModified())) {
+      return null;
+    }
+    OccurrenceHistogramResponse histogram = planService.getOccurrenceHistogram(planId, from, to, bucket);
+    return ResponseEntity.ok(histogram);
+  }
+
+  /**
+   * 날짜별 활성 Plan 일괄 조회
+   *
+   * @param request 확인할 날짜와 (선택적) Plan ID 집합
+   * @return 날짜 순으로 정렬된 날짜별 활성 Plan ID 목록
+   */
+  @PostMapping("/active")
+  @Operation(summary = "활성 Plan 일괄 조회", description = "주어진 날짜들에 활성 상태인 Plan ID만 날짜별로 반환합니다.")
+  public ResponseEntity<List<ActivePlansResponse>> findActivePlans(@Valid @RequestBody ActivePlansRequest request) {
+    List<ActivePlansResponse> activePlans = planActivityService.findActivePlanIds(request.getDates(), request.getPlanIds());
+    return ResponseEntity.ok(activePlans);
+  }
+
+  /**
+   * 후보 Plan과 같은 날짜에 발생하는 기존 Plan 조회 (후보 Plan은 저장하지 않음)
+   *
+   * @param request 후보 Plan(기간, 반복 규칙)과 (선택적) 검사 기간
+   * @return 검사 기간과 날짜, Plan ID 순으로 정렬된 충돌 발생 일자
+   */
+  @PostMapping("/conflicts")
+  @Operation(summary = "Plan 충돌 검사", description = "후보 Plan이 발생하는 날짜에 함께 발생하는 기존 Plan 발생 일자를 반환합니다. (최대 366일)")
+  public ResponseEntity<PlanConflictsResponse> findConflicts(@Valid @RequestBody PlanConflictRequest request) {
+    PlanConflictsResponse conflicts = planConflictService.findConflicts(request);
+    return ResponseEntity.ok(conflicts);
+  }
+
+  /**
+   * iCalendar(.ics) 파일 가져오기 (VEVENT 하나당 Plan 하나)
+   *
+   * @param body .ics 파일 본문 (UTF-8)
+   * @return 파일 내 VEVENT 순서대로 정렬된 항목별 결과
+   */
+  @PostMapping(value = "/import", consumes = PlanImportService.CALENDAR_MEDIA_TYPE)
+  @Operation(summary = ".ics 가져오기", description = "iCalendar 파일의 VEVENT(SUMMARY, DESCRIPTION, DTSTART, DTEND, RRULE)를 스트리밍으로 읽어 Plan으로 저장합니다.")
+  public ResponseEntity<BatchResultResponse> importCalendar(InputStream body) throws IOException {
+    BatchResultResponse result = planImportService.importCalendar(body);
+    return ResponseEntity.ok(result);
+  }
+
+  /**
+   * 전체 Plan 내보내기 (NDJSON 스트리밍)
+   *
+   * @param includeOccurrences 발생 일자 포함 여부
+   * @param from               발생 일자 검색 시작 날짜 (includeOccurrences=true인 경우 필수)
+   * @param to                 발생 일자 검색 종료 날짜 (includeOccurrences=true인 경우 필수)
+   * @return 한 줄에 Plan 하나씩 기록되는 NDJSON 스트림
+   */
+  @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  @Operation(summary = "Plan 내보내기", description = "전체 Plan(과 선택적으로 발생 일자)을 NDJSON으로 스트리밍합니다.")
+  public ResponseEntity<StreamingResponseBody> exportPlans(
+      @RequestParam(defaultValue = "false") boolean includeOccurrences,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+  ) {
+    planExportService.validateExport(includeOccurrences, from, to); // 스트림을 열기 전에 검증
+    StreamingResponseBody body = out -> planExportService.exportPlans(out, includeOccurrences, from, to);
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .body(body);
+  }
+
+  /**
+   * iCalendar(.ics) 구독 피드 (VEVENT 스트리밍, Plan별 VEVENT는 캐시에서 출력)
+   *
+   * @param planIds    포함할 Plan ID 목록 (선택적, 생략하면 전체)
+   * @param webRequest 조건부 요청 (If-None-Match / If-Modified-Since)
+   * @return 시작 날짜 순 VEVENT를 담은 VCALENDAR 스트림 (변경이 없으면 304)
+   */
+  @GetMapping(value = "/feed.ics", produces = PlanImportService.CALENDAR_MEDIA_TYPE)
+  @Operation(summary = ".ics 피드", description = "Plan과 반복 규칙을 RRULE이 포함된 VEVENT로 스트리밍합니다. 캘린더 앱의 구독 URL로 사용합니다.")
+  public ResponseEntity<StreamingResponseBody> getCalendarFeed(
+      @RequestParam(required = false) List<UUID> planIds,
+      WebRequest webRequest
+  ) {
+    planFeedService.validateFeed(planIds); // 스트림을 열기 전에 검증
+    if (isNotModified(webRequest)) {
+      return null;
+    }
+    StreamingResponseBody body = out -> planFeedService.writeFeed(out, planIds);
+    return ResponseEntity.ok()
+        .contentType(MediaType.parseMediaType(PlanImportService.CALENDAR_MEDIA_TYPE + ";charset=UTF-8"))
+        .body(body);
+  }
+
   /**
    * Plan에 RecurrenceRule 추가 또는 수정
    *
    * @param planId      Plan ID
    * @param ruleRequest RecurrenceRule 생성 요청
+   * @param ifMatch     (옵션) 조회 / 수정 응답의 ETag (다르면 412)
    * @return 수정된 PlanDetailResponse
    */
   @PostMapping("/{planId}/recurrence-rule")
-  @Operation(summary = "반복 규칙 추가 또는 수정", description = "특정 Plan에 반복 규칙을 추가 또는 수정합니다.")
+  @Operation(summary = "반복 규칙 추가 또는 수정", description = "특정 Plan에 반복 규칙을 추가 또는 수정합니다. 같은 타입이면 기존 규칙을 그대로 수정하고, 내용이 같으면 변경하지 않습니다.")
   public ResponseEntity<PlanDetailResponse> addOrUpdateRecurrenceRule(
       @PathVariable UUID planId,
-      @Valid @RequestBody RecurrenceRuleRequest ruleRequest
+      @Valid @RequestBody RecurrenceRuleRequest ruleRequest,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
   ) {
     PlanDetailResponse updatedPlan = planService.addOrUpdateRecurrenceRule(
         planId,
@@ -126,21 +398,64 @@ public class PlanRestController {
         ruleRequest.getInterval(),
         ruleRequest.getDaysOfWeek(),
         ruleRequest.getDaysOfMonth(),
-        ruleRequest.getMonthsOfYear()
+        ruleRequest.getMonthsOfYear(),
+        ifMatch
     );
-    return ResponseEntity.ok(updatedPlan);
+    return ResponseEntity.ok().eTag(updatedPlan.getEtag()).body(updatedPlan);
+  }
+
+  /**
+   * RFC 5545 RRULE 값으로 Plan에 RecurrenceRule 추가 또는 수정
+   *
+   * @param planId  Plan ID
+   * @param rrule   RRULE 값 (예: FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,WE, "RRULE:" 접두사 허용)
+   * @param ifMatch (옵션) 조회 / 수정 응답의 ETag (다르면 412)
+   * @return 수정된 PlanDetailResponse
+   */
+  @PostMapping(value = "/{planId}/recurrence-rule", consumes = MediaType.TEXT_PLAIN_VALUE)
+  @Operation(summary = "RRULE로 반복 규칙 지정", description = "캘린더에서 복사한 RRULE 문자열로 반복 규칙을 지정합니다. UNTIL / COUNT가 있으면 종료 날짜도 바뀝니다.")
+  public ResponseEntity<PlanDetailResponse> addOrUpdateRecurrenceRuleFromRRule(
+      @PathVariable UUID planId,
+      @RequestBody String rrule,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+  ) {
+    PlanDetailResponse updatedPlan = planService.addOrUpdateRecurrenceRule(planId, rrule, ifMatch);
+    return ResponseEntity.ok().eTag(updatedPlan.getEtag()).body(updatedPlan);
+  }
+
+  /**
+   * 여러 Plan에 RecurrenceRule 일괄 추가 또는 수정
+   *
+   * @param requests (Plan ID, 반복 규칙) 요청 리스트
+   * @return 요청 순서대로 정렬된 항목별 결과
+   */
+  @PostMapping("/recurrence-rules/batch")
+  @Operation(summary = "반복 규칙 일괄 추가 또는 수정", description = "여러 Plan의 반복 규칙을 청크 단위 트랜잭션으로 지정하고 항목별 결과를 반환합니다.")
+  public ResponseEntity<BatchResultResponse> addOrUpdateRecurrenceRules(@RequestBody List<PlanRecurrenceRuleRequest> requests) {
+    BatchResultResponse result = planBatchService.addOrUpdateRecurrenceRules(requests);
+    return ResponseEntity.ok(result);
   }
 
   /**
    * Plan에서 RecurrenceRule 삭제
    *
-   * @param planId Plan ID
+   * @param planId  Plan ID
+   * @param ifMatch (옵션) 조회 / 수정 응답의 ETag (다르면 412)
    * @return 수정된 PlanDetailResponse
    */
   @DeleteMapping("/{planId}/recurrence-rule")
   @Operation(summary = "반복 규칙 삭제", description = "특정 Plan의 반복 규칙을 삭제합니다.")
-  public ResponseEntity<PlanDetailResponse> removeRecurrenceRule(@PathVariable UUID planId) {
-    PlanDetailResponse updatedPlan = planService.removeRecurrenceRule(planId);
-    return ResponseEntity.ok(updatedPlan);
+  public ResponseEntity<PlanDetailResponse> removeRecurrenceRule(
+      @PathVariable UUID planId,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+  ) {
+    PlanDetailResponse updatedPlan = planService.removeRecurrenceRule(planId, ifMatch);
+    return ResponseEntity.ok().eTag(updatedPlan.getEtag()).body(updatedPlan);
+  }
+
+  // 전체 Plan 버전 요약으로 조건부 요청 판단 (304이면 true, 아니면 ETag / Last-Modified 헤더만 설정)
+  private boolean isNotModified(WebRequest webRequest) {
+    ResourceVersion version = planService.getPlansVersion();
+    return webRequest.checkNotModified(version.getEtag(), version.getLastModified());
   }
-}
\ No newline at end of file
+}
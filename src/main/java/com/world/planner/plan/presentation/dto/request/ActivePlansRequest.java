@@ -0,0 +1,21 @@
+package com.world.planner.plan.presentation.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import lombok.Getter;
+
+@Getter
+@Schema(description = "활성 Plan 일괄 조회 요청")
+public class ActivePlansRequest {
+
+  @NotEmpty(message = "확인할 날짜를 하나 이상 입력해야 합니다.")
+  @Schema(description = "확인할 날짜 리스트", example = "[\"2023-12-04\"]")
+  private List<LocalDate> dates;
+
+  @Schema(description = "확인할 Plan ID 집합 (Optional, 생략하면 전체 Plan)", example = "[\"123e4567-e89b-12d3-a456-426614174000\"]")
+  private Set<UUID> planIds;
+}
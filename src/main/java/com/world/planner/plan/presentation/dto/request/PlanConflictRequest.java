@@ -0,0 +1,29 @@
+package com.world.planner.plan.presentation.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
+import lombok.Getter;
+
+@Getter
+@Schema(description = "Plan 충돌 검사 요청")
+public class PlanConflictRequest {
+
+  @NotNull(message = "Plan 시작 날짜는 반드시 입력해야 합니다.")
+  @Schema(description = "후보 Plan 시작 날짜", example = "2023-12-01")
+  private LocalDate startDate;
+
+  @Schema(description = "후보 Plan 종료 날짜 (Optional, 생략하면 무기한)", example = "2024-06-30")
+  private LocalDate endDate;
+
+  @Valid
+  @Schema(description = "후보 Plan 반복 규칙 (Optional, 생략하면 적용 기간의 모든 날짜)")
+  private RecurrenceRuleRequest recurrenceRule;
+
+  @Schema(description = "검사 시작 날짜 (Optional, 생략하면 후보 Plan 시작 날짜)", example = "2023-12-01")
+  private LocalDate from;
+
+  @Schema(description = "검사 종료 날짜 (Optional, 생략하면 후보 Plan 종료 날짜와 최대 기간 중 이른 날짜)", example = "2024-06-30")
+  private LocalDate to;
+}
@@ -0,0 +1,21 @@
+package com.world.planner.plan.presentation.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import java.util.UUID;
+import lombok.Getter;
+
+@Getter
+@Schema(description = "일괄 반복 규칙 지정 요청 항목")
+public class PlanRecurrenceRuleRequest {
+
+  @NotNull(message = "Plan ID는 반드시 입력해야 합니다.")
+  @Schema(description = "반복 규칙을 지정할 Plan ID", example = "123e4567-e89b-12d3-a456-426614174000")
+  private UUID planId;
+
+  @Valid
+  @NotNull(message = "반복 규칙은 반드시 입력해야 합니다.")
+  @Schema(description = "반복 규칙")
+  private RecurrenceRuleRequest recurrenceRule;
+}
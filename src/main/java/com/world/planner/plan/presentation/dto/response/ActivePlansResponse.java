@@ -0,0 +1,20 @@
+package com.world.planner.plan.presentation.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(description = "날짜별 활성 Plan 응답")
+public class ActivePlansResponse {
+
+  @Schema(description = "확인한 날짜", example = "2023-12-04")
+  private LocalDate date;
+
+  @Schema(description = "해당 날짜에 활성 상태인 Plan ID 목록")
+  private List<UUID> planIds;
+}
@@ -0,0 +1,43 @@
+package com.world.planner.plan.presentation.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "일괄 처리 항목별 결과")
+public class BatchItemResultResponse {
+
+  @Schema(description = "요청 배열 내 위치 (0부터 시작)", example = "0")
+  private int index;
+
+  @Schema(description = "처리 성공 여부", example = "true")
+  private boolean success;
+
+  @Schema(description = "대상 Plan ID (생성 실패 시 null)", example = "123e4567-e89b-12d3-a456-426614174000")
+  private UUID planId;
+
+  @Schema(description = "실패 사유 (성공 시 null)", example = "Start date must be before or equal to the end date.")
+  private String error;
+
+  public static BatchItemResultResponse succeeded(int index, UUID planId) {
+    return BatchItemResultResponse.builder()
+        .index(index)
+        .success(true)
+        .planId(planId)
+        .build();
+  }
+
+  public static BatchItemResultResponse failed(int index, UUID planId, String error) {
+    return BatchItemResultResponse.builder()
+        .index(index)
+        .success(false)
+        .planId(planId)
+        .error(error)
+        .build();
+  }
+}
@@ -0,0 +1,30 @@
+package com.world.planner.plan.presentation.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(description = "일괄 처리 결과")
+public class BatchResultResponse {
+
+  @Schema(description = "성공 건수", example = "998")
+  private int successCount;
+
+  @Schema(description = "실패 건수", example = "2")
+  private int failureCount;
+
+  @Schema(description = "요청 순서대로 정렬된 항목별 결과")
+  private List<BatchItemResultResponse> results;
+
+  public static BatchResultResponse of(List<BatchItemResultResponse> results) {
+    int successCount = (int) results.stream().filter(BatchItemResultResponse::isSuccess).count();
+    return BatchResultResponse.builder()
+        .successCount(successCount)
+        .failureCount(results.size() - successCount)
+        .results(results)
+        .build();
+  }
+}
@@ -0,0 +1,21 @@
+package com.world.planner.plan.presentation.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(description = "구간별 발생 일자 수")
+public class OccurrenceCountResponse {
+
+  @Schema(description = "구간 시작 날짜", example = "2027-01-01")
+  private LocalDate start;
+
+  @Schema(description = "구간 종료 날짜 (포함)", example = "2027-01-31")
+  private LocalDate end;
+
+  @Schema(description = "발생 일자 수", example = "4")
+  private long count;
+}
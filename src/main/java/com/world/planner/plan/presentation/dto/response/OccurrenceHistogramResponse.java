@@ -0,0 +1,33 @@
+package com.world.planner.plan.presentation.dto.response;
+
+import com.world.planner.plan.application.OccurrenceBucket;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(description = "발생 일자 수 히스토그램 응답")
+public class OccurrenceHistogramResponse {
+
+  @Schema(description = "Plan ID (전체 Plan 합계이면 null)", example = "123e4567-e89b-12d3-a456-426614174000")
+  private UUID planId;
+
+  @Schema(description = "구간 단위", example = "MONTH")
+  private OccurrenceBucket bucket;
+
+  @Schema(description = "시작 날짜", example = "2027-01-01")
+  private LocalDate from;
+
+  @Schema(description = "종료 날짜", example = "2027-12-31")
+  private LocalDate to;
+
+  @Schema(description = "전체 발생 일자 수", example = "52")
+  private long total;
+
+  @Schema(description = "구간별 발생 일자 수 (날짜 순)")
+  private List<OccurrenceCountResponse> buckets;
+}
@@ -0,0 +1,28 @@
+package com.world.planner.plan.presentation.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(description = "Plan 변경 동기화 응답")
+public class PlanChangesResponse {
+
+  @Schema(description = "토큰 이후 생성 또는 수정된 Plan (수정 시각, ID 순)")
+  private List<PlanExportResponse> changed;
+
+  @Schema(description = "토큰 이후 삭제된 Plan ID")
+  private List<UUID> deleted;
+
+  @Schema(description = "다음 요청에 사용할 토큰", example = "MjAyNi0xMC0xN1QxMDowMDowMHxmZmZmZmZmZi1mZmZmLWZmZmYtZmZmZi1mZmZmZmZmZmZmZmY")
+  private String nextToken;
+
+  @Schema(description = "같은 토큰 구간에 아직 전달하지 않은 변경이 있는지 여부 (true면 nextToken으로 바로 다시 요청)", example = "false")
+  private boolean hasMore;
+
+  @Schema(description = "전체 동기화 응답 여부 (true면 클라이언트의 로컬 Plan을 모두 이 응답 기준으로 다시 구성)", example = "false")
+  private boolean fullSync;
+}
@@ -0,0 +1,25 @@
+package com.world.planner.plan.presentation.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(description = "Plan 충돌 검사 응답")
+public class PlanConflictsResponse {
+
+  @Schema(description = "검사 시작 날짜", example = "2023-12-01")
+  private LocalDate from;
+
+  @Schema(description = "검사 종료 날짜", example = "2024-06-30")
+  private LocalDate to;
+
+  @Schema(description = "검사 기간 내 후보 Plan 발생 일자 수", example = "30")
+  private int candidateOccurrences;
+
+  @Schema(description = "후보 Plan과 같은 날짜에 발생하는 기존 Plan 발생 일자 (날짜, Plan ID 순)")
+  private List<PlanOccurrenceResponse> conflicts;
+}
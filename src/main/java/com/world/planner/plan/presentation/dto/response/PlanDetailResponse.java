@@ -1,8 +1,11 @@
 package com.world.planner.plan.presentation.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.world.planner.plan.application.ResourceVersion;
 import com.world.planner.plan.domain.Plan;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.LocalDate;
+import java.util.UUID;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -23,8 +26,17 @@ public class PlanDetailResponse {
   @Schema(description = "Plan 종료 날짜", example = "2023-12-05")
   private LocalDate endDate;
 
+  // 본문 대신 응답 헤더로 전달 (생성 응답의 Location, 조회 / 수정 응답의 ETag)
+  @JsonIgnore
+  private UUID planId;
+
+  @JsonIgnore
+  private String etag;
+
   public static PlanDetailResponse fromEntity(Plan plan) {
     return PlanDetailResponse.builder()
+        .planId(plan.getId())
+        .etag(ResourceVersion.of(plan).getEtag())
         .title(plan.getTitle())
         .description(plan.getDescription())
         .startDate(plan.getStartDate())
@@ -0,0 +1,80 @@
+package com.world.planner.plan.presentation.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.world.planner.plan.domain.Plan;
+import com.world.planner.plan.domain.recurrence.RRule;
+import com.world.planner.plan.domain.recurrence.RecurrenceMasks;
+import com.world.planner.plan.domain.recurrence.RecurrenceRule;
+import com.world.planner.plan.domain.recurrence.RecurrenceRuleType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Plan 내보내기 응답 (NDJSON 한 줄)")
+public class PlanExportResponse {
+
+  @Schema(description = "Plan ID", example = "123e4567-e89b-12d3-a456-426614174000")
+  private UUID id;
+
+  @Schema(description = "Plan 제목", example = "Weekly Meeting")
+  private String title;
+
+  @Schema(description = "Plan 설명", example = "Discussion about project updates")
+  private String description;
+
+  @Schema(description = "Plan 시작 날짜", example = "2023-12-01")
+  private LocalDate startDate;
+
+  @Schema(description = "Plan 종료 날짜", example = "2023-12-05")
+  private LocalDate endDate;
+
+  @Schema(description = "반복 규칙 타입", example = "WEEKLY")
+  private RecurrenceRuleType ruleType;
+
+  @Schema(description = "반복 주기", example = "1")
+  private Integer interval;
+
+  @Schema(description = "반복 요일 리스트", example = "[\"MONDAY\", \"FRIDAY\"]")
+  private List<DayOfWeek> daysOfWeek;
+
+  @Schema(description = "반복 날짜 리스트", example = "[1, 15]")
+  private List<Integer> daysOfMonth;
+
+  @Schema(description = "반복 월 리스트", example = "[1, 6]")
+  private List<Integer> monthsOfYear;
+
+  @Schema(description = "RFC 5545 RRULE 값 (종료 날짜는 UNTIL)", example = "FREQ=WEEKLY;BYDAY=MO,FR;UNTIL=20231205")
+  private String rrule;
+
+  @Schema(description = "기간 내 발생 일자 (includeOccurrences=true인 경우)", example = "[\"2023-12-01\"]")
+  private List<LocalDate> occurrences;
+
+  // 반복 규칙은 컬렉션 테이블 대신 규칙 행의 비트마스크에서 복원
+  public static PlanExportResponse fromEntity(Plan plan, List<LocalDate> occurrences) {
+    PlanExportResponseBuilder builder = PlanExportResponse.builder()
+        .id(plan.getId())
+        .title(plan.getTitle())
+        .description(plan.getDescription())
+        .startDate(plan.getStartDate())
+        .endDate(plan.getEndDate())
+        .occurrences(occurrences);
+
+    RecurrenceRule rule = plan.getRecurrenceRule();
+    if (rule != null) {
+      builder.ruleType(rule.getRuleType())
+          .interval(rule.getInterval())
+          .daysOfWeek(RecurrenceMasks.toDaysOfWeek(rule.getWeekdayMask()))
+          .daysOfMonth(RecurrenceMasks.toDaysOfMonth(rule.getDayOfMonthMask()))
+          .monthsOfYear(RecurrenceMasks.toMonths(rule.getMonthMask()))
+          .rrule(RRule.format(rule, plan.getEndDate()));
+    }
+    return builder.build();
+  }
+}
@@ -0,0 +1,40 @@
+package com.world.planner.plan.presentation.dto.response;
+
+import com.world.planner.plan.domain.PlanOccurrence;
+import com.world.planner.plan.infrastructure.repository.MaterializedOccurrenceProjection;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(description = "Plan 발생 일자 응답")
+public class PlanOccurrenceResponse {
+
+  @Schema(description = "발생 날짜", example = "2023-12-04")
+  private LocalDate date;
+
+  @Schema(description = "Plan ID", example = "123e4567-e89b-12d3-a456-426614174000")
+  private UUID planId;
+
+  @Schema(description = "Plan 제목", example = "Weekly Meeting")
+  private String title;
+
+  public static PlanOccurrenceResponse fromOccurrence(PlanOccurrence occurrence) {
+    return PlanOccurrenceResponse.builder()
+        .date(occurrence.getDate())
+        .planId(occurrence.getPlan().getId())
+        .title(occurrence.getPlan().getTitle())
+        .build();
+  }
+
+  public static PlanOccurrenceResponse fromProjection(MaterializedOccurrenceProjection projection) {
+    return PlanOccurrenceResponse.builder()
+        .date(projection.getDate())
+        .planId(projection.getPlanId())
+        .title(projection.getTitle())
+        .build();
+  }
+}
@@ -0,0 +1,21 @@
+package com.world.planner.plan.presentation.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(description = "Plan 목록 페이지 응답")
+public class PlanPageResponse {
+
+  @Schema(description = "Plan 요약 목록")
+  private List<PlanSummaryResponse> plans;
+
+  @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "MjAyMy0xMi0wMXwxMjNlNDU2Ny1lODliLTEyZDMtYTQ1Ni00MjY2MTQxNzQwMDA")
+  private String nextCursor;
+
+  @Schema(description = "다음 페이지 존재 여부", example = "true")
+  private boolean hasNext;
+}
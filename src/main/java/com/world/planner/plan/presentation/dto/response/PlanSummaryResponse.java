@@ -1,6 +1,7 @@
 package com.world.planner.plan.presentation.dto.response;
 
 import com.world.planner.plan.domain.Plan;
+import com.world.planner.plan.infrastructure.repository.PlanSummaryProjection;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.LocalDate;
 import java.util.UUID;
@@ -32,4 +33,13 @@ public class PlanSummaryResponse {
         .endDate(plan.getEndDate())
         .build();
   }
+
+  public static PlanSummaryResponse fromProjection(PlanSummaryProjection projection) {
+    return PlanSummaryResponse.builder()
+        .id(projection.getId())
+        .title(projection.getTitle())
+        .startDate(projection.getStartDate())
+        .endDate(projection.getEndDate())
+        .build();
+  }
 }
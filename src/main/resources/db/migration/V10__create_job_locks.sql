@@ -0,0 +1,9 @@
+-- ==============================================
+-- Background job locks (one row per job, JobRunner)
+-- ==============================================
+CREATE TABLE IF NOT EXISTS job_locks (
+  name VARCHAR(100) PRIMARY KEY,
+  locked_until TIMESTAMP NOT NULL, -- 이 시각이 지나면 다른 인스턴스가 잠금을 가져갈 수 있음
+  locked_at TIMESTAMP NOT NULL,
+  locked_by VARCHAR(255) NOT NULL
+);
@@ -0,0 +1,12 @@
+-- ==============================================
+-- Plans without a recurrence rule are no longer materialized
+-- (their occurrences are derived from plans.start_date / end_date at query time)
+-- ==============================================
+DELETE FROM plan_occurrences o
+USING plans p
+WHERE p.id = o.plan_id
+  AND p.recurrence_rule_id IS NULL;
+
+-- 반복 규칙이 없는 Plan의 기간 조회 (PlanOccurrenceRepository.findInRange)
+CREATE INDEX IF NOT EXISTS idx_plans_without_rule_start_date ON plans(start_date, end_date)
+  WHERE recurrence_rule_id IS NULL;
@@ -0,0 +1,13 @@
+-- ==============================================
+-- Collection-wide change counter (single row)
+-- Plan 생성 / 수정 / 삭제마다 증가, 목록 / 발생 일자 / 피드 응답의 ETag와 Last-Modified
+-- ==============================================
+CREATE TABLE IF NOT EXISTS plan_collection_revision (
+  id SMALLINT PRIMARY KEY CHECK (id = 1),
+  revision BIGINT NOT NULL,
+  changed_at TIMESTAMP NOT NULL
+);
+
+INSERT INTO plan_collection_revision (id, revision, changed_at)
+VALUES (1, 0, CURRENT_TIMESTAMP)
+ON CONFLICT (id) DO NOTHING;
@@ -0,0 +1,39 @@
+-- ==========================================
+-- Add bitmask columns to recurrence_rule
+-- (0 = 조건 없음, 매칭 시 컬렉션 테이블을 조회하지 않기 위함)
+-- ==========================================
+ALTER TABLE recurrence_rule ADD COLUMN IF NOT EXISTS weekday_mask INTEGER NOT NULL DEFAULT 0;      -- MONDAY = bit 0 ... SUNDAY = bit 6
+ALTER TABLE recurrence_rule ADD COLUMN IF NOT EXISTS day_of_month_mask INTEGER NOT NULL DEFAULT 0; -- 1일 = bit 0 ... 31일 = bit 30
+ALTER TABLE recurrence_rule ADD COLUMN IF NOT EXISTS month_mask INTEGER NOT NULL DEFAULT 0;        -- 1월 = bit 0 ... 12월 = bit 11
+
+-- =====================================
+-- Backfill masks from collection tables
+-- =====================================
+UPDATE recurrence_rule r
+SET weekday_mask = COALESCE((
+  SELECT BIT_OR(1 << (CASE d.day_of_week
+                        WHEN 'MONDAY' THEN 0
+                        WHEN 'TUESDAY' THEN 1
+                        WHEN 'WEDNESDAY' THEN 2
+                        WHEN 'THURSDAY' THEN 3
+                        WHEN 'FRIDAY' THEN 4
+                        WHEN 'SATURDAY' THEN 5
+                        WHEN 'SUNDAY' THEN 6
+                      END))
+  FROM recurrence_rule_days d
+  WHERE d.recurrence_rule_id = r.id
+), 0);
+
+UPDATE recurrence_rule r
+SET day_of_month_mask = COALESCE((
+  SELECT BIT_OR(1 << (d.day_of_month - 1))
+  FROM recurrence_rule_days_of_month d
+  WHERE d.recurrence_rule_id = r.id
+), 0);
+
+UPDATE recurrence_rule r
+SET month_mask = COALESCE((
+  SELECT BIT_OR(1 << (m.month_of_year - 1))
+  FROM recurrence_rule_months m
+  WHERE m.recurrence_rule_id = r.id
+), 0);
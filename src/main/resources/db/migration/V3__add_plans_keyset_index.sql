@@ -0,0 +1,4 @@
+-- ===========================================
+-- Index for keyset pagination (start_date, id)
+-- ===========================================
+CREATE INDEX IF NOT EXISTS idx_plans_start_date_id ON plans(start_date, id);
@@ -0,0 +1,21 @@
+-- ==============================================
+-- Materialized plan occurrences (rolling horizon)
+-- ==============================================
+CREATE TABLE IF NOT EXISTS plan_occurrences (
+  occurrence_date DATE NOT NULL,
+  plan_id UUID NOT NULL,
+  PRIMARY KEY (occurrence_date, plan_id), -- 기간 조회가 인덱스 범위 스캔 하나로 끝나도록 날짜를 선두 컬럼으로 둔다
+  CONSTRAINT fk_plan_occurrences_plan FOREIGN KEY (plan_id) REFERENCES plans(id) ON DELETE CASCADE
+);
+
+-- Plan 단위 갱신(삭제 후 재생성)용
+CREATE INDEX IF NOT EXISTS idx_plan_occurrences_plan_id ON plan_occurrences(plan_id);
+
+-- ==============================================
+-- Materialized range (single row)
+-- ==============================================
+CREATE TABLE IF NOT EXISTS plan_occurrence_horizon (
+  id SMALLINT PRIMARY KEY CHECK (id = 1),
+  valid_from DATE NOT NULL,
+  valid_to DATE NOT NULL
+);
@@ -0,0 +1,4 @@
+-- =========================================================
+-- Optimistic-lock version for recurrence_rule (cache key)
+-- =========================================================
+ALTER TABLE recurrence_rule ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
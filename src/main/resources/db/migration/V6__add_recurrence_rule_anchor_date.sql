@@ -0,0 +1,20 @@
+-- =========================================================
+-- Persisted anchor date for recurrence_rule
+-- (반복 주기 기준일: 연결된 Plan의 시작 날짜)
+-- =========================================================
+ALTER TABLE recurrence_rule ADD COLUMN IF NOT EXISTS anchor_date DATE;
+
+UPDATE recurrence_rule r
+SET anchor_date = p.start_date
+FROM plans p
+WHERE p.recurrence_rule_id = r.id
+  AND r.anchor_date IS NULL;
+
+-- Plan에 연결되지 않은 규칙
+UPDATE recurrence_rule SET anchor_date = CURRENT_DATE WHERE anchor_date IS NULL;
+
+ALTER TABLE recurrence_rule ALTER COLUMN anchor_date SET NOT NULL;
+
+-- 기준일이 바뀌었으므로 구체화된 발생 일자는 다시 만든다 (시작 시 최초 구체화)
+DELETE FROM plan_occurrences;
+DELETE FROM plan_occurrence_horizon;
@@ -0,0 +1,16 @@
+-- =========================================================
+-- Anchor offsets for SQL-side occurrence prefiltering
+-- anchor_epoch_day   : anchor_date - 1970-01-01 (일/주 주기)
+-- anchor_month_index : year * 12 + (month - 1)  (월/년 주기)
+-- =========================================================
+ALTER TABLE recurrence_rule ADD COLUMN IF NOT EXISTS anchor_epoch_day BIGINT;
+ALTER TABLE recurrence_rule ADD COLUMN IF NOT EXISTS anchor_month_index INTEGER;
+
+UPDATE recurrence_rule
+SET anchor_epoch_day = anchor_date - DATE '1970-01-01',
+    anchor_month_index = CAST(EXTRACT(YEAR FROM anchor_date) AS INTEGER) * 12
+        + CAST(EXTRACT(MONTH FROM anchor_date) AS INTEGER) - 1;
+
+ALTER TABLE recurrence_rule ALTER COLUMN anchor_epoch_day SET NOT NULL;
+ALTER TABLE recurrence_rule ALTER COLUMN anchor_month_index SET NOT NULL;
+
@@ -0,0 +1,4 @@
+-- =========================================================
+-- Optimistic-lock version for plans (ETag)
+-- =========================================================
+ALTER TABLE plans ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
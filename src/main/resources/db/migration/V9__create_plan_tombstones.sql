@@ -0,0 +1,12 @@
+-- ==============================================
+-- Deleted plans for delta sync (/api/plans/changes)
+-- ==============================================
+CREATE TABLE IF NOT EXISTS plan_tombstones (
+  plan_id UUID PRIMARY KEY,
+  deleted_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_plan_tombstones_deleted_at ON plan_tombstones(deleted_at);
+
+-- 변경 동기화 키셋 조회 (update_date_time, id)
+CREATE INDEX IF NOT EXISTS idx_plans_update_date_time_id ON plans(update_date_time, id);
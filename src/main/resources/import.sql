@@ -0,0 +1,2 @@
+-- ddl-auto(create / create-drop)로 만든 스키마(local)의 초기 데이터. Flyway 환경에서는 V12가 같은 행을 만든다.
+INSERT INTO plan_collection_revision (id, revision, changed_at) VALUES (1, 0, CURRENT_TIMESTAMP);
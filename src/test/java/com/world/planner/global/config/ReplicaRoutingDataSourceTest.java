@@ -0,0 +1,141 @@
+package com.world.planner.global.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 읽기 전용 트랜잭션 라우팅 / 복제본 장애 전환 테스트.
+ * primary와 복제본 두 개를 서로 다른 H2 메모리 DB로 대신하고, 각 DB의 node 테이블에 이름을 넣어 어느 DB에서 읽었는지 확인한다.
+ */
+class ReplicaRoutingDataSourceTest {
+
+	private DataSource primary;
+	private DataSource replica1;
+	private DataSource replica2;
+
+	@BeforeEach
+	void setUp() {
+		primary = database("primary");
+		replica1 = database("replica1");
+		replica2 = database("replica2");
+	}
+
+	@Test
+	void readOnlyTransactionsAreSpreadOverReplicas() {
+		ReplicaRoutingDataSource replicas = routing(replica1, replica2);
+		DataSource dataSource = proxy(replicas);
+
+		List<String> reads = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			reads.add(readNode(dataSource, true));
+		}
+
+		assertThat(reads).containsExactly("replica1", "replica2", "replica1", "replica2");
+	}
+
+	@Test
+	void writeTransactionsUsePrimary() {
+		DataSource dataSource = proxy(routing(replica1, replica2));
+
+		assertThat(readNode(dataSource, false)).isEqualTo("primary");
+	}
+
+	@Test
+	void failedReplicaIsSkippedUntilHealthCheckRecoversIt() {
+		FlakyDataSource flaky = new FlakyDataSource(replica1);
+		ReplicaRoutingDataSource replicas = routing(flaky, replica2);
+		DataSource dataSource = proxy(replicas);
+
+		flaky.down = true;
+		assertThat(readNode(dataSource, true)).isEqualTo("replica2");
+		assertThat(replicas.getHealthyReplicaCount()).isEqualTo(1);
+		assertThat(readNode(dataSource, true)).isEqualTo("replica2");
+
+		flaky.down = false;
+		replicas.checkHealth();
+		assertThat(replicas.getHealthyReplicaCount()).isEqualTo(2);
+		assertThat(List.of(readNode(dataSource, true), readNode(dataSource, true)))
+				.containsExactlyInAnyOrder("replica1", "replica2");
+	}
+
+	@Test
+	void readsFallBackToPrimaryWhenAllReplicasAreDown() {
+		FlakyDataSource flaky1 = new FlakyDataSource(replica1);
+		FlakyDataSource flaky2 = new FlakyDataSource(replica2);
+		flaky1.down = true;
+		flaky2.down = true;
+		ReplicaRoutingDataSource replicas = routing(flaky1, flaky2);
+
+		replicas.checkHealth();
+
+		assertThat(replicas.getHealthyReplicaCount()).isZero();
+		assertThat(readNode(proxy(replicas), true)).isEqualTo("primary");
+	}
+
+	private String readNode(DataSource dataSource, boolean readOnly) {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+		transactionTemplate.setReadOnly(readOnly);
+		return transactionTemplate.execute(status ->
+				new JdbcTemplate(dataSource).queryForObject("SELECT name FROM node", String.class));
+	}
+
+	private ReplicaRoutingDataSource routing(DataSource first, DataSource second) {
+		return new ReplicaRoutingDataSource(List.of(
+				new ReplicaRoutingDataSource.Replica("replica-1", first),
+				new ReplicaRoutingDataSource.Replica("replica-2", second)
+		), primary, 1);
+	}
+
+	// ReadReplicaDataSourceConfig.dataSource 와 같은 구성
+	private DataSource proxy(ReplicaRoutingDataSource replicas) {
+		LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+		dataSource.setReadOnlyDataSource(replicas);
+		return dataSource;
+	}
+
+	private static DataSource database(String name) {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(
+				"jdbc:h2:mem:" + name + "_" + System.nanoTime() + ";DB_CLOSE_DELAY=-1", "sa", "");
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(20))");
+		jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+		return dataSource;
+	}
+
+	// down이면 커넥션 획득에 실패하는 복제본
+	private static class FlakyDataSource extends AbstractDataSource {
+
+		private final DataSource target;
+		private volatile boolean down;
+
+		FlakyDataSource(DataSource target) {
+			this.target = target;
+		}
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			if (down) {
+				throw new SQLException("replica unavailable");
+			}
+			return target.getConnection();
+		}
+
+		@Override
+		public Connection getConnection(String username, String password) throws SQLException {
+			return getConnection();
+		}
+	}
+}
@@ -0,0 +1,137 @@
+package com.world.planner.plan.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import com.world.planner.global.config.OccurrenceMaterializationProperties;
+import com.world.planner.plan.domain.Plan;
+import com.world.planner.plan.domain.PlanChangedEvent;
+import com.world.planner.plan.domain.PlanDomainService;
+import com.world.planner.plan.domain.PlanOccurrence;
+import com.world.planner.plan.domain.recurrence.RecurrenceRule;
+import com.world.planner.plan.domain.recurrence.RecurrenceRuleFactory;
+import com.world.planner.plan.infrastructure.repository.OccurrenceHorizon;
+import com.world.planner.plan.infrastructure.repository.PlanOccurrenceRepository;
+import com.world.planner.plan.infrastructure.repository.PlanRepository;
+import jakarta.persistence.EntityManager;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 발생 일자 구체화 테스트.
+ * Plan 변경 시 해당 Plan의 행만 구체화 범위 안에서 다시 만들고, 반복 규칙이 없는 Plan은 저장하지 않으며,
+ * 범위 이동 시 이전 범위 다음 날짜부터만 새로 구체화하는지 확인한다.
+ */
+class OccurrenceMaterializationServiceTest {
+
+	private final OccurrenceMaterializationProperties properties = new OccurrenceMaterializationProperties();
+	private final PlanRepository planRepository = mock(PlanRepository.class);
+	private final PlanOccurrenceRepository planOccurrenceRepository = mock(PlanOccurrenceRepository.class);
+	private final EntityManager entityManager = mock(EntityManager.class);
+
+	private final OccurrenceMaterializationService occurrenceMaterializationService = new OccurrenceMaterializationService(
+			properties,
+			planRepository,
+			planOccurrenceRepository,
+			new PlanDomainService(RecurrenceRule::occurrenceIterator),
+			entityManager
+	);
+
+	OccurrenceMaterializationServiceTest() {
+		properties.setEnabled(true);
+		properties.setHorizonMonths(1);
+	}
+
+	@Test
+	void planChangeRematerializesOnlyRecurringPlansWithinHorizon() {
+		LocalDate friday = LocalDate.of(2023, 12, 1);
+		Plan weekly = plan(friday, null, RecurrenceRuleFactory.createWeeklyRule(1, List.of(DayOfWeek.MONDAY), friday));
+		Plan withoutRule = plan(LocalDate.of(2024, 1, 10), LocalDate.of(2024, 1, 20), null);
+		List<UUID> planIds = List.of(weekly.getId(), withoutRule.getId());
+		given(planOccurrenceRepository.findHorizonForShare())
+				.willReturn(Optional.of(new OccurrenceHorizon(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31))));
+		given(planRepository.findAllWithRecurrenceRuleByIdIn(planIds)).willReturn(List.of(weekly, withoutRule));
+
+		occurrenceMaterializationService.onPlanChanged(new PlanChangedEvent(planIds));
+
+		then(planOccurrenceRepository).should().deleteByPlanIds(planIds);
+		List<PlanOccurrence> inserted = captureInserted();
+		assertThat(inserted.stream().map(PlanOccurrence::getPlan).distinct().toList()).containsExactly(weekly);
+		assertThat(dates(inserted)).containsExactly(
+				LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 8), LocalDate.of(2024, 1, 15),
+				LocalDate.of(2024, 1, 22), LocalDate.of(2024, 1, 29));
+	}
+
+	@Test
+	void planChangeBeforeFirstMaterializationIsSkipped() {
+		given(planOccurrenceRepository.findHorizonForShare()).willReturn(Optional.empty());
+
+		occurrenceMaterializationService.onPlanChanged(PlanChangedEvent.of(UUID.randomUUID()));
+
+		then(planOccurrenceRepository).should(never()).deleteByPlanIds(any());
+		then(planOccurrenceRepository).should(never()).insertAll(any());
+	}
+
+	@Test
+	void advanceHorizonMaterializesOnlyDaysAfterPreviousHorizon() {
+		LocalDate today = LocalDate.now();
+		LocalDate previousValidTo = today.plusDays(10);
+		LocalDate validTo = today.plusMonths(1);
+		Plan daily = plan(today.minusDays(30), null, RecurrenceRuleFactory.createDailyRule(1, today.minusDays(30)));
+		given(planOccurrenceRepository.findHorizonForUpdate())
+				.willReturn(Optional.of(new OccurrenceHorizon(today.minusDays(1), previousValidTo)));
+		given(planRepository.streamAllOverlapping(previousValidTo.plusDays(1), validTo)).willReturn(Stream.of(daily));
+
+		occurrenceMaterializationService.advanceHorizon();
+
+		then(planOccurrenceRepository).should().deleteBefore(today);
+		assertThat(dates(captureInserted())).containsExactlyElementsOf(previousValidTo.plusDays(1).datesUntil(validTo.plusDays(1)).toList());
+		then(entityManager).should().detach(daily);
+
+		ArgumentCaptor<OccurrenceHorizon> horizon = ArgumentCaptor.forClass(OccurrenceHorizon.class);
+		then(planOccurrenceRepository).should().saveHorizon(horizon.capture());
+		assertThat(horizon.getValue().getValidFrom()).isEqualTo(today);
+		assertThat(horizon.getValue().getValidTo()).isEqualTo(validTo);
+	}
+
+	@Test
+	void occurrencesOutsideHorizonAreNotServedFromMaterialization() {
+		given(planOccurrenceRepository.findHorizon())
+				.willReturn(Optional.of(new OccurrenceHorizon(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31))));
+
+		assertThat(occurrenceMaterializationService.findOccurrences(LocalDate.of(2024, 1, 20), LocalDate.of(2024, 2, 10)))
+				.isEmpty();
+		then(planOccurrenceRepository).should(never()).findInRange(any(), any());
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<PlanOccurrence> captureInserted() {
+		ArgumentCaptor<List<PlanOccurrence>> inserted = ArgumentCaptor.forClass(List.class);
+		then(planOccurrenceRepository).should().insertAll(inserted.capture());
+		return inserted.getValue();
+	}
+
+	private static List<LocalDate> dates(List<PlanOccurrence> occurrences) {
+		return occurrences.stream().map(PlanOccurrence::getDate).toList();
+	}
+
+	private static Plan plan(LocalDate startDate, LocalDate endDate, RecurrenceRule rule) {
+		Plan plan = Plan.create("plan", "", startDate, endDate);
+		ReflectionTestUtils.setField(plan, "id", UUID.randomUUID());
+		if (rule != null) {
+			plan.changeRecurrenceRule(rule);
+		}
+		return plan;
+	}
+}
@@ -0,0 +1,108 @@
+package com.world.planner.plan.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.world.planner.plan.domain.Plan;
+import com.world.planner.plan.domain.PlanDomainService;
+import com.world.planner.plan.domain.recurrence.RecurrenceRule;
+import com.world.planner.plan.infrastructure.repository.PlanRepository;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * NDJSON 내보내기 페이지 조회 테스트.
+ * 가득 찬 페이지 다음에는 마지막 Plan의 (시작 날짜, ID)로 다음 페이지를 조회하고,
+ * 페이지가 덜 차면 조회를 멈추며, 모든 Plan이 조회 순서대로 한 줄씩 출력되는지 확인한다.
+ */
+class PlanExportServiceTest {
+
+	private static final int PAGE_SIZE = 500;
+
+	private final PlanRepository planRepository = mock(PlanRepository.class);
+
+	private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+	private final PlanExportService planExportService = new PlanExportService(
+			planRepository,
+			new PlanDomainService(RecurrenceRule::occurrenceIterator),
+			new TransactionTemplate(mock(PlatformTransactionManager.class)),
+			objectMapper
+	);
+
+	@Test
+	void exportContinuesFromLastPlanOfFullPage() throws IOException {
+		List<Plan> firstPage = plans(LocalDate.of(2024, 1, 1), PAGE_SIZE);
+		List<Plan> secondPage = plans(LocalDate.of(2024, 6, 1), 3);
+		Plan last = firstPage.get(PAGE_SIZE - 1);
+		given(planRepository.findPage(Limit.of(PAGE_SIZE))).willReturn(firstPage);
+		given(planRepository.findPageAfter(last.getStartDate(), last.getId(), Limit.of(PAGE_SIZE))).willReturn(secondPage);
+
+		List<String> lines = export();
+
+		List<Plan> expected = new ArrayList<>(firstPage);
+		expected.addAll(secondPage);
+		assertThat(ids(lines)).containsExactlyElementsOf(expected.stream().map(plan -> plan.getId().toString()).toList());
+		then(planRepository).should().findPageAfter(last.getStartDate(), last.getId(), Limit.of(PAGE_SIZE));
+	}
+
+	@Test
+	void exportStopsAfterPartialPage() throws IOException {
+		List<Plan> page = plans(LocalDate.of(2024, 1, 1), 2);
+		given(planRepository.findPage(Limit.of(PAGE_SIZE))).willReturn(page);
+
+		List<String> lines = export();
+
+		assertThat(lines).hasSize(2);
+		then(planRepository).should(never()).findPageAfter(any(), any(), any());
+	}
+
+	@Test
+	void exportWithoutPlansWritesNothing() throws IOException {
+		given(planRepository.findPage(Limit.of(PAGE_SIZE))).willReturn(List.of());
+
+		assertThat(export()).isEmpty();
+		then(planRepository).should(never()).findPageAfter(any(), any(), any());
+	}
+
+	private List<String> export() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		planExportService.exportPlans(out, false, null, null);
+		String body = out.toString(StandardCharsets.UTF_8);
+		return body.isEmpty() ? List.of() : List.of(body.split("\n"));
+	}
+
+	private List<String> ids(List<String> lines) throws IOException {
+		List<String> ids = new ArrayList<>();
+		for (String line : lines) {
+			ids.add(objectMapper.readTree(line).get("id").asText());
+		}
+		return ids;
+	}
+
+	// 시작 날짜 하나에 여러 Plan이 몰리도록 10개씩 같은 시작 날짜로 생성
+	private static List<Plan> plans(LocalDate firstStartDate, int count) {
+		List<Plan> plans = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			Plan plan = Plan.create("plan " + i, "", firstStartDate.plusDays(i / 10), null);
+			ReflectionTestUtils.setField(plan, "id", UUID.randomUUID());
+			plans.add(plan);
+		}
+		return plans;
+	}
+}
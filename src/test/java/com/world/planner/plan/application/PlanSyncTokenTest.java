@@ -0,0 +1,56 @@
+package com.world.planner.plan.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 변경 동기화 토큰 인코딩 / 해석 테스트
+ */
+class PlanSyncTokenTest {
+
+	private static final LocalDateTime CHANGED_AT = LocalDateTime.of(2024, 2, 29, 23, 59, 59, 123_456_000);
+
+	@Test
+	void afterTokenRoundTrips() {
+		UUID id = UUID.randomUUID();
+
+		PlanSyncToken decoded = PlanSyncToken.decode(PlanSyncToken.after(CHANGED_AT, id).encode());
+
+		assertThat(decoded.getChangedAt()).isEqualTo(CHANGED_AT);
+		assertThat(decoded.getId()).isEqualTo(id);
+	}
+
+	@Test
+	void throughTokenRoundTripsWithLastId() {
+		PlanSyncToken decoded = PlanSyncToken.decode(PlanSyncToken.through(CHANGED_AT).encode());
+
+		// 같은 시각의 Plan은 모두 전달된 것으로 보므로 ID는 UUID 정렬상 최댓값
+		assertThat(decoded.getChangedAt()).isEqualTo(CHANGED_AT);
+		assertThat(decoded.getId()).isEqualTo(new UUID(-1L, -1L));
+	}
+
+	@Test
+	void tokenIsUrlSafe() {
+		String token = PlanSyncToken.after(CHANGED_AT, UUID.randomUUID()).encode();
+
+		assertThat(token).doesNotContain("+", "/", "=");
+	}
+
+	@Test
+	void blankTokenMeansFullSync() {
+		assertThat(PlanSyncToken.decode(null)).isNull();
+		assertThat(PlanSyncToken.decode(" ")).isNull();
+	}
+
+	@Test
+	void malformedTokenIsRejected() {
+		assertThatThrownBy(() -> PlanSyncToken.decode("not a token"))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> PlanSyncToken.decode(PlanSyncToken.after(CHANGED_AT, UUID.randomUUID()).encode().substring(4)))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,124 @@
+package com.world.planner.plan.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.world.planner.plan.domain.recurrence.RecurrenceRule;
+import com.world.planner.plan.domain.recurrence.RecurrenceRuleFactory;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 여러 Plan의 발생 일자 병합 / 충돌 검사 테스트.
+ * 병합 결과를 기간(또는 후보 발생 일자)의 날짜마다 Plan ID 순으로 isPlanActive를 확인해 만든 목록과 비교한다.
+ * 발생 일자는 캐시 없이 규칙에서 바로 계산한다.
+ */
+class PlanDomainServiceTest {
+
+	private final PlanDomainService planDomainService = new PlanDomainService(RecurrenceRule::occurrenceIterator);
+
+	@Test
+	void calculateOccurrencesMergesPlansByDateThenPlanId() {
+		LocalDate monday = LocalDate.of(2024, 1, 1);
+		List<Plan> plans = List.of(
+				plan(monday, null, RecurrenceRuleFactory.createDailyRule(2, monday)),
+				plan(monday, null, RecurrenceRuleFactory.createWeeklyRule(1, List.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY), monday)),
+				plan(LocalDate.of(2024, 1, 3), LocalDate.of(2024, 1, 5), null), // 반복 규칙 없음: 기간의 모든 날짜
+				plan(monday, LocalDate.of(2024, 1, 9), RecurrenceRuleFactory.createDailyRule(1, monday)), // 기간 중간에 종료
+				plan(LocalDate.of(2024, 2, 1), null, RecurrenceRuleFactory.createDailyRule(1, LocalDate.of(2024, 2, 1))) // 기간 밖
+		);
+		LocalDate from = LocalDate.of(2024, 1, 2);
+		LocalDate to = LocalDate.of(2024, 1, 21);
+
+		List<String> occurrences = format(planDomainService.calculateOccurrences(plans, from, to));
+
+		assertThat(occurrences).containsExactlyElementsOf(scanActive(plans, from, to));
+	}
+
+	@Test
+	void calculateOccurrencesWithoutPlansIsEmpty() {
+		assertThat(planDomainService.calculateOccurrences(List.of(), LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31)))
+				.isEmpty();
+	}
+
+	@Test
+	void findConflictsReturnsPlansOccurringOnCandidateDates() {
+		LocalDate monday = LocalDate.of(2024, 1, 1);
+		List<LocalDate> candidateDates = RecurrenceRuleFactory.createWeeklyRule(
+				1, List.of(DayOfWeek.TUESDAY, DayOfWeek.FRIDAY), monday).occurrences(monday, LocalDate.of(2024, 3, 31)).toList();
+		List<Plan> plans = List.of(
+				plan(monday, null, RecurrenceRuleFactory.createDailyRule(3, monday)),
+				plan(monday, null, RecurrenceRuleFactory.createWeeklyRule(2, List.of(DayOfWeek.FRIDAY), monday)),
+				plan(monday, null, RecurrenceRuleFactory.createMonthlyRule(1, List.of(), List.of(2, 13, 31), monday)),
+				plan(LocalDate.of(2024, 2, 5), LocalDate.of(2024, 2, 11), null),
+				plan(monday, null, RecurrenceRuleFactory.createWeeklyRule(1, List.of(DayOfWeek.SUNDAY), monday)) // 겹치는 요일 없음
+		);
+
+		List<String> conflicts = format(planDomainService.findConflicts(candidateDates, plans));
+
+		assertThat(conflicts).containsExactlyElementsOf(scanActive(plans, candidateDates));
+	}
+
+	@Test
+	void findConflictsIncludesWindowEdges() {
+		// 후보 발생 일자의 처음 / 마지막 날짜에만 겹치는 Plan도 충돌이고, 마지막 날짜 다음부터 시작하는 Plan은 충돌이 아니다
+		LocalDate first = LocalDate.of(2024, 3, 4);
+		LocalDate last = LocalDate.of(2024, 3, 29);
+		List<LocalDate> candidateDates = List.of(first, LocalDate.of(2024, 3, 15), last);
+		Plan endsOnFirst = plan(LocalDate.of(2024, 2, 1), first, RecurrenceRuleFactory.createDailyRule(1, LocalDate.of(2024, 2, 1)));
+		Plan startsOnLast = plan(last, null, RecurrenceRuleFactory.createDailyRule(1, last));
+		Plan startsAfterLast = plan(last.plusDays(1), null, RecurrenceRuleFactory.createDailyRule(1, last.plusDays(1)));
+
+		List<PlanOccurrence> conflicts = planDomainService.findConflicts(
+				candidateDates, List.of(endsOnFirst, startsOnLast, startsAfterLast));
+
+		assertThat(format(conflicts)).containsExactly(first + " " + endsOnFirst.getId(), last + " " + startsOnLast.getId());
+	}
+
+	@Test
+	void findConflictsWithoutCandidateDatesIsEmpty() {
+		LocalDate monday = LocalDate.of(2024, 1, 1);
+		Plan plan = plan(monday, null, RecurrenceRuleFactory.createDailyRule(1, monday));
+
+		assertThat(planDomainService.findConflicts(List.of(), List.of(plan))).isEmpty();
+	}
+
+	// 날짜마다 Plan ID 순으로 활성 여부를 확인한 (날짜, Plan ID) 목록
+	private List<String> scanActive(List<Plan> plans, LocalDate from, LocalDate to) {
+		return scanActive(plans, from.datesUntil(to.plusDays(1)).toList());
+	}
+
+	private List<String> scanActive(List<Plan> plans, List<LocalDate> dates) {
+		List<Plan> byId = plans.stream().sorted(Comparator.comparing(Plan::getId)).toList();
+		List<String> expected = new ArrayList<>();
+		for (LocalDate date : dates) {
+			for (Plan plan : byId) {
+				if (planDomainService.isPlanActive(plan, date)) {
+					expected.add(date + " " + plan.getId());
+				}
+			}
+		}
+		return expected;
+	}
+
+	private static List<String> format(List<PlanOccurrence> occurrences) {
+		return occurrences.stream()
+				.map(occurrence -> occurrence.getDate() + " " + occurrence.getPlan().getId())
+				.toList();
+	}
+
+	// 저장된 Plan처럼 ID를 부여 (같은 날짜의 발생은 Plan ID 순)
+	private static Plan plan(LocalDate startDate, LocalDate endDate, RecurrenceRule rule) {
+		Plan plan = Plan.create("plan", "", startDate, endDate);
+		ReflectionTestUtils.setField(plan, "id", UUID.randomUUID());
+		if (rule != null) {
+			plan.changeRecurrenceRule(rule);
+		}
+		return plan;
+	}
+}
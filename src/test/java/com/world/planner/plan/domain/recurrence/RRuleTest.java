@@ -0,0 +1,100 @@
+package com.world.planner.plan.domain.recurrence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * RRULE 파싱 / 변환 테스트.
+ */
+class RRuleTest {
+
+	private static final LocalDate WEDNESDAY = LocalDate.of(2027, 1, 6);
+
+	@Test
+	void biweeklyByDayBeforeStartWeekdayInWkstWeekIsRejected() {
+		// RFC 5545: 월요일 시작 주 기준으로 금(+2), 월(+12), 금(+16). 시작 요일 기준 주 블록이면 금(+2), 월(+5), 금(+16)이 되므로 거부
+		RRule rrule = RRule.parse("FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,FR");
+
+		assertThatThrownBy(() -> rrule.toRecurrenceRule(WEDNESDAY))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void biweeklyByDayWithWkstOnStartWeekdayFollowsRfc() {
+		// WKST=WE이면 RFC 5545의 주도 수요일부터 시작하므로 금(+2), 월(+5), 금(+16)
+		RecurrenceRule rule = RRule.parse("FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,FR;WKST=WE").toRecurrenceRule(WEDNESDAY);
+
+		assertThat(rule.occurrences(WEDNESDAY, WEDNESDAY.plusDays(20)).toList())
+				.containsExactly(WEDNESDAY.plusDays(2), WEDNESDAY.plusDays(5), WEDNESDAY.plusDays(16), WEDNESDAY.plusDays(19));
+	}
+
+	@Test
+	void biweeklyByDayAfterStartWeekdayInWkstWeekIsAccepted() {
+		RecurrenceRule rule = RRule.parse("FREQ=WEEKLY;INTERVAL=2;BYDAY=WE,FR").toRecurrenceRule(WEDNESDAY);
+
+		assertThat(rule.occurrences(WEDNESDAY, WEDNESDAY.plusDays(16)).toList())
+				.containsExactly(WEDNESDAY, WEDNESDAY.plusDays(2), WEDNESDAY.plusDays(14), WEDNESDAY.plusDays(16));
+	}
+
+	@Test
+	void formattedBiweeklyRuleCanBeImportedAgain() {
+		RecurrenceRule rule = RecurrenceRuleFactory.createWeeklyRule(
+				2, List.of(DayOfWeek.MONDAY, DayOfWeek.FRIDAY), WEDNESDAY);
+
+		String value = RRule.format(rule, null);
+
+		assertThat(value).isEqualTo("FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,FR;WKST=WE");
+		assertThat(RRule.parse(value).toRecurrenceRule(WEDNESDAY).hasSameDefinition(rule)).isTrue();
+	}
+
+	@Test
+	void formatOfParsedRuleReturnsSameValue() {
+		// 출력 형식(부분 순서, INTERVAL=1 생략)을 따르는 값은 파싱 후 다시 출력해도 같아야 한다
+		List<String> values = List.of(
+				"FREQ=DAILY",
+				"FREQ=DAILY;INTERVAL=3;UNTIL=20271231",
+				"FREQ=WEEKLY;BYDAY=MO,WE,FR",
+				"FREQ=WEEKLY;INTERVAL=2;BYDAY=WE,SU;WKST=WE",
+				"FREQ=MONTHLY;BYMONTHDAY=1,15,31",
+				"FREQ=MONTHLY;INTERVAL=2;BYMONTHDAY=13;BYDAY=FR;UNTIL=20280229",
+				"FREQ=MONTHLY;BYDAY=SA,SU",
+				"FREQ=YEARLY;BYMONTH=2;BYMONTHDAY=29",
+				"FREQ=YEARLY;INTERVAL=4;BYMONTH=1,12;BYDAY=SU"
+		);
+		for (String value : values) {
+			RRule rrule = RRule.parse(value);
+
+			assertThat(RRule.format(rrule.toRecurrenceRule(WEDNESDAY), rrule.getUntil())).isEqualTo(value);
+		}
+	}
+
+	@Test
+	void countEndDateIsCountthOccurrence() {
+		List<String> values = List.of(
+				"FREQ=DAILY;INTERVAL=3",
+				"FREQ=WEEKLY;INTERVAL=3;BYDAY=TH,SA,SU",
+				"FREQ=MONTHLY;BYMONTHDAY=29,30,31",
+				"FREQ=MONTHLY;INTERVAL=2;BYMONTHDAY=13;BYDAY=FR",
+				"FREQ=YEARLY;BYMONTH=2;BYMONTHDAY=29",
+				"FREQ=YEARLY;BYMONTH=1,12;BYDAY=SU"
+		);
+		for (String value : values) {
+			for (LocalDate startDate : List.of(WEDNESDAY, LocalDate.of(2024, 2, 29), LocalDate.of(2025, 12, 31))) {
+				RecurrenceRule rule = RRule.parse(value).toRecurrenceRule(startDate);
+				List<LocalDate> occurrences = rule.occurrences(startDate, null).limit(40).toList();
+				for (int count = 1; count <= occurrences.size(); count++) {
+					RRule rrule = RRule.parse(value + ";COUNT=" + count);
+
+					assertThat(rrule.endDate(rule, startDate))
+							.as("%s;COUNT=%d from %s", value, count, startDate)
+							.isEqualTo(occurrences.get(count - 1));
+				}
+			}
+		}
+	}
+}
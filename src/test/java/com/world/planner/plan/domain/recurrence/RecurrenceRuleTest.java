@@ -0,0 +1,269 @@
+package com.world.planner.plan.domain.recurrence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 반복 규칙 매칭 / 다음 발생 일자 / 발생 수 테스트.
+ * 규칙마다 기준일 앞뒤 몇 년을 하루씩 훑어 달력 정의(요일/날짜/월 컬렉션과 기준일로부터의 경과 일/주/월/년)로 구한 결과와 비교한다.
+ * 기준일은 윤일(2/29), 29~31일, 연말을 포함하고, 주기와 요일/날짜/월 조합은 고정 시드 난수로 만든다.
+ */
+class RecurrenceRuleTest {
+
+	private static final List<LocalDate> ANCHORS = List.of(
+			LocalDate.of(2024, 2, 29),
+			LocalDate.of(2024, 1, 31),
+			LocalDate.of(2023, 12, 31),
+			LocalDate.of(2025, 3, 30),
+			LocalDate.of(2025, 8, 29),
+			LocalDate.of(2027, 1, 4)
+	);
+
+	// 기준일 이전 구간도 훑어 기준일 앞에서는 발생하지 않는지 확인
+	private static final int DAYS_BEFORE_ANCHOR = 62;
+	private static final int SCAN_DAYS = 9 * 366;
+
+	@Test
+	void isOccurrenceMatchesCalendarDefinition() {
+		for (RecurrenceRule rule : rules()) {
+			LocalDate date = scanStart(rule);
+			for (int day = 0; day < SCAN_DAYS; day++, date = date.plusDays(1)) {
+				assertThat(rule.isOccurrence(date))
+						.as("%s (anchor %s) on %s", rule.getDescription(), rule.getAnchorDate(), date)
+						.isEqualTo(expectedOccurrence(rule, date));
+			}
+		}
+	}
+
+	@Test
+	void nextOccurrenceMatchesDayScan() {
+		for (RecurrenceRule rule : rules()) {
+			LocalDate[] next = scanNextOccurrences(rule);
+			LocalDate scanEnd = scanStart(rule).plusDays(SCAN_DAYS - 1);
+			LocalDate from = scanStart(rule);
+			for (int day = 0; day < SCAN_DAYS; day++, from = from.plusDays(1)) {
+				LocalDate actual = rule.nextOccurrence(from);
+				if (next[day] != null) {
+					assertThat(actual)
+							.as("%s (anchor %s) from %s", rule.getDescription(), rule.getAnchorDate(), from)
+							.isEqualTo(next[day]);
+				} else if (actual != null) {
+					// 훑은 구간 안에 없으면 구간 뒤의 발생 일자여야 한다
+					assertThat(actual).isAfter(scanEnd);
+					assertThat(expectedOccurrence(rule, actual)).isTrue();
+				}
+			}
+		}
+	}
+
+	@Test
+	void countOccurrencesMatchesDayScan() {
+		Random random = new Random(20270105L);
+		for (RecurrenceRule rule : rules()) {
+			long[] counts = scanOccurrenceCounts(rule);
+			for (int index = 0; index < 300; index++) {
+				int fromDay = random.nextInt(SCAN_DAYS);
+				int toDay = random.nextBoolean() ? fromDay + random.nextInt(70) - 5 : random.nextInt(SCAN_DAYS);
+				assertCount(rule, counts, fromDay, Math.min(toDay, SCAN_DAYS - 1));
+			}
+		}
+	}
+
+	@Test
+	void monthlyDayOfMonthCountMatchesDayScanForEveryRange() {
+		// 날짜 조건만 있고 모두 28일 이하이면 반복 월마다 같은 수를 곱하는 계산, 29일 이후 날짜가 있으면 월별 계산
+		List<RecurrenceRule> rules = List.of(
+				RecurrenceRuleFactory.createMonthlyRule(2, List.of(), List.of(1, 14, 28), LocalDate.of(2024, 1, 31)),
+				RecurrenceRuleFactory.createMonthlyRule(1, List.of(), List.of(28), LocalDate.of(2023, 12, 31)),
+				RecurrenceRuleFactory.createMonthlyRule(1, List.of(), List.of(1, 29), LocalDate.of(2024, 2, 29)),
+				RecurrenceRuleFactory.createMonthlyRule(3, List.of(), List.of(30, 31), LocalDate.of(2023, 11, 30))
+		);
+		for (RecurrenceRule rule : rules) {
+			long[] counts = scanOccurrenceCounts(rule);
+			for (int fromDay = 0; fromDay < 460; fromDay++) {
+				for (int toDay = fromDay - 1; toDay < 460; toDay++) {
+					assertCount(rule, counts, fromDay, toDay);
+				}
+			}
+		}
+	}
+
+	@Test
+	void monthlyRuleRequiresBothDayOfMonthAndWeekday() {
+		// 날짜 조건과 요일 조건은 교집합 (13일의 금요일만 발생)
+		RecurrenceRule rule = RecurrenceRuleFactory.createMonthlyRule(
+				1, List.of(DayOfWeek.FRIDAY), List.of(13), LocalDate.of(2024, 1, 1));
+
+		assertThat(rule.isOccurrence(LocalDate.of(2024, 9, 13))).isTrue();  // 금요일 13일
+		assertThat(rule.isOccurrence(LocalDate.of(2024, 8, 13))).isFalse(); // 화요일 13일
+		assertThat(rule.isOccurrence(LocalDate.of(2024, 8, 16))).isFalse(); // 13일이 아닌 금요일
+		assertThat(rule.nextOccurrence(LocalDate.of(2024, 1, 1))).isEqualTo(LocalDate.of(2024, 9, 13));
+		assertThat(rule.countOccurrences(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31))).isEqualTo(2L);
+	}
+
+	@Test
+	void dayOfMonthAndMonthOutOfRangeAreRejected() {
+		LocalDate anchor = LocalDate.of(2024, 1, 1);
+		assertThatThrownBy(() -> RecurrenceRuleFactory.createMonthlyRule(1, List.of(), List.of(0), anchor))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> RecurrenceRuleFactory.createMonthlyRule(1, List.of(), List.of(32), anchor))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> RecurrenceRuleFactory.createYearlyRule(1, List.of(13), List.of(), List.of(1), anchor))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThat(RecurrenceRuleFactory.createMonthlyRule(1, List.of(), List.of(1, 31), anchor).isValid()).isTrue();
+		assertThat(RecurrenceRuleFactory.createYearlyRule(1, List.of(1, 12), List.of(), List.of(31), anchor).isValid()).isTrue();
+
+		// 저장된 마스크가 범위를 벗어나면 isValid에서 걸러진다
+		assertThat(RecurrenceMasks.isDayOfMonthMaskInRange(RecurrenceMasks.ofDaysOfMonth(List.of(1, 31)))).isTrue();
+		assertThat(RecurrenceMasks.isDayOfMonthMaskInRange(1 << 31)).isFalse();
+		assertThat(RecurrenceMasks.isMonthMaskInRange(RecurrenceMasks.ofMonths(List.of(1, 12)))).isTrue();
+		assertThat(RecurrenceMasks.isMonthMaskInRange(1 << 12)).isFalse();
+	}
+
+	// 규칙 타입별 고정 사례(월 길이 / 윤년 경계)와 고정 시드 난수 조합
+	private static List<RecurrenceRule> rules() {
+		List<RecurrenceRule> rules = new ArrayList<>();
+		Random random = new Random(20270104L);
+		for (LocalDate anchor : ANCHORS) {
+			rules.add(RecurrenceRuleFactory.createDailyRule(1, anchor));
+			rules.add(RecurrenceRuleFactory.createDailyRule(3, anchor));
+			rules.add(RecurrenceRuleFactory.createWeeklyRule(1, List.of(DayOfWeek.MONDAY), anchor));
+			rules.add(RecurrenceRuleFactory.createWeeklyRule(2, List.of(DayOfWeek.values()), anchor));
+			rules.add(RecurrenceRuleFactory.createMonthlyRule(1, List.of(), List.of(29, 30, 31), anchor));
+			rules.add(RecurrenceRuleFactory.createMonthlyRule(1, List.of(), List.of(1, 15, 28), anchor));
+			rules.add(RecurrenceRuleFactory.createMonthlyRule(3, List.of(), List.of(28), anchor));
+			rules.add(RecurrenceRuleFactory.createMonthlyRule(12, List.of(), List.of(31), anchor)); // 기준 월에 31일이 없으면 발생 없음
+			rules.add(RecurrenceRuleFactory.createMonthlyRule(2, List.of(DayOfWeek.FRIDAY), List.of(13), anchor));
+			rules.add(RecurrenceRuleFactory.createYearlyRule(1, List.of(2), List.of(), List.of(29), anchor));
+			rules.add(RecurrenceRuleFactory.createYearlyRule(4, List.of(2), List.of(), List.of(29), anchor));
+			rules.add(RecurrenceRuleFactory.createYearlyRule(1, List.of(12, 1), List.of(), List.of(31), anchor));
+			rules.add(RecurrenceRuleFactory.createYearlyRule(2, List.of(), List.of(DayOfWeek.SUNDAY), List.of(), anchor));
+			for (int index = 0; index < 8; index++) {
+				rules.add(randomRule(random, anchor));
+			}
+		}
+		return rules;
+	}
+
+	private static RecurrenceRule randomRule(Random random, LocalDate anchor) {
+		int interval = 1 + random.nextInt(4);
+		return switch (RecurrenceRuleType.values()[random.nextInt(RecurrenceRuleType.values().length)]) {
+			case DAILY -> RecurrenceRuleFactory.createDailyRule(1 + random.nextInt(10), anchor);
+			case WEEKLY -> RecurrenceRuleFactory.createWeeklyRule(interval, randomDaysOfWeek(random, 1), anchor);
+			case MONTHLY -> RecurrenceRuleFactory.createMonthlyRule(
+					interval, randomDaysOfWeek(random, 0), randomNumbers(random, 31), anchor);
+			case YEARLY -> RecurrenceRuleFactory.createYearlyRule(interval, randomNumbers(random, 12),
+					randomDaysOfWeek(random, 0), randomNumbers(random, 31), anchor);
+		};
+	}
+
+	// minSize개 이상 (0이면 절반 확률로 조건 없음)
+	private static List<DayOfWeek> randomDaysOfWeek(Random random, int minSize) {
+		List<DayOfWeek> daysOfWeek = new ArrayList<>();
+		if (minSize == 0 && random.nextBoolean()) {
+			return daysOfWeek;
+		}
+		while (daysOfWeek.size() < minSize || random.nextInt(3) != 0) {
+			DayOfWeek dayOfWeek = DayOfWeek.of(1 + random.nextInt(7));
+			if (!daysOfWeek.contains(dayOfWeek)) {
+				daysOfWeek.add(dayOfWeek);
+			}
+		}
+		return daysOfWeek;
+	}
+
+	// 1..max 중 몇 개 (절반 확률로 조건 없음, 29~31일이 자주 나오도록 끝쪽 값을 섞음)
+	private static List<Integer> randomNumbers(Random random, int max) {
+		List<Integer> numbers = new ArrayList<>();
+		if (random.nextBoolean()) {
+			return numbers;
+		}
+		do {
+			int number = random.nextBoolean() ? max - random.nextInt(3) : 1 + random.nextInt(max);
+			if (!numbers.contains(number)) {
+				numbers.add(number);
+			}
+		} while (random.nextInt(3) != 0);
+		return numbers;
+	}
+
+	private static LocalDate scanStart(RecurrenceRule rule) {
+		return rule.getAnchorDate().minusDays(DAYS_BEFORE_ANCHOR);
+	}
+
+	// 훑은 구간의 날짜마다 그 날짜(포함) 이후 첫 발생 일자 (구간 안에 없으면 null)
+	private static LocalDate[] scanNextOccurrences(RecurrenceRule rule) {
+		LocalDate[] next = new LocalDate[SCAN_DAYS];
+		LocalDate date = scanStart(rule).plusDays(SCAN_DAYS - 1);
+		for (int day = SCAN_DAYS - 1; day >= 0; day--, date = date.minusDays(1)) {
+			next[day] = expectedOccurrence(rule, date) ? date : day + 1 < SCAN_DAYS ? next[day + 1] : null;
+		}
+		return next;
+	}
+
+	// 훑은 구간 시작부터 각 날짜 직전까지의 발생 수 (counts[to + 1] - counts[from]이 [from, to]의 발생 수)
+	private static long[] scanOccurrenceCounts(RecurrenceRule rule) {
+		long[] counts = new long[SCAN_DAYS + 1];
+		LocalDate date = scanStart(rule);
+		for (int day = 0; day < SCAN_DAYS; day++, date = date.plusDays(1)) {
+			counts[day + 1] = counts[day] + (expectedOccurrence(rule, date) ? 1 : 0);
+		}
+		return counts;
+	}
+
+	// 훑은 구간 시작으로부터 fromDay, toDay번째 날짜 사이의 발생 수 비교 (toDay < fromDay이면 0)
+	private static void assertCount(RecurrenceRule rule, long[] counts, int fromDay, int toDay) {
+		LocalDate from = scanStart(rule).plusDays(fromDay);
+		LocalDate to = scanStart(rule).plusDays(toDay);
+		assertThat(rule.countOccurrences(from, to))
+				.as("%s (anchor %s) in [%s, %s]", rule.getDescription(), rule.getAnchorDate(), from, to)
+				.isEqualTo(toDay < fromDay ? 0L : counts[toDay + 1] - counts[fromDay]);
+	}
+
+	// 달력 정의로 계산한 발생 여부 (마스크를 쓰지 않고 컬렉션과 java.time으로만 계산)
+	private static boolean expectedOccurrence(RecurrenceRule rule, LocalDate date) {
+		LocalDate anchor = rule.getAnchorDate();
+		int interval = rule.getInterval();
+		return switch (rule.getRuleType()) {
+			case DAILY -> {
+				long days = ChronoUnit.DAYS.between(anchor, date);
+				yield days >= 0 && days % interval == 0;
+			}
+			case WEEKLY -> {
+				long days = ChronoUnit.DAYS.between(anchor, date);
+				yield days >= 0 && days / 7 % interval == 0
+						&& ((WeeklyRule) rule).getDaysOfWeek().contains(date.getDayOfWeek());
+			}
+			case MONTHLY -> {
+				MonthlyRule monthly = (MonthlyRule) rule;
+				long months = ChronoUnit.MONTHS.between(YearMonth.from(anchor), YearMonth.from(date));
+				yield months >= 0 && months % interval == 0
+						&& matches(monthly.getDaysOfMonth(), date.getDayOfMonth())
+						&& matches(monthly.getDaysOfWeek(), date.getDayOfWeek());
+			}
+			case YEARLY -> {
+				YearlyRule yearly = (YearlyRule) rule;
+				long years = date.getYear() - anchor.getYear();
+				yield years >= 0 && years % interval == 0
+						&& matches(yearly.getMonthsOfYear(), date.getMonthValue())
+						&& matches(yearly.getDaysOfMonth(), date.getDayOfMonth())
+						&& matches(yearly.getDaysOfWeek(), date.getDayOfWeek());
+			}
+		};
+	}
+
+	// 비어 있으면 조건 없음
+	private static <T> boolean matches(Collection<T> values, T value) {
+		return values.isEmpty() || values.contains(value);
+	}
+}
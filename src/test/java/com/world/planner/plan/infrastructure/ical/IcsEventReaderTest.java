@@ -0,0 +1,90 @@
+package com.world.planner.plan.infrastructure.ical;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * .ics VEVENT 읽기 테스트 (접힌 줄 펼치기, 하위 컴포넌트 건너뛰기).
+ */
+class IcsEventReaderTest {
+
+	@Test
+	void foldedLinesAreUnfolded() {
+		String ics = "BEGIN:VCALENDAR\r\n"
+				+ "BEGIN:VEVENT\r\n"
+				+ "UID:event-1@\r\n"
+				+ " planner\r\n"
+				+ "SUMMARY:Team \r\n"
+				+ "\tMeeting\r\n"
+				+ "DESCRIPTION:first\\\r\n"
+				+ " nsecond\\, third\r\n"
+				+ "DTSTART;VALUE=DATE:20270106\r\n"
+				+ "RRULE:FREQ=WEEKLY;\r\n"
+				+ " BYDAY=WE\r\n"
+				+ "END:VEVENT\r\n"
+				+ "END:VCALENDAR\r\n";
+
+		IcsEvent event = readAll(ics).get(0);
+
+		assertThat(event.getUid()).isEqualTo("event-1@planner");
+		assertThat(event.getSummary()).isEqualTo("Team Meeting");
+		assertThat(event.getDescription()).isEqualTo("first\nsecond, third");
+		assertThat(event.getRrule()).isEqualTo("FREQ=WEEKLY;BYDAY=WE");
+		assertThat(event.isAllDay()).isTrue();
+	}
+
+	@Test
+	void foldedLinesAreUnfoldedAcrossReadBuffers() {
+		// 읽기 버퍼(8K)보다 긴 값을 LF 줄바꿈과 75자 단위 접기로 나눠 버퍼 경계에 접힌 줄이 걸리게 한다
+		String summary = "x".repeat(20_000);
+		StringBuilder ics = new StringBuilder("BEGIN:VEVENT\nSUMMARY:");
+		for (int start = 0; start < summary.length(); start += 74) {
+			ics.append(start == 0 ? "" : "\n ").append(summary, start, Math.min(start + 74, summary.length()));
+		}
+		ics.append("\nDTSTART:20270106\nEND:VEVENT\n");
+
+		List<IcsEvent> events = readAll(ics.toString());
+
+		assertThat(events).hasSize(1);
+		assertThat(events.get(0).getSummary()).isEqualTo(summary);
+		assertThat(events.get(0).getStartValue()).isEqualTo("20270106");
+	}
+
+	@Test
+	void nestedComponentsAreSkippedAndLineNumbersCountPhysicalLines() {
+		String ics = "BEGIN:VCALENDAR\r\n"
+				+ "BEGIN:VEVENT\r\n"
+				+ "SUMMARY:First\r\n"
+				+ "BEGIN:VALARM\r\n"
+				+ "DESCRIPTION:Reminder\r\n"
+				+ "END:VALARM\r\n"
+				+ "DTSTART:20270106\r\n"
+				+ "END:VEVENT\r\n"
+				+ "BEGIN:VEVENT\r\n"
+				+ "SUMMARY:Sec\r\n"
+				+ " ond\r\n"
+				+ "DTSTART:20270107T090000Z\r\n"
+				+ "END:VEVENT\r\n"
+				+ "BEGIN:VEVENT\r\n"
+				+ "SUMMARY:Not closed\r\n";
+
+		List<IcsEvent> events = readAll(ics);
+
+		assertThat(events).hasSize(2);
+		assertThat(events.get(0).getDescription()).isNull();
+		assertThat(events.get(0).getLineNumber()).isEqualTo(2);
+		assertThat(events.get(1).getSummary()).isEqualTo("Second");
+		assertThat(events.get(1).getLineNumber()).isEqualTo(9);
+		assertThat(events.get(1).isAllDay()).isFalse();
+	}
+
+	private static List<IcsEvent> readAll(String ics) {
+		List<IcsEvent> events = new ArrayList<>();
+		new IcsEventReader(new StringReader(ics)).forEachRemaining(events::add);
+		return events;
+	}
+}
@@ -0,0 +1,78 @@
+package com.world.planner.plan.infrastructure.ical;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.world.planner.plan.domain.Plan;
+import com.world.planner.plan.domain.recurrence.RecurrenceRule;
+import com.world.planner.plan.domain.recurrence.RecurrenceRuleFactory;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * VEVENT 출력 테스트 (75옥텟 줄 접기, SEQUENCE).
+ */
+class IcsWriterTest {
+
+	private static final LocalDate START_DATE = LocalDate.of(2027, 1, 6);
+	private static final LocalDateTime CREATED_AT = LocalDateTime.of(2027, 1, 1, 9, 0);
+
+	@Test
+	void longLinesAreFoldedWithinOctetLimitWithoutSplittingCharacters() throws CharacterCodingException {
+		// 한글(3옥텟)과 서로게이트 쌍(4옥텟)이 75옥텟 경계에 걸리도록 길이를 섞는다
+		String title = "주간 회의 " + "가나다라마바사아자차".repeat(12) + "😀".repeat(30);
+		String description = "Agenda; goals, risks\n" + "a".repeat(73) + "😀" + "b".repeat(200);
+		Plan plan = plan(title, description);
+
+		String ics = new String(IcsWriter.renderEvent(plan), StandardCharsets.UTF_8);
+
+		assertThat(ics).endsWith("\r\n");
+		for (String line : ics.split("\r\n")) {
+			byte[] octets = line.getBytes(StandardCharsets.UTF_8);
+			assertThat(octets.length).as(line).isLessThanOrEqualTo(75);
+			// 접힌 줄 하나하나가 올바른 UTF-8이어야 한다 (멀티바이트 문자를 가르지 않음)
+			StandardCharsets.UTF_8.newDecoder().decode(ByteBuffer.wrap(octets));
+		}
+		IcsEvent event = new IcsEventReader(new StringReader(ics)).next();
+		assertThat(event.getSummary()).isEqualTo(title);
+		assertThat(event.getDescription()).isEqualTo(description);
+	}
+
+	@Test
+	void sequenceDoesNotDecreaseWhenRuleTypeChanges() {
+		Plan plan = plan("Sync", "");
+		RecurrenceRule weekly = RecurrenceRuleFactory.createWeeklyRule(1, List.of(DayOfWeek.WEDNESDAY), START_DATE);
+		plan.addRecurrenceRule(weekly);
+		ReflectionTestUtils.setField(plan, "version", 3L);
+		ReflectionTestUtils.setField(weekly, "version", 5L);
+		weekly.setUpdatedAt(CREATED_AT.plusDays(1));
+		long weeklySequence = sequence(plan);
+
+		// 타입이 바뀌면 규칙 엔티티를 새로 만들어 규칙 버전이 0부터 다시 시작한다
+		RecurrenceRule monthly = RecurrenceRuleFactory.createMonthlyRule(1, List.of(), List.of(6), START_DATE);
+		plan.changeRecurrenceRule(monthly);
+		monthly.setUpdatedAt(CREATED_AT.plusDays(2));
+
+		assertThat(sequence(plan)).isGreaterThan(weeklySequence);
+	}
+
+	private static Plan plan(String title, String description) {
+		Plan plan = Plan.create(title, description, START_DATE, LocalDate.of(2027, 12, 31));
+		plan.setCreatedAt(CREATED_AT);
+		plan.setUpdatedAt(CREATED_AT);
+		return plan;
+	}
+
+	private static long sequence(Plan plan) {
+		String ics = new String(IcsWriter.renderEvent(plan), StandardCharsets.UTF_8);
+		int start = ics.indexOf("\r\nSEQUENCE:") + "\r\nSEQUENCE:".length();
+		return Long.parseLong(ics.substring(start, ics.indexOf("\r\n", start)));
+	}
+}
@@ -0,0 +1,84 @@
+package com.world.planner.plan.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.world.planner.plan.domain.Plan;
+import com.world.planner.plan.domain.recurrence.RecurrenceRule;
+import com.world.planner.plan.domain.recurrence.RecurrenceRuleFactory;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+/**
+ * Plan 일괄 조회 쿼리 수 테스트.
+ * Plan과 RecurrenceRule은 한 쿼리로, 요일 / 날짜 / 월 컬렉션은 컬렉션 종류마다 한 번의 IN 쿼리로 조회되어
+ * Plan 수가 늘어도 실행되는 SQL 수가 같아야 한다.
+ */
+@DataJpaTest(properties = {
+		"string.profiles.active=test",
+		"spring.flyway.enabled=false",
+		"spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class PlanBatchFetchTest {
+
+	// Plan + RecurrenceRule 1회, 컬렉션 종류(Weekly 1, Monthly 2, Yearly 3)마다 1회
+	private static final long MAX_STATEMENTS = 1 + 6;
+
+	@Autowired
+	private PlanRepository planRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Test
+	void loadingPlansWithRuleCollectionsUsesBoundedStatements() {
+		long few = countStatementsToLoad(savePlans(5));
+		long many = countStatementsToLoad(savePlans(50));
+
+		assertThat(many).isEqualTo(few);
+		assertThat(many).isLessThanOrEqualTo(MAX_STATEMENTS);
+	}
+
+	// ID 목록으로 조회하고 모든 규칙의 컬렉션을 초기화하는 동안 실행된 SQL 수
+	private long countStatementsToLoad(List<UUID> ids) {
+		entityManager.flush();
+		entityManager.clear();
+		Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+				.unwrap(SessionFactory.class)
+				.getStatistics();
+		statistics.clear();
+
+		List<Plan> plans = planRepository.findAllWithRecurrenceRuleByIdIn(ids);
+		plans.forEach(plan -> plan.getRecurrenceRule().getDescription()); // 요일 / 날짜 / 월 컬렉션 초기화
+
+		assertThat(plans).hasSize(ids.size());
+		return statistics.getPrepareStatementCount();
+	}
+
+	// 규칙 타입별로 perType개씩 저장
+	private List<UUID> savePlans(int perType) {
+		LocalDate monday = LocalDate.of(2024, 1, 1);
+		List<UUID> ids = new ArrayList<>();
+		for (int i = 0; i < perType; i++) {
+			ids.add(save(monday, RecurrenceRuleFactory.createWeeklyRule(1, List.of(DayOfWeek.MONDAY, DayOfWeek.FRIDAY), monday)));
+			ids.add(save(monday, RecurrenceRuleFactory.createMonthlyRule(1, List.of(DayOfWeek.FRIDAY), List.of(13), monday)));
+			ids.add(save(monday, RecurrenceRuleFactory.createYearlyRule(
+					1, List.of(3, 9), List.of(DayOfWeek.TUESDAY), List.of(1, 2, 3), monday)));
+		}
+		return ids;
+	}
+
+	private UUID save(LocalDate startDate, RecurrenceRule rule) {
+		Plan plan = Plan.create("plan", "", startDate, null);
+		plan.changeRecurrenceRule(rule);
+		return entityManager.persist(plan).getId();
+	}
+}
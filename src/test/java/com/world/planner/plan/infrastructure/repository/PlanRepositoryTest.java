@@ -0,0 +1,162 @@
+package com.world.planner.plan.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.world.planner.plan.application.PlanSyncToken;
+import com.world.planner.plan.domain.Plan;
+import com.world.planner.plan.domain.recurrence.RecurrenceRule;
+import com.world.planner.plan.domain.recurrence.RecurrenceRuleFactory;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+/**
+ * Plan 조회 쿼리 테스트.
+ * 발생 후보 조회(findOccurrenceCandidates)는 SQL에서 마스크 / 주기 / 기준일 오프셋으로 거른 후보가
+ * Plan 적용 기간과 isOccurrence로 메모리에서 판정한 결과와 같은지 일별로 비교하고,
+ * 변경 조회(findChangedAfter)는 같은 수정 시각의 Plan이 (수정 시각, ID) 키셋으로 빠짐없이 한 번씩 조회되는지 확인한다.
+ * 마이그레이션은 PostgreSQL 문법이므로 Flyway 대신 엔티티로 만든 H2 스키마를 사용한다.
+ */
+@DataJpaTest(properties = {
+		"string.profiles.active=test",
+		"spring.flyway.enabled=false"
+})
+class PlanRepositoryTest {
+
+	private static final LocalDate SCAN_START = LocalDate.of(2023, 12, 1);
+	private static final int SCAN_DAYS = 800;
+
+	@Autowired
+	private PlanRepository planRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Test
+	void occurrenceCandidatesMatchInMemoryOccurrences() {
+		List<Plan> plans = savePlans();
+		entityManager.flush();
+		entityManager.clear();
+
+		LocalDate date = SCAN_START;
+		for (int day = 0; day < SCAN_DAYS; day++, date = date.plusDays(1)) {
+			LocalDate checkDate = date;
+			List<UUID> expected = plans.stream()
+					.filter(plan -> plan.isWithinPeriod(checkDate)
+							&& (!plan.hasRecurrenceRule() || plan.getRecurrenceRule().isOccurrence(checkDate)))
+					.map(Plan::getId)
+					.sorted()
+					.toList();
+			List<UUID> candidates = planRepository.findOccurrenceCandidates(checkDate).stream()
+					.map(Plan::getId)
+					.sorted()
+					.toList();
+
+			assertThat(candidates).as("candidates on %s", checkDate).containsExactlyElementsOf(expected);
+		}
+	}
+
+	@Test
+	void changedAfterPagesThroughSameTimestampByIdExactlyOnce() {
+		LocalDateTime changedAt = LocalDateTime.of(2024, 3, 1, 9, 0);
+		LocalDateTime until = changedAt.plusSeconds(1);
+		UUID before = saveChangedAt(changedAt.minusSeconds(1));
+		Set<UUID> sameTimestamp = Set.of(saveChangedAt(changedAt), saveChangedAt(changedAt), saveChangedAt(changedAt));
+		UUID atUntil = saveChangedAt(until);
+		saveChangedAt(until.plusNanos(1_000)); // 조회 상한 이후
+		entityManager.clear();
+
+		// 한 건씩 조회하며 마지막 Plan 다음 위치의 토큰으로 이어서 조회
+		List<UUID> changed = new ArrayList<>();
+		PlanSyncToken token = PlanSyncToken.initial();
+		List<Plan> page;
+		while (!(page = planRepository.findChangedAfter(token.getChangedAt(), token.getId(), until, Limit.of(1))).isEmpty()) {
+			Plan plan = page.get(0);
+			changed.add(plan.getId());
+			token = PlanSyncToken.after(plan.getUpdatedAt(), plan.getId());
+		}
+
+		assertThat(changed).hasSize(5);
+		assertThat(new HashSet<>(changed)).hasSize(5);
+		assertThat(changed.get(0)).isEqualTo(before);
+		assertThat(new HashSet<>(changed.subList(1, 4))).isEqualTo(sameTimestamp);
+		assertThat(changed.get(4)).isEqualTo(atUntil);
+	}
+
+	@Test
+	void changedAfterThroughTokenSkipsRestOfSameTimestamp() {
+		LocalDateTime changedAt = LocalDateTime.of(2024, 3, 1, 9, 0);
+		saveChangedAt(changedAt);
+		saveChangedAt(changedAt);
+		UUID later = saveChangedAt(changedAt.plusSeconds(1));
+		entityManager.clear();
+
+		PlanSyncToken token = PlanSyncToken.through(changedAt);
+		List<Plan> changed = planRepository.findChangedAfter(
+				token.getChangedAt(), token.getId(), changedAt.plusDays(1), Limit.of(10));
+
+		assertThat(changed.stream().map(Plan::getId).toList()).containsExactly(later);
+	}
+
+	// 수정 시각을 지정한 Plan 저장 (수정 시각은 저장 시 감사 필드로 덮어쓰이므로 저장 후 갱신)
+	private UUID saveChangedAt(LocalDateTime updatedAt) {
+		Plan plan = entityManager.persistAndFlush(Plan.create("plan", "", LocalDate.of(2024, 1, 1), null));
+		entityManager.getEntityManager()
+				.createQuery("update Plan p set p.updatedAt = :updatedAt where p.id = :id")
+				.setParameter("updatedAt", updatedAt)
+				.setParameter("id", plan.getId())
+				.executeUpdate();
+		return plan.getId();
+	}
+
+	// 규칙 타입별로 주기, 기준일(월말 / 윤일 / 주 중간), 요일 / 날짜 / 월 조합의 경계 사례
+	private List<Plan> savePlans() {
+		List<Plan> plans = new ArrayList<>();
+		LocalDate thursday = LocalDate.of(2024, 1, 4);
+		LocalDate monthEnd = LocalDate.of(2024, 1, 31);
+		LocalDate leapDay = LocalDate.of(2024, 2, 29);
+
+		plans.add(save(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 10), null)); // 반복 규칙 없음
+		plans.add(save(thursday, null, RecurrenceRuleFactory.createDailyRule(1, thursday)));
+		plans.add(save(thursday, null, RecurrenceRuleFactory.createDailyRule(3, thursday)));
+		plans.add(save(monthEnd, LocalDate.of(2024, 6, 30), RecurrenceRuleFactory.createDailyRule(7, monthEnd)));
+
+		plans.add(save(thursday, null, RecurrenceRuleFactory.createWeeklyRule(1, List.of(DayOfWeek.MONDAY), thursday)));
+		plans.add(save(thursday, null, RecurrenceRuleFactory.createWeeklyRule(
+				2, List.of(DayOfWeek.THURSDAY, DayOfWeek.SATURDAY, DayOfWeek.SUNDAY), thursday)));
+		plans.add(save(leapDay, null, RecurrenceRuleFactory.createWeeklyRule(3, List.of(DayOfWeek.values()), leapDay)));
+
+		plans.add(save(monthEnd, null, RecurrenceRuleFactory.createMonthlyRule(1, List.of(), List.of(29, 30, 31), monthEnd)));
+		plans.add(save(monthEnd, null, RecurrenceRuleFactory.createMonthlyRule(2, List.of(), List.of(1, 15), monthEnd)));
+		plans.add(save(thursday, null, RecurrenceRuleFactory.createMonthlyRule(5, List.of(), List.of(31), thursday)));
+		plans.add(save(thursday, null, RecurrenceRuleFactory.createMonthlyRule(1, List.of(DayOfWeek.FRIDAY), List.of(13), thursday)));
+		plans.add(save(leapDay, null, RecurrenceRuleFactory.createMonthlyRule(
+				2, List.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY), List.of(), leapDay)));
+
+		plans.add(save(leapDay, null, RecurrenceRuleFactory.createYearlyRule(1, List.of(2), List.of(), List.of(29), leapDay)));
+		plans.add(save(monthEnd, null, RecurrenceRuleFactory.createYearlyRule(2, List.of(1, 12), List.of(), List.of(31), monthEnd)));
+		plans.add(save(thursday, LocalDate.of(2025, 8, 31), RecurrenceRuleFactory.createYearlyRule(
+				1, List.of(), List.of(DayOfWeek.SUNDAY), List.of(), thursday)));
+		plans.add(save(thursday, null, RecurrenceRuleFactory.createYearlyRule(
+				1, List.of(3, 9), List.of(DayOfWeek.TUESDAY), List.of(1, 2, 3, 4, 5, 6, 7), thursday)));
+		return plans;
+	}
+
+	private Plan save(LocalDate startDate, LocalDate endDate, RecurrenceRule rule) {
+		Plan plan = Plan.create("plan", "", startDate, endDate);
+		if (rule != null) {
+			plan.changeRecurrenceRule(rule);
+		}
+		return entityManager.persist(plan);
+	}
+}
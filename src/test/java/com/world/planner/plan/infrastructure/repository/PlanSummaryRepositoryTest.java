@@ -0,0 +1,124 @@
+package com.world.planner.plan.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.world.planner.plan.domain.Plan;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+/**
+ * Plan 요약 목록 키셋 페이지 조회(findSummaries) 테스트.
+ * 시작 날짜가 같은 Plan이 페이지 경계에 걸쳐도 직전 페이지 마지막 (시작 날짜, ID) 다음부터 조회해
+ * 검색 조건에 맞는 Plan이 빠짐없이 한 번씩 시작 날짜 순으로 조회되는지 확인한다.
+ */
+@DataJpaTest(properties = {
+		"string.profiles.active=test",
+		"spring.flyway.enabled=false"
+})
+class PlanSummaryRepositoryTest {
+
+	private static final int PAGE_SIZE = 4;
+
+	@Autowired
+	private PlanRepository planRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Test
+	void summariesPageThroughSameStartDateWithoutDuplicatesOrGaps() {
+		List<Plan> plans = savePlans();
+
+		List<PlanSummaryProjection> summaries = pageAll(new PlanSearchCondition(null, null, null));
+
+		assertThat(startDates(summaries)).isSorted();
+		assertThat(ids(summaries)).hasSize(plans.size());
+		assertThat(new HashSet<>(ids(summaries))).isEqualTo(idSet(plans));
+	}
+
+	@Test
+	void summariesPageOnlyThroughPlansMatchingCondition() {
+		List<Plan> plans = savePlans();
+		LocalDate from = LocalDate.of(2024, 1, 3);
+		LocalDate to = LocalDate.of(2024, 1, 4);
+
+		List<PlanSummaryProjection> summaries = pageAll(new PlanSearchCondition("Weekly", from, to));
+
+		List<Plan> expected = plans.stream()
+				.filter(plan -> plan.getTitle().toLowerCase().contains("weekly"))
+				.filter(plan -> !plan.getStartDate().isAfter(to) && (plan.getEndDate() == null || !plan.getEndDate().isBefore(from)))
+				.toList();
+		assertThat(expected).isNotEmpty();
+		assertThat(startDates(summaries)).isSorted();
+		assertThat(ids(summaries)).hasSize(expected.size());
+		assertThat(new HashSet<>(ids(summaries))).isEqualTo(idSet(expected));
+	}
+
+	@Test
+	void keywordWildcardsAreMatchedLiterally() {
+		UUID percent = save("50% off", LocalDate.of(2024, 1, 1), null).getId();
+		save("500 off", LocalDate.of(2024, 1, 1), null);
+		UUID underscore = save("a_b", LocalDate.of(2024, 1, 1), null).getId();
+		save("acb", LocalDate.of(2024, 1, 1), null);
+
+		assertThat(ids(pageAll(new PlanSearchCondition("50%", null, null)))).containsExactly(percent);
+		assertThat(ids(pageAll(new PlanSearchCondition("a_b", null, null)))).containsExactly(underscore);
+	}
+
+	// 직전 페이지 마지막 요약의 (시작 날짜, ID)를 커서로 빈 페이지가 나올 때까지 조회
+	private List<PlanSummaryProjection> pageAll(PlanSearchCondition condition) {
+		entityManager.flush();
+		entityManager.clear();
+		List<PlanSummaryProjection> summaries = new ArrayList<>();
+		LocalDate afterStartDate = null;
+		UUID afterId = null;
+		List<PlanSummaryProjection> page;
+		while (!(page = planRepository.findSummaries(condition, afterStartDate, afterId, PAGE_SIZE)).isEmpty()) {
+			assertThat(page).hasSizeLessThanOrEqualTo(PAGE_SIZE);
+			summaries.addAll(page);
+			PlanSummaryProjection last = page.get(page.size() - 1);
+			afterStartDate = last.getStartDate();
+			afterId = last.getId();
+		}
+		return summaries;
+	}
+
+	// 날짜마다 페이지 크기보다 많은 Plan이 같은 시작 날짜를 갖도록 저장
+	private List<Plan> savePlans() {
+		List<Plan> plans = new ArrayList<>();
+		for (int day = 1; day <= 5; day++) {
+			LocalDate startDate = LocalDate.of(2024, 1, day);
+			for (int i = 0; i < 6; i++) {
+				String title = (i % 2 == 0 ? "Weekly sync " : "Daily standup ") + day + "-" + i;
+				LocalDate endDate = i % 3 == 0 ? null : startDate.plusDays(i);
+				plans.add(save(title, startDate, endDate));
+			}
+		}
+		return plans;
+	}
+
+	private Plan save(String title, LocalDate startDate, LocalDate endDate) {
+		return entityManager.persist(Plan.create(title, "", startDate, endDate));
+	}
+
+	private static List<LocalDate> startDates(List<PlanSummaryProjection> summaries) {
+		return summaries.stream().map(PlanSummaryProjection::getStartDate).toList();
+	}
+
+	private static List<UUID> ids(List<PlanSummaryProjection> summaries) {
+		return summaries.stream().map(PlanSummaryProjection::getId).toList();
+	}
+
+	private static Set<UUID> idSet(List<Plan> plans) {
+		return plans.stream().map(Plan::getId).collect(Collectors.toSet());
+	}
+}
@@ -0,0 +1,58 @@
+package com.world.planner.plan.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.world.planner.plan.domain.PlanTombstone;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+/**
+ * 삭제 기록 조회 / 정리 테스트.
+ * 변경 동기화는 (직전 토큰, 다음 토큰] 구간의 삭제만 전달하므로 양 끝 포함 여부를 확인한다.
+ */
+@DataJpaTest(properties = {
+		"string.profiles.active=test",
+		"spring.flyway.enabled=false"
+})
+class PlanTombstoneRepositoryTest {
+
+	private static final LocalDateTime AFTER = LocalDateTime.of(2024, 3, 1, 9, 0);
+	private static final LocalDateTime UNTIL = AFTER.plusMinutes(10);
+
+	@Autowired
+	private PlanTombstoneRepository planTombstoneRepository;
+
+	@Test
+	void deletedBetweenExcludesStartAndIncludesEnd() {
+		UUID atAfter = save(AFTER);
+		UUID between = save(AFTER.plusMinutes(5));
+		UUID atUntil = save(UNTIL);
+		UUID afterUntil = save(UNTIL.plusNanos(1_000));
+
+		List<UUID> deleted = planTombstoneRepository.findPlanIdsDeletedBetween(AFTER, UNTIL);
+
+		assertThat(deleted).containsExactly(between, atUntil);
+		assertThat(deleted).doesNotContain(atAfter, afterUntil);
+	}
+
+	@Test
+	void deleteByDeletedAtBeforeKeepsTombstonesAtOrAfterCutoff() {
+		save(AFTER.minusDays(1));
+		UUID atCutoff = save(AFTER);
+
+		int purged = planTombstoneRepository.deleteByDeletedAtBefore(AFTER);
+
+		assertThat(purged).isEqualTo(1);
+		assertThat(planTombstoneRepository.findAll().stream().map(PlanTombstone::getPlanId).toList()).containsExactly(atCutoff);
+	}
+
+	private UUID save(LocalDateTime deletedAt) {
+		UUID planId = UUID.randomUUID();
+		planTombstoneRepository.saveAndFlush(PlanTombstone.of(planId, deletedAt));
+		return planId;
+	}
+}
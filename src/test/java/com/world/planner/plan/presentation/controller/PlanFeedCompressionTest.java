@@ -0,0 +1,124 @@
+package com.world.planner.plan.presentation.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+
+import com.world.planner.plan.application.PlanActivityService;
+import com.world.planner.plan.application.PlanBatchService;
+import com.world.planner.plan.application.PlanConflictService;
+import com.world.planner.plan.application.PlanExportService;
+import com.world.planner.plan.application.PlanFeedService;
+import com.world.planner.plan.application.PlanImportService;
+import com.world.planner.plan.application.PlanService;
+import com.world.planner.plan.application.PlanSyncService;
+import com.world.planner.plan.application.ResourceVersion;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+/**
+ * .ics 피드 gzip 압축 테스트.
+ * MockMvc는 Tomcat 압축을 거치지 않으므로 application.yml의 server.compression 설정으로 실제 Tomcat을 띄우고,
+ * PlanRestController만 올려 서비스는 목으로 대신한다.
+ */
+@SpringBootTest(
+		classes = PlanFeedCompressionTest.WebConfig.class,
+		webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		properties = "string.profiles.active=test"
+)
+class PlanFeedCompressionTest {
+
+	private static final String FEED = "BEGIN:VCALENDAR\r\n"
+			+ "VERSION:2.0\r\n".repeat(1000)
+			+ "END:VCALENDAR\r\n";
+
+	@LocalServerPort
+	private int port;
+
+	@MockitoBean
+	private PlanService planService;
+
+	@MockitoBean
+	private PlanFeedService planFeedService;
+
+	@MockitoBean
+	private PlanExportService planExportService;
+
+	@MockitoBean
+	private PlanBatchService planBatchService;
+
+	@MockitoBean
+	private PlanActivityService planActivityService;
+
+	@MockitoBean
+	private PlanSyncService planSyncService;
+
+	@MockitoBean
+	private PlanConflictService planConflictService;
+
+	@MockitoBean
+	private PlanImportService planImportService;
+
+	@Test
+	void feedWithWeakEtagIsCompressed() throws Exception {
+		given(planService.getPlansVersion()).willReturn(ResourceVersion.initialCollection());
+		willAnswer(invocation -> {
+			OutputStream out = invocation.getArgument(0);
+			out.write(FEED.getBytes(StandardCharsets.UTF_8));
+			return null;
+		}).given(planFeedService).writeFeed(any(), any());
+
+		HttpResponse<byte[]> response = HttpClient.newHttpClient().send(
+				HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/plans/feed.ics"))
+						.header("Accept-Encoding", "gzip")
+						.GET()
+						.build(),
+				HttpResponse.BodyHandlers.ofByteArray());
+
+		assertThat(response.statusCode()).isEqualTo(200);
+		assertThat(response.headers().firstValue("ETag")).hasValue("W/\"plans-0\"");
+		assertThat(response.headers().firstValue("Content-Encoding")).hasValue("gzip");
+		assertThat(response.headers().allValues("Vary")).anyMatch(vary -> vary.toLowerCase(Locale.ROOT).contains("accept-encoding"));
+		assertThat(gunzip(response.body())).isEqualTo(FEED);
+	}
+
+	private static String gunzip(byte[] body) throws IOException {
+		try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+			return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ImportAutoConfiguration({
+			ServletWebServerFactoryAutoConfiguration.class,
+			DispatcherServletAutoConfiguration.class,
+			WebMvcAutoConfiguration.class,
+			HttpMessageConvertersAutoConfiguration.class,
+			JacksonAutoConfiguration.class
+	})
+	@Import(PlanRestController.class)
+	static class WebConfig {
+	}
+}